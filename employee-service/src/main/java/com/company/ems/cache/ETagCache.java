@@ -0,0 +1,70 @@
+package com.company.ems.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the last ETag computed for each resource key (such as {@code employee:51} or {@code departments})
+ * so a conditional GET whose If-None-Match still matches can be answered with 304 without a query. The ETags
+ * themselves are derived from version columns only, so every instance computes the same tag for the same rows;
+ * this cache just skips recomputing it. Entries are evicted once the write that changed them has committed.
+ */
+@Component
+public class ETagCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ETagCache.class);
+
+    private final Cache<String, String> etags;
+
+    public ETagCache(@Value("${ems.etag.cache.maximum-size:10000}") long maximumSize,
+                     @Value("${ems.etag.cache.time-to-live:10s}") Duration timeToLive) {
+        this.etags = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+    }
+
+    /** The cached ETag for {@code key}, computing it on a miss; a failing computation caches nothing. */
+    public String get(String key, Supplier<String> compute) {
+        return etags.get(key, k -> compute.get());
+    }
+
+    public void evict(String... keys) {
+        afterCommit(() -> {
+            for (String key : keys) {
+                etags.invalidate(key);
+            }
+            logger.debug("ETags evicted: {}", (Object) keys);
+        });
+    }
+
+    public void evictPrefix(String prefix) {
+        afterCommit(() -> {
+            etags.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+            logger.debug("ETags evicted with prefix: {}", prefix);
+        });
+    }
+
+    // Evicting before commit would let a concurrent read cache the tag of the rows about to be replaced
+    private static void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+}
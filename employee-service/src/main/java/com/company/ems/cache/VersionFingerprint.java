@@ -0,0 +1,30 @@
+package com.company.ems.cache;
+
+/**
+ * Order-sensitive 64-bit fingerprint (FNV-1a over longs) of the ids and versions that make up a response,
+ * used as the variable part of its ETag. Also counts the values added so lists of different sizes never
+ * share a tag.
+ */
+public final class VersionFingerprint {
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private long hash = OFFSET_BASIS;
+    private int count;
+
+    public VersionFingerprint add(Long value) {
+        long bits = value != null ? value : -1L;
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash ^= (bits >>> shift) & 0xff;
+            hash *= PRIME;
+        }
+        count++;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return count + "-" + Long.toHexString(hash);
+    }
+}
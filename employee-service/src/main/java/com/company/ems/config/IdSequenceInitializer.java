@@ -0,0 +1,63 @@
+package com.company.ems.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Moves the id sequences past the rows already in their tables once ddl-auto has created them. Tables created
+ * before the switch to sequences hold IDENTITY ids 1..N, while ddl-auto=update creates each sequence at 1, so
+ * the first pooled blocks would hand out existing ids. Runs before the web server accepts requests.
+ *
+ * <p>H2 has no setval, so the position is read with nextval and moved with ALTER SEQUENCE ... RESTART WITH a
+ * literal, which PostgreSQL and H2 both accept. Once a sequence is past its rows nothing is altered.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class IdSequenceInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceInitializer.class);
+
+    // INCREMENT BY of the sequences, equal to the entities' allocationSize
+    static final long INCREMENT = 50;
+
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "department", "department_seq",
+            "employee", "employee_seq",
+            "project", "project_seq");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void advanceSequences() {
+        SEQUENCES.forEach((table, sequence) -> {
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+            if (maxId == null) {
+                return;
+            }
+            long current = jdbcTemplate.queryForObject("SELECT nextval('" + sequence + "')", Long.class);
+            long restart = restartValue(maxId, current);
+            if (restart > current + INCREMENT) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + restart);
+                logger.info("Sequence {} moved past the existing {} ids, restarting at {}", sequence, table, restart);
+            }
+        });
+    }
+
+    /**
+     * First value the sequence may hand out next. Hibernate's pooled optimizer uses the ids
+     * {@code (value - INCREMENT, value]} for a fetched value, so it has to be at least {@code maxId + INCREMENT};
+     * it is rounded up to the sequence's own steps (1, 51, 101, ...) and never moves below the block just fetched.
+     */
+    static long restartValue(long maxId, long current) {
+        long pastRows = (maxId + INCREMENT - 1) / INCREMENT * INCREMENT + 1 + INCREMENT;
+        return Math.max(pastRows, current + INCREMENT);
+    }
+}
@@ -7,8 +7,10 @@ import com.company.ems.service.IDepartmentService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 
 @RestController
@@ -24,14 +26,23 @@ public class DepartmentController {
         return ResponseEntity.ok(departmentService.createDepartment(departmentDTO));
     }
 
+    // Answers a matching If-None-Match with 304 before the department is loaded and mapped
     @GetMapping("/{id}")
-    public ResponseEntity<DepartmentResponseDTO> getDepartmentById(@PathVariable Long id) {
-        return ResponseEntity.ok(departmentService.getDepartmentById(id));
+    public ResponseEntity<DepartmentResponseDTO> getDepartmentById(@PathVariable Long id, WebRequest request) {
+        String etag = departmentService.getDepartmentETag(id);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(departmentService.getDepartmentById(id));
     }
 
     @GetMapping
-    public ResponseEntity<List<DepartmentResponseDTO>> getAllDepartments() {
-        return ResponseEntity.ok(departmentService.getAllDepartments());
+    public ResponseEntity<List<DepartmentResponseDTO>> getAllDepartments(WebRequest request) {
+        String etag = departmentService.getAllDepartmentsETag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(departmentService.getAllDepartments());
     }
 
     @PutMapping("/{id}")
@@ -1,5 +1,6 @@
 package com.company.ems.controller;
 
+import com.company.ems.dto.EmployeeChangesDTO;
 import com.company.ems.dto.EmployeeRequestDTO;
 import com.company.ems.dto.EmployeeResponseDTO;
 import com.company.ems.dto.EmployeeUpdateRequestDTO;
@@ -9,8 +10,12 @@ import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -26,9 +31,14 @@ public class EmployeeController {
         return ResponseEntity.ok(employeeService.createEmployee(employeeDTO));
     }
 
+    // Answers a matching If-None-Match with 304 before the employee is loaded and mapped
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeResponseDTO> getEmployeeById(@PathVariable Long id) {
-        return ResponseEntity.ok(employeeService.getEmployeeById(id));
+    public ResponseEntity<EmployeeResponseDTO> getEmployeeById(@PathVariable Long id, WebRequest request) {
+        String etag = employeeService.getEmployeeETag(id);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(employeeService.getEmployeeById(id));
     }
 
     @GetMapping
@@ -44,6 +54,16 @@ public class EmployeeController {
         return ResponseEntity.ok(employeeService.getAllEmployeesSortedByNameAndDate());
     }
 
+    // Keyset-paged change feed for replicas; see EmployeeChangesDTO for the window, paging and commit lag contract
+    @GetMapping("/changes")
+    public ResponseEntity<EmployeeChangesDTO> getEmployeeChanges(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime until,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "500") int size) {
+        return ResponseEntity.ok(employeeService.getEmployeeChanges(since, until, afterId, size));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<EmployeeResponseDTO> updateEmployee(@PathVariable Long id, @Valid @RequestBody EmployeeUpdateRequestDTO employeeDTO) {
         return ResponseEntity.ok(employeeService.updateEmployee(id, employeeDTO));
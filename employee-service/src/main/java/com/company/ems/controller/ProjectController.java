@@ -7,8 +7,10 @@ import com.company.ems.service.IProjectService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 
 @RestController
@@ -24,14 +26,23 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.createProject(projectDTO));
     }
 
+    // Answers a matching If-None-Match with 304 before the project is loaded and mapped
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectResponseDTO> getProjectById(@PathVariable Long id) {
-        return ResponseEntity.ok(projectService.getProjectById(id));
+    public ResponseEntity<ProjectResponseDTO> getProjectById(@PathVariable Long id, WebRequest request) {
+        String etag = projectService.getProjectETag(id);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(projectService.getProjectById(id));
     }
 
     @GetMapping
-    public ResponseEntity<List<ProjectResponseDTO>> getAllProjects() {
-        return ResponseEntity.ok(projectService.getAllProjects());
+    public ResponseEntity<List<ProjectResponseDTO>> getAllProjects(WebRequest request) {
+        String etag = projectService.getAllProjectsETag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(projectService.getAllProjects());
     }
 
     @PutMapping("/{id}")
@@ -0,0 +1,29 @@
+package com.company.ems.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One page of the employees changed and deleted in {@code [since, until)}, ordered by id. While
+ * {@code hasMore} is set, ask again with the same {@code since} and {@code until} and {@code afterId} set to
+ * the last id of this page; deletions come with the first page only. Pass {@code until} back as the next
+ * {@code since}; a request without {@code since} gets every employee as a full snapshot.
+ * <p>
+ * {@code until} is never later than 5 seconds before the server clock, and rows are matched by the time
+ * their change was stamped, not when it committed: a change whose transaction commits more than 5 seconds
+ * after it was stamped falls behind a window that has already been served and is not reported until the row
+ * changes again. A {@code since} older than the tombstone retention (30 days by default) is answered with a
+ * full snapshot, flagged by {@code snapshot}, as deletions that far back are no longer known.
+ */
+@Getter
+@Setter
+public class EmployeeChangesDTO {
+    private LocalDateTime since;
+    private LocalDateTime until;
+    private boolean snapshot;
+    private boolean hasMore;
+    private List<Long> deletedIds;
+    private List<EmployeeResponseDTO> updated;
+}
@@ -3,6 +3,7 @@ package com.company.ems.dto;
 import lombok.Getter;
 import lombok.Setter;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Getter
 @Setter
@@ -14,4 +15,6 @@ public class EmployeeResponseDTO {
     private LocalDate joiningDate;
     private String departmentName;
     private java.util.Set<String> projectNames;
+    private LocalDateTime updatedAt;
+    private Long version;
 }
@@ -3,6 +3,7 @@ package com.company.ems.model;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import java.util.List;
 
 @Entity
@@ -12,6 +13,12 @@ public class Department extends BaseEntity {
 
     private String name;
 
+    // Bumped on every update; read paths derive their ETags from it
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "department")
     private List<Employee> employees;
 }
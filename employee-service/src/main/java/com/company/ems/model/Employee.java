@@ -3,10 +3,14 @@ package com.company.ems.model;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Set;
 
 @Entity
+@Table(indexes = @Index(name = "idx_employee_updated_at", columnList = "updated_at"))
 @Getter
 @Setter
 public class Employee extends BaseEntity implements Comparable<Employee> {
@@ -16,6 +20,18 @@ public class Employee extends BaseEntity implements Comparable<Employee> {
     private Double salary;
     private LocalDate joiningDate;
 
+    // Stamped on every insert and update; GET /employees/changes reads rows by this column
+    @UpdateTimestamp
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Lets replicas tell a newer copy of a row from one they already applied
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne
     @JoinColumn(name = "department_id")
     private Department department;
@@ -0,0 +1,31 @@
+package com.company.ems.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+/**
+ * Tombstone left behind by a deleted employee, so that GET /employees/changes can report the deletion
+ * to replicas that saw the row before it went away.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_employee_deletion_deleted_at", columnList = "deleted_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class EmployeeDeletion {
+
+    @Id
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public EmployeeDeletion(Long employeeId, LocalDateTime deletedAt) {
+        this.employeeId = employeeId;
+        this.deletedAt = deletedAt;
+    }
+}
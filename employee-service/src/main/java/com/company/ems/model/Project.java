@@ -3,6 +3,7 @@ package com.company.ems.model;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import java.util.Set;
 
 @Entity
@@ -13,6 +14,12 @@ public class Project extends BaseEntity {
     private String name;
     private Integer duration;
 
+    // Bumped on every update; read paths derive their ETags from it
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToMany(mappedBy = "projects")
     private Set<Employee> employees;
 }
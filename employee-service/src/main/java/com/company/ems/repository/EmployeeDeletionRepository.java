@@ -0,0 +1,22 @@
+package com.company.ems.repository;
+
+import com.company.ems.model.EmployeeDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmployeeDeletionRepository extends JpaRepository<EmployeeDeletion, Long> {
+
+    @Query("SELECT d.employeeId FROM EmployeeDeletion d WHERE d.deletedAt >= :since AND d.deletedAt < :until")
+    List<Long> findEmployeeIdsDeletedBetween(@Param("since") LocalDateTime since, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("DELETE FROM EmployeeDeletion d WHERE d.deletedAt < :cutoff")
+    int deleteDeletedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -3,10 +3,42 @@ package com.company.ems.repository;
 import com.company.ems.model.Employee;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     Page<Employee> findByDepartmentName(String departmentName, Pageable pageable);
+
+    // Keyset pages of changed ids; the rows are fetched separately so the page limit stays in SQL
+    @Query("SELECT e.id FROM Employee e WHERE e.updatedAt >= :since AND e.updatedAt < :until AND e.id > :afterId ORDER BY e.id")
+    List<Long> findIdsUpdatedBetween(@Param("since") LocalDateTime since, @Param("until") LocalDateTime until,
+                                     @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT e.id FROM Employee e WHERE e.updatedAt < :until AND e.id > :afterId ORDER BY e.id")
+    List<Long> findIdsUpdatedBefore(@Param("until") LocalDateTime until, @Param("afterId") Long afterId, Pageable pageable);
+
+    // One row per project (or a single row without projects); everything the employee ETag is derived from
+    @Query("SELECT e.version AS version, d.id AS departmentId, d.version AS departmentVersion, "
+            + "p.id AS projectId, p.version AS projectVersion "
+            + "FROM Employee e LEFT JOIN e.department d LEFT JOIN e.projects p WHERE e.id = :id ORDER BY p.id")
+    List<EmployeeVersionRow> findVersionRowsById(@Param("id") Long id);
+
+    @EntityGraph(attributePaths = {"department", "projects"})
+    @Query("SELECT e FROM Employee e WHERE e.id IN :ids ORDER BY e.id")
+    List<Employee> findWithDetailsByIdIn(@Param("ids") List<Long> ids);
+
+    interface EmployeeVersionRow {
+        Long getVersion();
+        Long getDepartmentId();
+        Long getDepartmentVersion();
+        Long getProjectId();
+        Long getProjectVersion();
+    }
 }
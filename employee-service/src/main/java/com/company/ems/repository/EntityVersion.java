@@ -0,0 +1,7 @@
+package com.company.ems.repository;
+
+/** Id and optimistic-lock version of a row, read without loading the entity. */
+public interface EntityVersion {
+    Long getId();
+    Long getVersion();
+}
@@ -2,8 +2,19 @@ package com.company.ems.repository;
 
 import com.company.ems.model.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+
+    @Query("SELECT x.version FROM Project x WHERE x.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT x.id AS id, x.version AS version FROM Project x ORDER BY x.id")
+    List<EntityVersion> findAllVersions();
 }
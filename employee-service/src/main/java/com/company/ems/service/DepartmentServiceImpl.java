@@ -1,5 +1,7 @@
 package com.company.ems.service;
 
+import com.company.ems.cache.ETagCache;
+import com.company.ems.cache.VersionFingerprint;
 import com.company.ems.dto.DepartmentRequestDTO;
 import com.company.ems.dto.DepartmentResponseDTO;
 import com.company.ems.dto.DepartmentUpdateRequestDTO;
@@ -17,11 +19,15 @@ public class DepartmentServiceImpl implements IDepartmentService {
     @Autowired
     private DepartmentRepository departmentRepository;
 
+    @Autowired
+    private ETagCache etagCache;
+
     @Override
     public DepartmentResponseDTO createDepartment(DepartmentRequestDTO departmentDTO) {
         Department department = new Department();
         department.setName(departmentDTO.getName());
         Department saved = departmentRepository.save(department);
+        etagCache.evict("departments");
         return mapToResponseDTO(saved);
     }
 
@@ -45,6 +51,7 @@ public class DepartmentServiceImpl implements IDepartmentService {
                 .orElseThrow(() -> new DepartmentNotFoundException("Department not found with id: " + id));
         department.setName(departmentDTO.getName());
         Department updated = departmentRepository.save(department);
+        evictETags(id);
         return mapToResponseDTO(updated);
     }
 
@@ -53,6 +60,29 @@ public class DepartmentServiceImpl implements IDepartmentService {
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new DepartmentNotFoundException("Department not found with id: " + id));
         departmentRepository.delete(department);
+        evictETags(id);
+    }
+
+    @Override
+    public String getDepartmentETag(Long id) {
+        return etagCache.get("department:" + id, () -> departmentRepository.findVersionById(id)
+                .map(version -> "department-" + id + "-v" + version)
+                .orElseThrow(() -> new DepartmentNotFoundException("Department not found with id: " + id)));
+    }
+
+    @Override
+    public String getAllDepartmentsETag() {
+        return etagCache.get("departments", () -> {
+            VersionFingerprint fingerprint = new VersionFingerprint();
+            departmentRepository.findAllVersions().forEach(row -> fingerprint.add(row.getId()).add(row.getVersion()));
+            return "departments-" + fingerprint;
+        });
+    }
+
+    // Employee responses carry the department name, so they are evicted as well
+    private void evictETags(Long id) {
+        etagCache.evict("department:" + id, "departments");
+        etagCache.evictPrefix("employee:");
     }
 
     private DepartmentResponseDTO mapToResponseDTO(Department department) {
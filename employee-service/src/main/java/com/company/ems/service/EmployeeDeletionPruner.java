@@ -0,0 +1,37 @@
+package com.company.ems.service;
+
+import com.company.ems.repository.EmployeeDeletionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Drops employee tombstones older than the retention. GET /employees/changes answers any {@code since}
+ * further back than that with a full snapshot, so no replica relies on a pruned tombstone.
+ */
+@Slf4j
+@Service
+public class EmployeeDeletionPruner {
+
+    @Autowired
+    private EmployeeDeletionRepository employeeDeletionRepository;
+
+    @Value("${ems.changes.deletion-retention:30d}")
+    private Duration deletionRetention;
+
+    @Scheduled(fixedRateString = "${ems.changes.deletion-prune-rate:3600000}")
+    @Transactional
+    public int pruneDeletions() {
+        int pruned = employeeDeletionRepository.deleteDeletedBefore(LocalDateTime.now().minus(deletionRetention));
+        if (pruned > 0) {
+            log.info("Pruned {} employee tombstones older than {}", pruned, deletionRetention);
+        }
+        return pruned;
+    }
+}
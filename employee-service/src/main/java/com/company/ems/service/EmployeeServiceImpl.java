@@ -1,5 +1,8 @@
 package com.company.ems.service;
 
+import com.company.ems.cache.ETagCache;
+import com.company.ems.cache.VersionFingerprint;
+import com.company.ems.dto.EmployeeChangesDTO;
 import com.company.ems.dto.EmployeeRequestDTO;
 import com.company.ems.dto.EmployeeResponseDTO;
 import com.company.ems.dto.EmployeeUpdateRequestDTO;
@@ -8,15 +11,25 @@ import com.company.ems.exception.EmployeeNotFoundException;
 import com.company.ems.exception.ProjectNotFoundException;
 import com.company.ems.model.Department;
 import com.company.ems.model.Employee;
+import com.company.ems.model.EmployeeDeletion;
 import com.company.ems.model.Project;
 import com.company.ems.repository.DepartmentRepository;
+import com.company.ems.repository.EmployeeDeletionRepository;
 import com.company.ems.repository.EmployeeRepository;
+import com.company.ems.repository.EmployeeRepository.EmployeeVersionRow;
 import com.company.ems.repository.ProjectRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -26,16 +39,32 @@ import java.util.stream.Collectors;
 
 @Service
 public class EmployeeServiceImpl implements IEmployeeService {
+
+    // A change window closes this far behind the clock, so transactions that stamped a row just before
+    // the window end have committed by the time it is read and are not skipped by the next window
+    private static final Duration CHANGES_COMMIT_LAG = Duration.ofSeconds(5);
+
+    private static final int MAX_CHANGES_PAGE_SIZE = 1000;
+
+    // How long tombstones are kept (see EmployeeDeletionPruner); a delta starting further back could miss deletions
+    @Value("${ems.changes.deletion-retention:30d}")
+    private Duration deletionRetention;
     
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private EmployeeDeletionRepository employeeDeletionRepository;
+
     @Autowired
     private DepartmentRepository departmentRepository;
 
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private ETagCache etagCache;
+
     @Override
     public EmployeeResponseDTO createEmployee(EmployeeRequestDTO employeeDTO) {
         Employee employee = mapToEntity(employeeDTO);
@@ -50,6 +79,22 @@ public class EmployeeServiceImpl implements IEmployeeService {
         return mapToResponseDTO(employee);
     }
 
+    // The response embeds the department and project names, so their versions are part of the tag
+    @Override
+    public String getEmployeeETag(Long id) {
+        return etagCache.get("employee:" + id, () -> {
+            List<EmployeeVersionRow> rows = employeeRepository.findVersionRowsById(id);
+            if (rows.isEmpty()) {
+                throw new EmployeeNotFoundException("Employee not found with id: " + id);
+            }
+            EmployeeVersionRow first = rows.get(0);
+            VersionFingerprint fingerprint = new VersionFingerprint()
+                    .add(first.getDepartmentId()).add(first.getDepartmentVersion());
+            rows.forEach(row -> fingerprint.add(row.getProjectId()).add(row.getProjectVersion()));
+            return "employee-" + id + "-v" + first.getVersion() + "-" + fingerprint;
+        });
+    }
+
     @Override
     public Page<EmployeeResponseDTO> getEmployees(String departmentName, Pageable pageable) {
         Page<Employee> employees;
@@ -86,14 +131,18 @@ public class EmployeeServiceImpl implements IEmployeeService {
         }
 
         Employee updatedEmployee = employeeRepository.save(employee);
+        etagCache.evict("employee:" + id);
         return mapToResponseDTO(updatedEmployee);
     }
 
     @Override
+    @Transactional
     public void deleteEmployee(Long id) {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + id));
         employeeRepository.delete(employee);
+        employeeDeletionRepository.save(new EmployeeDeletion(id, LocalDateTime.now()));
+        etagCache.evict("employee:" + id);
     }
 
     @Override
@@ -107,6 +156,40 @@ public class EmployeeServiceImpl implements IEmployeeService {
         return employees.stream().map(this::mapToResponseDTO).collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeeChangesDTO getEmployeeChanges(LocalDateTime since, LocalDateTime until, Long afterId, int size) {
+        LocalDateTime now = LocalDateTime.now();
+        if (since != null && since.isBefore(now.minus(deletionRetention))) {
+            since = null;
+        }
+        LocalDateTime latest = now.minus(CHANGES_COMMIT_LAG).truncatedTo(ChronoUnit.MICROS);
+        if (until == null || until.isAfter(latest)) {
+            until = latest;
+        }
+        if (since != null && until.isBefore(since)) {
+            until = since;
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_CHANGES_PAGE_SIZE));
+        Long after = afterId != null ? afterId : Long.MIN_VALUE;
+
+        List<Long> ids = since != null
+                ? employeeRepository.findIdsUpdatedBetween(since, until, after, PageRequest.of(0, pageSize))
+                : employeeRepository.findIdsUpdatedBefore(until, after, PageRequest.of(0, pageSize));
+
+        EmployeeChangesDTO changes = new EmployeeChangesDTO();
+        changes.setSince(since);
+        changes.setUntil(until);
+        changes.setSnapshot(since == null);
+        changes.setHasMore(ids.size() == pageSize);
+        changes.setDeletedIds(since != null && afterId == null
+                ? employeeDeletionRepository.findEmployeeIdsDeletedBetween(since, until)
+                : Collections.emptyList());
+        changes.setUpdated(ids.isEmpty() ? Collections.emptyList()
+                : employeeRepository.findWithDetailsByIdIn(ids).stream().map(this::mapToResponseDTO).collect(Collectors.toList()));
+        return changes;
+    }
+
     public Map<String, Double> getSalaryDistribution() {
         List<Employee> employees = employeeRepository.findAll();
         Map<String, Double> distribution = new HashMap<>(); // Requirement 3.1.52: HashMap
@@ -160,6 +243,8 @@ public class EmployeeServiceImpl implements IEmployeeService {
                     .map(Project::getName)
                     .collect(Collectors.toSet()));
         }
+        dto.setUpdatedAt(employee.getUpdatedAt());
+        dto.setVersion(employee.getVersion());
         return dto;
     }
 }
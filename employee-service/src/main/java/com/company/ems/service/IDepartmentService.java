@@ -9,6 +9,8 @@ public interface IDepartmentService {
     DepartmentResponseDTO createDepartment(DepartmentRequestDTO departmentDTO);
     DepartmentResponseDTO getDepartmentById(Long id);
     List<DepartmentResponseDTO> getAllDepartments();
+    String getDepartmentETag(Long id);
+    String getAllDepartmentsETag();
     DepartmentResponseDTO updateDepartment(Long id, DepartmentUpdateRequestDTO departmentDTO);
     void deleteDepartment(Long id);
 }
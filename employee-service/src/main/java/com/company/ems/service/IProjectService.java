@@ -9,6 +9,8 @@ public interface IProjectService {
     ProjectResponseDTO createProject(ProjectRequestDTO projectDTO);
     ProjectResponseDTO getProjectById(Long id);
     List<ProjectResponseDTO> getAllProjects();
+    String getProjectETag(Long id);
+    String getAllProjectsETag();
     ProjectResponseDTO updateProject(Long id, ProjectUpdateRequestDTO projectDTO);
     void deleteProject(Long id);
 }
@@ -1,5 +1,7 @@
 package com.company.ems.service;
 
+import com.company.ems.cache.ETagCache;
+import com.company.ems.cache.VersionFingerprint;
 import com.company.ems.dto.ProjectRequestDTO;
 import com.company.ems.dto.ProjectResponseDTO;
 import com.company.ems.dto.ProjectUpdateRequestDTO;
@@ -17,12 +19,16 @@ public class ProjectServiceImpl implements IProjectService {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private ETagCache etagCache;
+
     @Override
     public ProjectResponseDTO createProject(ProjectRequestDTO projectDTO) {
         Project project = new Project();
         project.setName(projectDTO.getName());
         project.setDuration(projectDTO.getDuration());
         Project saved = projectRepository.save(project);
+        etagCache.evict("projects");
         return mapToResponseDTO(saved);
     }
 
@@ -47,6 +53,7 @@ public class ProjectServiceImpl implements IProjectService {
         project.setName(projectDTO.getName());
         project.setDuration(projectDTO.getDuration());
         Project updated = projectRepository.save(project);
+        evictETags(id);
         return mapToResponseDTO(updated);
     }
 
@@ -55,6 +62,29 @@ public class ProjectServiceImpl implements IProjectService {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ProjectNotFoundException("Project not found with id: " + id));
         projectRepository.delete(project);
+        evictETags(id);
+    }
+
+    @Override
+    public String getProjectETag(Long id) {
+        return etagCache.get("project:" + id, () -> projectRepository.findVersionById(id)
+                .map(version -> "project-" + id + "-v" + version)
+                .orElseThrow(() -> new ProjectNotFoundException("Project not found with id: " + id)));
+    }
+
+    @Override
+    public String getAllProjectsETag() {
+        return etagCache.get("projects", () -> {
+            VersionFingerprint fingerprint = new VersionFingerprint();
+            projectRepository.findAllVersions().forEach(row -> fingerprint.add(row.getId()).add(row.getVersion()));
+            return "projects-" + fingerprint;
+        });
+    }
+
+    // Employee responses carry the project name, so they are evicted as well
+    private void evictETags(Long id) {
+        etagCache.evict("project:" + id, "projects");
+        etagCache.evictPrefix("employee:");
     }
 
     private ProjectResponseDTO mapToResponseDTO(Project project) {
@@ -1,3 +1,5 @@
+-- Ids come from pooled sequences (steps of 50), so references are looked up by name
+
 -- Insert Departments
 INSERT INTO department (name) VALUES ('Human Resources');
 INSERT INTO department (name) VALUES ('Engineering');
@@ -5,11 +7,11 @@ INSERT INTO department (name) VALUES ('Marketing');
 INSERT INTO department (name) VALUES ('Finance');
 
 -- Insert Employees
-INSERT INTO employee (name, role, salary, joining_date, department_id) VALUES ('Alice Johnson', 'HR Manager', 75000.00, '2022-01-15', 1);
-INSERT INTO employee (name, role, salary, joining_date, department_id) VALUES ('Bob Smith', 'Senior Developer', 95000.00, '2021-06-20', 2);
-INSERT INTO employee (name, role, salary, joining_date, department_id) VALUES ('Charlie Brown', 'Junior Developer', 60000.00, '2023-03-10', 2);
-INSERT INTO employee (name, role, salary, joining_date, department_id) VALUES ('Diana Prince', 'Marketing Lead', 82000.00, '2022-11-05', 3);
-INSERT INTO employee (name, role, salary, joining_date, department_id) VALUES ('Ethan Hunt', 'Financial Analyst', 78000.00, '2020-08-12', 4);
+INSERT INTO employee (name, role, salary, joining_date, department_id) VALUES ('Alice Johnson', 'HR Manager', 75000.00, '2022-01-15', (SELECT id FROM department WHERE name = 'Human Resources'));
+INSERT INTO employee (name, role, salary, joining_date, department_id) VALUES ('Bob Smith', 'Senior Developer', 95000.00, '2021-06-20', (SELECT id FROM department WHERE name = 'Engineering'));
+INSERT INTO employee (name, role, salary, joining_date, department_id) VALUES ('Charlie Brown', 'Junior Developer', 60000.00, '2023-03-10', (SELECT id FROM department WHERE name = 'Engineering'));
+INSERT INTO employee (name, role, salary, joining_date, department_id) VALUES ('Diana Prince', 'Marketing Lead', 82000.00, '2022-11-05', (SELECT id FROM department WHERE name = 'Marketing'));
+INSERT INTO employee (name, role, salary, joining_date, department_id) VALUES ('Ethan Hunt', 'Financial Analyst', 78000.00, '2020-08-12', (SELECT id FROM department WHERE name = 'Finance'));
 
 -- Insert Projects
 INSERT INTO project (name, duration) VALUES ('Cloud Migration', 12);
@@ -17,9 +19,9 @@ INSERT INTO project (name, duration) VALUES ('Q3 Marketing Campaign', 3);
 INSERT INTO project (name, duration) VALUES ('Employee Portal Redesign', 6);
 
 -- Associate Employees with Projects (Many-to-Many)
-INSERT INTO employee_project (employee_id, project_id) VALUES (2, 1); -- Bob on Cloud Migration
-INSERT INTO employee_project (employee_id, project_id) VALUES (3, 1); -- Charlie on Cloud Migration
-INSERT INTO employee_project (employee_id, project_id) VALUES (4, 2); -- Diana on Marketing Campaign
-INSERT INTO employee_project (employee_id, project_id) VALUES (2, 3); -- Bob on Portal Redesign
-INSERT INTO employee_project (employee_id, project_id) VALUES (3, 3); -- Charlie on Portal Redesign
-INSERT INTO employee_project (employee_id, project_id) VALUES (1, 3); -- Alice on Portal Redesign
+INSERT INTO employee_project (employee_id, project_id) SELECT e.id, p.id FROM employee e, project p WHERE e.name = 'Bob Smith' AND p.name = 'Cloud Migration'; -- Bob on Cloud Migration
+INSERT INTO employee_project (employee_id, project_id) SELECT e.id, p.id FROM employee e, project p WHERE e.name = 'Charlie Brown' AND p.name = 'Cloud Migration'; -- Charlie on Cloud Migration
+INSERT INTO employee_project (employee_id, project_id) SELECT e.id, p.id FROM employee e, project p WHERE e.name = 'Diana Prince' AND p.name = 'Q3 Marketing Campaign'; -- Diana on Marketing Campaign
+INSERT INTO employee_project (employee_id, project_id) SELECT e.id, p.id FROM employee e, project p WHERE e.name = 'Bob Smith' AND p.name = 'Employee Portal Redesign'; -- Bob on Portal Redesign
+INSERT INTO employee_project (employee_id, project_id) SELECT e.id, p.id FROM employee e, project p WHERE e.name = 'Charlie Brown' AND p.name = 'Employee Portal Redesign'; -- Charlie on Portal Redesign
+INSERT INTO employee_project (employee_id, project_id) SELECT e.id, p.id FROM employee e, project p WHERE e.name = 'Alice Johnson' AND p.name = 'Employee Portal Redesign'; -- Alice on Portal Redesign
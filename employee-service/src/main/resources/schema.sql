@@ -1,29 +1,48 @@
+-- Id sequences (INCREMENT BY must match the entities' allocationSize for Hibernate's pooled optimizer)
+CREATE SEQUENCE IF NOT EXISTS department_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS employee_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS project_seq START WITH 1 INCREMENT BY 50;
+
 -- Department Table
 CREATE TABLE IF NOT EXISTS department (
-    id SERIAL PRIMARY KEY,
-    name VARCHAR(100) NOT NULL
+    id BIGINT DEFAULT nextval('department_seq') PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL
 );
 
 -- Employee Table
 CREATE TABLE IF NOT EXISTS employee (
-    id SERIAL PRIMARY KEY,
+    id BIGINT DEFAULT nextval('employee_seq') PRIMARY KEY,
     name VARCHAR(100) NOT NULL,
     role VARCHAR(50) NOT NULL,
     salary DECIMAL(10, 2) NOT NULL,
     joining_date DATE NOT NULL,
-    department_id INT REFERENCES department(id)
+    department_id BIGINT REFERENCES department(id),
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_employee_updated_at ON employee (updated_at);
+
+-- Tombstones of deleted employees, read by GET /employees/changes
+CREATE TABLE IF NOT EXISTS employee_deletion (
+    employee_id BIGINT PRIMARY KEY,
+    deleted_at TIMESTAMP NOT NULL
 );
 
+CREATE INDEX IF NOT EXISTS idx_employee_deletion_deleted_at ON employee_deletion (deleted_at);
+
 -- Project Table
 CREATE TABLE IF NOT EXISTS project (
-    id SERIAL PRIMARY KEY,
+    id BIGINT DEFAULT nextval('project_seq') PRIMARY KEY,
     name VARCHAR(100) NOT NULL,
-    duration INT NOT NULL -- duration in months
+    duration INT NOT NULL, -- duration in months
+    version BIGINT DEFAULT 0 NOT NULL
 );
 
 -- Employee_Project Junction Table (Many-to-Many)
 CREATE TABLE IF NOT EXISTS employee_project (
-    employee_id INT REFERENCES employee(id),
-    project_id INT REFERENCES project(id),
+    employee_id BIGINT REFERENCES employee(id),
+    project_id BIGINT REFERENCES project(id),
     PRIMARY KEY (employee_id, project_id)
 );
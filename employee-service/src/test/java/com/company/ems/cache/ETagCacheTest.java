@@ -0,0 +1,80 @@
+package com.company.ems.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ETagCacheTest {
+
+    private final ETagCache cache = new ETagCache(100, Duration.ofMinutes(1));
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testGet_ComputesOnceUntilEvicted() {
+        AtomicInteger computed = new AtomicInteger();
+
+        assertEquals("employee-1-v0", cache.get("employee:1", () -> "employee-1-v" + computed.getAndIncrement()));
+        assertEquals("employee-1-v0", cache.get("employee:1", () -> "employee-1-v" + computed.getAndIncrement()));
+        cache.evict("employee:1");
+
+        assertEquals("employee-1-v1", cache.get("employee:1", () -> "employee-1-v" + computed.getAndIncrement()));
+        assertEquals(2, computed.get());
+    }
+
+    @Test
+    public void testGet_FailedComputationIsNotCached() {
+        assertThrows(IllegalStateException.class, () -> cache.get("employee:2", () -> {
+            throw new IllegalStateException("not found");
+        }));
+
+        assertEquals("employee-2-v0", cache.get("employee:2", () -> "employee-2-v0"));
+    }
+
+    @Test
+    public void testEvictPrefix_LeavesOtherKeys() {
+        cache.get("employee:1", () -> "a");
+        cache.get("employee:2", () -> "b");
+        cache.get("departments", () -> "c");
+
+        cache.evictPrefix("employee:");
+
+        assertEquals("x", cache.get("employee:1", () -> "x"));
+        assertEquals("y", cache.get("employee:2", () -> "y"));
+        assertEquals("c", cache.get("departments", () -> "z"));
+    }
+
+    @Test
+    public void testEvict_InTransactionWaitsForCommit() {
+        cache.get("department:1", () -> "department-1-v0");
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict("department:1");
+        assertEquals("department-1-v0", cache.get("department:1", () -> "department-1-v1"));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals("department-1-v1", cache.get("department:1", () -> "department-1-v1"));
+    }
+
+    @Test
+    public void testVersionFingerprint_DependsOnValuesOrderAndCount() {
+        String base = new VersionFingerprint().add(1L).add(0L).add(2L).add(0L).toString();
+
+        assertEquals(base, new VersionFingerprint().add(1L).add(0L).add(2L).add(0L).toString());
+        assertNotEquals(base, new VersionFingerprint().add(1L).add(1L).add(2L).add(0L).toString());
+        assertNotEquals(base, new VersionFingerprint().add(2L).add(0L).add(1L).add(0L).toString());
+        assertNotEquals(base, new VersionFingerprint().add(1L).add(0L).toString());
+        assertNotEquals(new VersionFingerprint().add(null).toString(), new VersionFingerprint().add(0L).toString());
+    }
+}
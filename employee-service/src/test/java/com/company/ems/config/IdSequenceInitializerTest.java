@@ -0,0 +1,50 @@
+package com.company.ems.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(IdSequenceInitializer.class)
+public class IdSequenceInitializerTest {
+
+    @Autowired
+    private IdSequenceInitializer idSequenceInitializer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void testRestartValue_ClearsExistingIdsOnSequenceSteps() {
+        assertEquals(101, IdSequenceInitializer.restartValue(50, 1));
+        assertEquals(151, IdSequenceInitializer.restartValue(51, 1));
+        assertEquals(551, IdSequenceInitializer.restartValue(120, 501));
+    }
+
+    @Test
+    public void testAdvanceSequences_MovesPastRowsWithHigherIds() {
+        // A row kept from the IDENTITY days, above anything the sequence has handed out
+        jdbcTemplate.update("INSERT INTO department (id, name) VALUES (5000, 'Legacy')");
+
+        idSequenceInitializer.advanceSequences();
+
+        long next = jdbcTemplate.queryForObject("SELECT nextval('department_seq')", Long.class);
+        assertTrue(next - IdSequenceInitializer.INCREMENT >= 5000, "department_seq: " + next);
+        assertEquals(1, next % IdSequenceInitializer.INCREMENT);
+    }
+
+    @Test
+    public void testAdvanceSequences_LeavesSequencePastItsRowsInPlace() {
+        long before = jdbcTemplate.queryForObject("SELECT nextval('project_seq')", Long.class);
+
+        idSequenceInitializer.advanceSequences();
+
+        // Only the block read by the check itself is skipped
+        assertEquals(before + 2 * IdSequenceInitializer.INCREMENT,
+                jdbcTemplate.queryForObject("SELECT nextval('project_seq')", Long.class));
+    }
+}
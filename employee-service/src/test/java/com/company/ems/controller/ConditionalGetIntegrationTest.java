@@ -0,0 +1,88 @@
+package com.company.ems.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The ETags come from the real version columns of the seeded H2 database; every write bumps one and must change
+// the tag of each resource whose response shows the written row
+@SpringBootTest(properties = "eureka.client.enabled=false")
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@DirtiesContext
+public class ConditionalGetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String etag(String url) throws Exception {
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(etag, url);
+        mockMvc.perform(get(url).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+        return etag;
+    }
+
+    private String changedETag(String url, String previous) throws Exception {
+        String etag = mockMvc.perform(get(url).header("If-None-Match", previous))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotEquals(previous, etag, url);
+        return etag;
+    }
+
+    private void update(String url, String body) throws Exception {
+        mockMvc.perform(put(url).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testVersionBumpsChangeETags() throws Exception {
+        Long employeeId = jdbcTemplate.queryForObject("SELECT id FROM employee WHERE name = 'Bob Smith'", Long.class);
+        Long departmentId = jdbcTemplate.queryForObject("SELECT id FROM department WHERE name = 'Engineering'", Long.class);
+        Long projectId = jdbcTemplate.queryForObject("SELECT id FROM project WHERE name = 'Cloud Migration'", Long.class);
+        String employeeUrl = "/employees/" + employeeId;
+        String departmentUrl = "/departments/" + departmentId;
+        String projectUrl = "/projects/" + projectId;
+
+        String employeeTag = etag(employeeUrl);
+        String departmentTag = etag(departmentUrl);
+        String projectTag = etag(projectUrl);
+
+        update(employeeUrl, "{\"name\":\"Bob Smith\",\"role\":\"Staff Developer\",\"salary\":105000,"
+                + "\"joiningDate\":\"2021-06-20\"}");
+        employeeTag = changedETag(employeeUrl, employeeTag);
+
+        // The employee response embeds the department and project names
+        update(departmentUrl, "{\"name\":\"Platform Engineering\"}");
+        departmentTag = changedETag(departmentUrl, departmentTag);
+        employeeTag = changedETag(employeeUrl, employeeTag);
+
+        update(projectUrl, "{\"name\":\"Cloud Migration II\",\"duration\":9}");
+        changedETag(projectUrl, projectTag);
+        changedETag(employeeUrl, employeeTag);
+
+        mockMvc.perform(get(departmentUrl).header("If-None-Match", departmentTag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/employees/999999").header("If-None-Match", employeeTag))
+                .andExpect(status().isNotFound());
+    }
+}
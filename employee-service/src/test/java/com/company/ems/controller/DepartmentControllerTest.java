@@ -0,0 +1,67 @@
+package com.company.ems.controller;
+
+import com.company.ems.dto.DepartmentResponseDTO;
+import com.company.ems.exception.DepartmentNotFoundException;
+import com.company.ems.service.IDepartmentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(DepartmentController.class)
+public class DepartmentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private IDepartmentService departmentService;
+
+    @Test
+    public void testGetDepartmentById_MatchingETagIsNotModifiedWithoutLoading() throws Exception {
+        when(departmentService.getDepartmentETag(1L)).thenReturn("department-1-v2");
+
+        mockMvc.perform(get("/departments/1").header("If-None-Match", "\"department-1-v2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"department-1-v2\""))
+                .andExpect(content().string(""));
+
+        verify(departmentService, never()).getDepartmentById(anyLong());
+    }
+
+    @Test
+    public void testGetDepartmentById_NewerVersionReturnsBodyWithNewETag() throws Exception {
+        DepartmentResponseDTO department = new DepartmentResponseDTO();
+        department.setId(1L);
+        department.setName("Engineering");
+        when(departmentService.getDepartmentETag(1L)).thenReturn("department-1-v3");
+        when(departmentService.getDepartmentById(1L)).thenReturn(department);
+
+        mockMvc.perform(get("/departments/1").header("If-None-Match", "\"department-1-v2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"department-1-v3\""))
+                .andExpect(jsonPath("$.name").value("Engineering"));
+    }
+
+    @Test
+    public void testGetDepartmentById_UnknownIdIsNotFound() throws Exception {
+        when(departmentService.getDepartmentETag(99L)).thenThrow(new DepartmentNotFoundException("Department not found with id: 99"));
+
+        mockMvc.perform(get("/departments/99"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Department not found with id: 99"));
+
+        verify(departmentService, never()).getDepartmentById(anyLong());
+    }
+}
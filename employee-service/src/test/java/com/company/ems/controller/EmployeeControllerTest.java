@@ -0,0 +1,135 @@
+package com.company.ems.controller;
+
+import com.company.ems.dto.EmployeeChangesDTO;
+import com.company.ems.dto.EmployeeResponseDTO;
+import com.company.ems.exception.EmployeeNotFoundException;
+import com.company.ems.service.IEmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(EmployeeController.class)
+public class EmployeeControllerTest {
+
+    private static final LocalDateTime SINCE = LocalDateTime.of(2024, 5, 1, 10, 0);
+    private static final LocalDateTime UNTIL = LocalDateTime.of(2024, 5, 1, 10, 5);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private IEmployeeService employeeService;
+
+    private static EmployeeResponseDTO employee(long id) {
+        EmployeeResponseDTO dto = new EmployeeResponseDTO();
+        dto.setId(id);
+        dto.setName("Employee " + id);
+        dto.setVersion(1L);
+        return dto;
+    }
+
+    private static EmployeeChangesDTO changes(LocalDateTime since, boolean hasMore, List<Long> deletedIds, EmployeeResponseDTO... updated) {
+        EmployeeChangesDTO changes = new EmployeeChangesDTO();
+        changes.setSince(since);
+        changes.setUntil(UNTIL);
+        changes.setSnapshot(since == null);
+        changes.setHasMore(hasMore);
+        changes.setDeletedIds(deletedIds);
+        changes.setUpdated(List.of(updated));
+        return changes;
+    }
+
+    @Test
+    public void testGetEmployeeChanges_WithoutSinceReturnsSnapshot() throws Exception {
+        when(employeeService.getEmployeeChanges(isNull(), isNull(), isNull(), eq(500)))
+                .thenReturn(changes(null, false, Collections.emptyList(), employee(1), employee(2)));
+
+        mockMvc.perform(get("/employees/changes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.snapshot").value(true))
+                .andExpect(jsonPath("$.until").value("2024-05-01T10:05:00"))
+                .andExpect(jsonPath("$.deletedIds").isEmpty())
+                .andExpect(jsonPath("$.updated[1].id").value(2));
+    }
+
+    @Test
+    public void testGetEmployeeChanges_DeltaReportsTombstones() throws Exception {
+        when(employeeService.getEmployeeChanges(eq(SINCE), isNull(), isNull(), eq(500)))
+                .thenReturn(changes(SINCE, false, List.of(7L), employee(1)));
+
+        mockMvc.perform(get("/employees/changes").param("since", "2024-05-01T10:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.snapshot").value(false))
+                .andExpect(jsonPath("$.since").value("2024-05-01T10:00:00"))
+                .andExpect(jsonPath("$.deletedIds[0]").value(7))
+                .andExpect(jsonPath("$.updated[0].version").value(1));
+    }
+
+    @Test
+    public void testGetEmployeeChanges_PassesPagingWindowThrough() throws Exception {
+        when(employeeService.getEmployeeChanges(eq(SINCE), eq(UNTIL), eq(42L), eq(2)))
+                .thenReturn(changes(SINCE, true, Collections.emptyList(), employee(43), employee(44)));
+
+        mockMvc.perform(get("/employees/changes")
+                        .param("since", "2024-05-01T10:00:00")
+                        .param("until", "2024-05-01T10:05:00")
+                        .param("afterId", "42")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.until").value("2024-05-01T10:05:00"))
+                .andExpect(jsonPath("$.updated[1].id").value(44));
+    }
+
+    @Test
+    public void testGetEmployeeById_MatchingETagIsNotModifiedWithoutLoading() throws Exception {
+        when(employeeService.getEmployeeETag(1L)).thenReturn("employee-1-v3-ab12");
+
+        mockMvc.perform(get("/employees/1").header("If-None-Match", "\"employee-1-v3-ab12\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"employee-1-v3-ab12\""))
+                .andExpect(content().string(""));
+
+        verify(employeeService, never()).getEmployeeById(anyLong());
+    }
+
+    @Test
+    public void testGetEmployeeById_NewerVersionReturnsBodyWithNewETag() throws Exception {
+        when(employeeService.getEmployeeETag(1L)).thenReturn("employee-1-v4-ab12");
+        when(employeeService.getEmployeeById(1L)).thenReturn(employee(1));
+
+        mockMvc.perform(get("/employees/1").header("If-None-Match", "\"employee-1-v3-ab12\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"employee-1-v4-ab12\""))
+                .andExpect(jsonPath("$.id").value(1));
+    }
+
+    @Test
+    public void testGetEmployeeById_UnknownIdIsNotFound() throws Exception {
+        when(employeeService.getEmployeeETag(99L)).thenThrow(new EmployeeNotFoundException("Employee not found with id: 99"));
+
+        mockMvc.perform(get("/employees/99").header("If-None-Match", "\"employee-99-v0-0\""))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Employee not found with id: 99"));
+
+        verify(employeeService, never()).getEmployeeById(anyLong());
+    }
+}
@@ -0,0 +1,67 @@
+package com.company.ems.controller;
+
+import com.company.ems.dto.ProjectResponseDTO;
+import com.company.ems.exception.ProjectNotFoundException;
+import com.company.ems.service.IProjectService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ProjectController.class)
+public class ProjectControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private IProjectService projectService;
+
+    @Test
+    public void testGetProjectById_MatchingETagIsNotModifiedWithoutLoading() throws Exception {
+        when(projectService.getProjectETag(1L)).thenReturn("project-1-v2");
+
+        mockMvc.perform(get("/projects/1").header("If-None-Match", "\"project-1-v2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"project-1-v2\""))
+                .andExpect(content().string(""));
+
+        verify(projectService, never()).getProjectById(anyLong());
+    }
+
+    @Test
+    public void testGetProjectById_NewerVersionReturnsBodyWithNewETag() throws Exception {
+        ProjectResponseDTO project = new ProjectResponseDTO();
+        project.setId(1L);
+        project.setName("Cloud Migration");
+        when(projectService.getProjectETag(1L)).thenReturn("project-1-v3");
+        when(projectService.getProjectById(1L)).thenReturn(project);
+
+        mockMvc.perform(get("/projects/1").header("If-None-Match", "\"project-1-v2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"project-1-v3\""))
+                .andExpect(jsonPath("$.name").value("Cloud Migration"));
+    }
+
+    @Test
+    public void testGetProjectById_UnknownIdIsNotFound() throws Exception {
+        when(projectService.getProjectETag(99L)).thenThrow(new ProjectNotFoundException("Project not found with id: 99"));
+
+        mockMvc.perform(get("/projects/99"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Project not found with id: 99"));
+
+        verify(projectService, never()).getProjectById(anyLong());
+    }
+}
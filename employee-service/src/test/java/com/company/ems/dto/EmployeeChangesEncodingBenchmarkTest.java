@@ -0,0 +1,129 @@
+package com.company.ems.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeChangesEncodingBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeChangesEncodingBenchmarkTest.class);
+
+    private static final int ROWS = 5000;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 10;
+
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper smile = Jackson2ObjectMapperBuilder.smile().build();
+
+    private EmployeeChangesDTO changes;
+
+    @BeforeEach
+    public void setUp() {
+        List<EmployeeResponseDTO> employees = new ArrayList<>();
+        String[] departments = {"Engineering", "Finance", "Human Resources", "Marketing"};
+        for (int i = 0; i < ROWS; i++) {
+            EmployeeResponseDTO employee = new EmployeeResponseDTO();
+            employee.setId((long) i);
+            employee.setName("Employee " + i);
+            employee.setRole(i % 3 == 0 ? "Senior Developer" : "Junior Developer");
+            employee.setSalary(40000.0 + i);
+            employee.setJoiningDate(LocalDate.of(2020, 1, 1).plusDays(i % 365));
+            employee.setDepartmentName(departments[i % departments.length]);
+            employee.setProjectNames(Set.of("Cloud Migration"));
+            employee.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(i));
+            employee.setVersion((long) (i % 4));
+            employees.add(employee);
+        }
+        changes = new EmployeeChangesDTO();
+        changes.setUntil(LocalDateTime.of(2024, 1, 2, 0, 0));
+        changes.setSnapshot(true);
+        changes.setDeletedIds(Collections.emptyList());
+        changes.setUpdated(employees);
+    }
+
+    @Test
+    public void testSmileAndGzip_RoundTripTheChangesPage() throws IOException {
+        EmployeeChangesDTO decoded = smile.readValue(gunzip(gzip(smile.writeValueAsBytes(changes))), EmployeeChangesDTO.class);
+
+        assertEquals(ROWS, decoded.getUpdated().size());
+        assertEquals(changes.getUntil(), decoded.getUntil());
+        EmployeeResponseDTO last = decoded.getUpdated().get(ROWS - 1);
+        assertEquals("Employee " + (ROWS - 1), last.getName());
+        assertEquals(changes.getUpdated().get(ROWS - 1).getJoiningDate(), last.getJoiningDate());
+    }
+
+    @Test
+    public void testSmileAndGzip_SendFewerBytesThanPlainJson() throws IOException {
+        byte[] jsonBytes = json.writeValueAsBytes(changes);
+        byte[] smileBytes = smile.writeValueAsBytes(changes);
+        byte[] gzippedJson = gzip(jsonBytes);
+        byte[] gzippedSmile = gzip(smileBytes);
+
+        long jsonNanos = decodeCpuNanos(json, jsonBytes, false);
+        long smileNanos = decodeCpuNanos(smile, smileBytes, false);
+        long gzippedJsonNanos = decodeCpuNanos(json, gzippedJson, true);
+        long gzippedSmileNanos = decodeCpuNanos(smile, gzippedSmile, true);
+
+        logger.info("Page of {} employees - json: {} bytes, {} us; smile: {} bytes, {} us; json+gzip: {} bytes, {} us; "
+                        + "smile+gzip: {} bytes, {} us (decode CPU per page)", ROWS,
+                jsonBytes.length, jsonNanos / 1000, smileBytes.length, smileNanos / 1000,
+                gzippedJson.length, gzippedJsonNanos / 1000, gzippedSmile.length, gzippedSmileNanos / 1000);
+        // Smile writes numbers in binary and back-references repeated field names and short strings.
+        assertTrue(smileBytes.length < jsonBytes.length, "smile: " + smileBytes.length + " bytes, json: " + jsonBytes.length + " bytes");
+        assertTrue(gzippedJson.length < jsonBytes.length / 4, "json+gzip: " + gzippedJson.length + " bytes, json: " + jsonBytes.length + " bytes");
+        assertTrue(gzippedSmile.length < smileBytes.length, "smile+gzip: " + gzippedSmile.length + " bytes, smile: " + smileBytes.length + " bytes");
+    }
+
+    private long decodeCpuNanos(ObjectMapper mapper, byte[] body, boolean gzipped) throws IOException {
+        for (int i = 0; i < WARMUP; i++) {
+            decode(mapper, body, gzipped);
+        }
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long nanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long started = threads.getCurrentThreadCpuTime();
+            decode(mapper, body, gzipped);
+            nanos += threads.getCurrentThreadCpuTime() - started;
+        }
+        return nanos / ITERATIONS;
+    }
+
+    private void decode(ObjectMapper mapper, byte[] body, boolean gzipped) throws IOException {
+        InputStream in = gzipped ? new GZIPInputStream(new ByteArrayInputStream(body)) : new ByteArrayInputStream(body);
+        assertEquals(ROWS, mapper.readValue(in, EmployeeChangesDTO.class).getUpdated().size());
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.company.ems.service;
+
+import com.company.ems.cache.ETagCache;
+import com.company.ems.dto.EmployeeChangesDTO;
+import com.company.ems.dto.EmployeeResponseDTO;
+import com.company.ems.model.EmployeeDeletion;
+import com.company.ems.repository.EmployeeDeletionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs on the seeded H2 database; every employee is restamped so the test controls which ones fall in a window
+@DataJpaTest
+@Import({EmployeeServiceImpl.class, EmployeeDeletionPruner.class, ETagCache.class})
+public class EmployeeServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    private static final LocalDateTime LONG_AGO = NOW.minusDays(3);
+    private static final LocalDateTime SINCE = NOW.minusDays(2);
+    private static final LocalDateTime UNTIL = NOW.minusDays(1);
+
+    @Autowired
+    private EmployeeServiceImpl employeeService;
+
+    @Autowired
+    private EmployeeDeletionPruner employeeDeletionPruner;
+
+    @Autowired
+    private EmployeeDeletionRepository employeeDeletionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Long> ids;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.update("UPDATE employee SET updated_at = ?", LONG_AGO);
+        ids = jdbcTemplate.queryForList("SELECT id FROM employee ORDER BY id", Long.class);
+        assertTrue(ids.size() >= 4, "seed employees: " + ids);
+    }
+
+    private void stamp(Long id, LocalDateTime updatedAt) {
+        jdbcTemplate.update("UPDATE employee SET updated_at = ? WHERE id = ?", updatedAt, id);
+    }
+
+    private static List<Long> updatedIds(EmployeeChangesDTO changes) {
+        return changes.getUpdated().stream().map(EmployeeResponseDTO::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testGetEmployeeChanges_WithoutSinceIsFullSnapshot() {
+        employeeDeletionRepository.save(new EmployeeDeletion(999L, SINCE.plusHours(1)));
+
+        EmployeeChangesDTO changes = employeeService.getEmployeeChanges(null, null, null, 500);
+
+        assertTrue(changes.isSnapshot());
+        assertNull(changes.getSince());
+        assertFalse(changes.isHasMore());
+        assertEquals(ids, updatedIds(changes));
+        // A snapshot replaces the client's copy, so it carries no tombstones
+        assertTrue(changes.getDeletedIds().isEmpty());
+    }
+
+    @Test
+    public void testGetEmployeeChanges_DeltaReportsRowsAndTombstonesInWindow() {
+        stamp(ids.get(1), SINCE);
+        stamp(ids.get(2), UNTIL.minusSeconds(1));
+        stamp(ids.get(3), UNTIL);
+        employeeDeletionRepository.save(new EmployeeDeletion(998L, SINCE.minusSeconds(1)));
+        employeeDeletionRepository.save(new EmployeeDeletion(999L, SINCE.plusHours(1)));
+
+        EmployeeChangesDTO changes = employeeService.getEmployeeChanges(SINCE, UNTIL, null, 500);
+
+        assertFalse(changes.isSnapshot());
+        assertEquals(SINCE, changes.getSince());
+        assertEquals(UNTIL, changes.getUntil());
+        assertEquals(List.of(ids.get(1), ids.get(2)), updatedIds(changes));
+        assertEquals(List.of(999L), changes.getDeletedIds());
+    }
+
+    @Test
+    public void testGetEmployeeChanges_PagesThroughWindowByAfterId() {
+        stamp(ids.get(0), SINCE.plusMinutes(1));
+        stamp(ids.get(1), SINCE.plusMinutes(2));
+        stamp(ids.get(3), SINCE.plusMinutes(3));
+        employeeDeletionRepository.save(new EmployeeDeletion(999L, SINCE.plusHours(1)));
+
+        EmployeeChangesDTO first = employeeService.getEmployeeChanges(SINCE, UNTIL, null, 2);
+
+        assertTrue(first.isHasMore());
+        assertEquals(List.of(ids.get(0), ids.get(1)), updatedIds(first));
+        assertEquals(List.of(999L), first.getDeletedIds());
+
+        // Passing until back keeps the window fixed, so a row changed while paging waits for the next window
+        stamp(ids.get(2), LocalDateTime.now().minusMinutes(1));
+
+        EmployeeChangesDTO second = employeeService.getEmployeeChanges(SINCE, first.getUntil(), ids.get(1), 2);
+
+        assertFalse(second.isHasMore());
+        assertEquals(UNTIL, second.getUntil());
+        assertEquals(List.of(ids.get(3)), updatedIds(second));
+        assertTrue(second.getDeletedIds().isEmpty());
+    }
+
+    @Test
+    public void testGetEmployeeChanges_UntilStaysBehindCommitLag() {
+        stamp(ids.get(0), LocalDateTime.now().minusMinutes(1));
+        stamp(ids.get(1), LocalDateTime.now());
+
+        EmployeeChangesDTO changes = employeeService.getEmployeeChanges(SINCE, LocalDateTime.now().plusHours(1), null, 500);
+
+        assertTrue(changes.getUntil().isBefore(LocalDateTime.now().minusSeconds(4)), "until: " + changes.getUntil());
+        assertEquals(List.of(ids.get(0)), updatedIds(changes));
+    }
+
+    @Test
+    public void testGetEmployeeChanges_UntilBeforeSinceIsEmptyWindow() {
+        stamp(ids.get(0), SINCE);
+
+        EmployeeChangesDTO changes = employeeService.getEmployeeChanges(SINCE, SINCE.minusHours(1), null, 500);
+
+        assertEquals(SINCE, changes.getUntil());
+        assertTrue(changes.getUpdated().isEmpty());
+    }
+
+    @Test
+    public void testGetEmployeeChanges_SinceBeyondTombstoneRetentionIsSnapshot() {
+        EmployeeChangesDTO changes = employeeService.getEmployeeChanges(LocalDateTime.now().minusDays(31), null, null, 500);
+
+        assertTrue(changes.isSnapshot());
+        assertEquals(ids, updatedIds(changes));
+    }
+
+    @Test
+    public void testDeleteEmployee_LeavesTombstoneUntilPruned() {
+        Long id = ids.get(0);
+        employeeService.deleteEmployee(id);
+        employeeDeletionRepository.save(new EmployeeDeletion(999L, LocalDateTime.now().minusDays(31)));
+
+        assertEquals(1, employeeDeletionPruner.pruneDeletions());
+
+        assertTrue(employeeDeletionRepository.existsById(id));
+        assertFalse(employeeDeletionRepository.existsById(999L));
+    }
+}
@@ -0,0 +1,137 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load generator for the monolith's read endpoints: every client sends its next request as soon as
+ * the previous one is answered. Prints throughput and latency percentiles for the measured window, so the
+ * default (platform threads) and the virtual-threads profile can be compared under the same load.
+ *
+ * <pre>
+ * java load-test/EmployeeReadLoad.java [baseUrl] [clients] [warmupSeconds] [seconds] [path ...]
+ * java load-test/EmployeeReadLoad.java http://localhost:8080 1000 15 60 "/employees?page=0&size=20" /departments
+ * </pre>
+ *
+ * Runs from source on Java 17 or later; no build needed.
+ */
+public class EmployeeReadLoad {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int warmupSeconds = args.length > 2 ? Integer.parseInt(args[2]) : 15;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 60;
+        List<URI> targets = new ArrayList<>();
+        for (String path : args.length > 4 ? Arrays.copyOfRange(args, 4, args.length)
+                : new String[] {"/employees?page=0&size=20", "/departments"}) {
+            targets.add(URI.create(baseUrl + path));
+        }
+
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long started = System.nanoTime();
+        long measureFrom = started + Duration.ofSeconds(warmupSeconds).toNanos();
+        long measureUntil = measureFrom + Duration.ofSeconds(seconds).toNanos();
+
+        Client[] workers = new Client[clients];
+        CountDownLatch done = new CountDownLatch(clients);
+        AtomicLong errors = new AtomicLong();
+        for (int i = 0; i < clients; i++) {
+            Client worker = new Client(http, targets, measureFrom, measureUntil, errors, done);
+            workers[i] = worker;
+            Thread thread = new Thread(worker, "load-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        System.out.printf("%d clients against %s: %ds warm-up, %ds measured%n", clients, targets, warmupSeconds, seconds);
+        done.await();
+
+        int total = 0;
+        for (Client worker : workers) {
+            total += worker.count;
+        }
+        long[] latencies = new long[total];
+        int offset = 0;
+        for (Client worker : workers) {
+            System.arraycopy(worker.latencies, 0, latencies, offset, worker.count);
+            offset += worker.count;
+        }
+        Arrays.sort(latencies);
+        System.out.printf("requests: %d, errors: %d, throughput: %.1f req/s%n", total, errors.get(), total / (double) seconds);
+        System.out.printf("latency ms - p50: %.1f, p90: %.1f, p99: %.1f, max: %.1f%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.90), percentile(latencies, 0.99),
+                total == 0 ? 0 : latencies[total - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double q) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(q * sorted.length) - 1)] / 1e6;
+    }
+
+    private static final class Client implements Runnable {
+        private final HttpClient http;
+        private final List<URI> targets;
+        private final long measureFrom;
+        private final long measureUntil;
+        private final AtomicLong errors;
+        private final CountDownLatch done;
+        private long[] latencies = new long[1024];
+        private int count;
+
+        Client(HttpClient http, List<URI> targets, long measureFrom, long measureUntil, AtomicLong errors, CountDownLatch done) {
+            this.http = http;
+            this.targets = targets;
+            this.measureFrom = measureFrom;
+            this.measureUntil = measureUntil;
+            this.errors = errors;
+            this.done = done;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (System.nanoTime() < measureUntil) {
+                    URI target = targets.get(ThreadLocalRandom.current().nextInt(targets.size()));
+                    HttpRequest request = HttpRequest.newBuilder(target).timeout(Duration.ofSeconds(30)).GET().build();
+                    long sent = System.nanoTime();
+                    boolean ok;
+                    try {
+                        ok = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+                    } catch (Exception e) {
+                        ok = false;
+                    }
+                    long answered = System.nanoTime();
+                    // Only requests sent and answered inside the measured window count
+                    if (sent >= measureFrom && answered <= measureUntil) {
+                        if (ok) {
+                            record(answered - sent);
+                        } else {
+                            errors.incrementAndGet();
+                        }
+                    }
+                }
+            } finally {
+                done.countDown();
+            }
+        }
+
+        private void record(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+    }
+}
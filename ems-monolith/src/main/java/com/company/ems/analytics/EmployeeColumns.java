@@ -0,0 +1,163 @@
+package com.company.ems.analytics;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column-oriented copy of the employee table for analytics: one primitive array per numeric feature,
+ * filled in a single pass and then scanned by the algorithms without boxing. A missing performance
+ * score is stored as {@link Double#NaN}.
+ */
+public final class EmployeeColumns {
+
+    public static final String UNASSIGNED_DEPARTMENT = "Unassigned";
+
+    // Legacy spellings found in HR exports, folded into the names the department table uses.
+    private static final Map<String, String> DEPARTMENT_ALIASES = Map.of(
+            "Human Resources", "HR",
+            "Information Technology", "IT",
+            "Fin", "Finance",
+            "Admin", "Management");
+
+    private static final LocalDate DEFAULT_JOINING_DATE = LocalDate.of(2020, 1, 1);
+
+    private final int size;
+    private final String[] names;
+    private final String[] roles;
+    private final double[] salaries;
+    private final double[] yearsExperience;
+    private final double[] performanceScores;
+    private final int[] departments;
+    private final List<String> departmentNames;
+
+    private EmployeeColumns(Builder builder) {
+        this.size = builder.size;
+        this.names = Arrays.copyOf(builder.names, size);
+        this.roles = Arrays.copyOf(builder.roles, size);
+        this.salaries = Arrays.copyOf(builder.salaries, size);
+        this.yearsExperience = Arrays.copyOf(builder.yearsExperience, size);
+        this.performanceScores = Arrays.copyOf(builder.performanceScores, size);
+        this.departments = Arrays.copyOf(builder.departments, size);
+        this.departmentNames = List.copyOf(builder.departmentNames);
+        fillMissingSalaries();
+    }
+
+    public static Builder builder(int currentYear) {
+        return new Builder(currentYear);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String name(int row) {
+        return names[row];
+    }
+
+    public String role(int row) {
+        return roles[row];
+    }
+
+    public double[] salaries() {
+        return salaries;
+    }
+
+    public double[] yearsExperience() {
+        return yearsExperience;
+    }
+
+    public double[] performanceScores() {
+        return performanceScores;
+    }
+
+    /** Department of each row as an index into {@link #departmentNames()}. */
+    public int[] departments() {
+        return departments;
+    }
+
+    public List<String> departmentNames() {
+        return departmentNames;
+    }
+
+    public boolean hasPerformanceScore(int row) {
+        return !Double.isNaN(performanceScores[row]);
+    }
+
+    // A salary that could not be read takes the mean of the others, as the report always did.
+    private void fillMissingSalaries() {
+        double sum = 0;
+        int count = 0;
+        for (double salary : salaries) {
+            if (!Double.isNaN(salary)) {
+                sum += salary;
+                count++;
+            }
+        }
+        double mean = count > 0 ? sum / count : 0;
+        for (int i = 0; i < size; i++) {
+            if (Double.isNaN(salaries[i])) {
+                salaries[i] = mean;
+            }
+        }
+    }
+
+    public static final class Builder {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final int currentYear;
+        private final Map<String, Integer> departmentIndex = new HashMap<>();
+        private final List<String> departmentNames = new ArrayList<>();
+        private int size;
+        private String[] names = new String[INITIAL_CAPACITY];
+        private String[] roles = new String[INITIAL_CAPACITY];
+        private double[] salaries = new double[INITIAL_CAPACITY];
+        private double[] yearsExperience = new double[INITIAL_CAPACITY];
+        private double[] performanceScores = new double[INITIAL_CAPACITY];
+        private int[] departments = new int[INITIAL_CAPACITY];
+
+        private Builder(int currentYear) {
+            this.currentYear = currentYear;
+        }
+
+        public Builder add(String name, String role, Double salary, LocalDate joiningDate, String department,
+                           Integer performanceScore) {
+            if (size == names.length) {
+                grow();
+            }
+            names[size] = name;
+            roles[size] = role;
+            salaries[size] = salary != null ? salary : Double.NaN;
+            yearsExperience[size] = currentYear - (joiningDate != null ? joiningDate : DEFAULT_JOINING_DATE).getYear();
+            performanceScores[size] = performanceScore != null ? performanceScore : Double.NaN;
+            departments[size] = departmentIndex(department);
+            size++;
+            return this;
+        }
+
+        public EmployeeColumns build() {
+            return new EmployeeColumns(this);
+        }
+
+        private int departmentIndex(String department) {
+            String canonical = department == null ? UNASSIGNED_DEPARTMENT : DEPARTMENT_ALIASES.getOrDefault(department, department);
+            return departmentIndex.computeIfAbsent(canonical, name -> {
+                departmentNames.add(name);
+                return departmentNames.size() - 1;
+            });
+        }
+
+        private void grow() {
+            int capacity = names.length * 2;
+            names = Arrays.copyOf(names, capacity);
+            roles = Arrays.copyOf(roles, capacity);
+            salaries = Arrays.copyOf(salaries, capacity);
+            yearsExperience = Arrays.copyOf(yearsExperience, capacity);
+            performanceScores = Arrays.copyOf(performanceScores, capacity);
+            departments = Arrays.copyOf(departments, capacity);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.company.ems.analytics;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Lloyd's k-means with k-means++ seeding over column-major features ({@code features[dimension][row]}).
+ * The assignment step and the centroid sums run in parallel over rows; the best of several seeded
+ * restarts, by inertia, is kept.
+ */
+public final class KMeans {
+
+    private static final int MAX_ITERATIONS = 300;
+    private static final double TOLERANCE = 1e-4;
+
+    private final int[] labels;
+    private final double[][] centroids;
+    private final double inertia;
+
+    private KMeans(int[] labels, double[][] centroids, double inertia) {
+        this.labels = labels;
+        this.centroids = centroids;
+        this.inertia = inertia;
+    }
+
+    public static KMeans fit(double[][] features, int clusters, int restarts, long seed) {
+        int rows = features.length == 0 ? 0 : features[0].length;
+        if (rows == 0) {
+            return new KMeans(new int[0], new double[0][], 0);
+        }
+        int k = Math.min(clusters, rows);
+        Random random = new Random(seed);
+        KMeans best = null;
+        for (int run = 0; run < Math.max(1, restarts); run++) {
+            KMeans candidate = lloyd(features, seedCentroids(features, k, random));
+            if (best == null || candidate.inertia < best.inertia) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    /** Scales every column to zero mean and unit variance in place; constant columns become all zeros. */
+    public static void standardize(double[][] features) {
+        for (double[] column : features) {
+            double mean = IntStream.range(0, column.length).parallel().mapToDouble(i -> column[i]).sum() / column.length;
+            double variance = IntStream.range(0, column.length).parallel()
+                    .mapToDouble(i -> (column[i] - mean) * (column[i] - mean)).sum() / column.length;
+            double deviation = variance > 0 ? Math.sqrt(variance) : 1;
+            IntStream.range(0, column.length).parallel().forEach(i -> column[i] = (column[i] - mean) / deviation);
+        }
+    }
+
+    public int[] getLabels() {
+        return labels;
+    }
+
+    /** Centroids in the (possibly standardized) feature space the model was fitted in. */
+    public double[][] getCentroids() {
+        return centroids;
+    }
+
+    public double getInertia() {
+        return inertia;
+    }
+
+    // k-means++: each further seed is drawn with probability proportional to its squared distance to the nearest seed so far.
+    private static double[][] seedCentroids(double[][] features, int k, Random random) {
+        int rows = features[0].length;
+        double[][] centroids = new double[k][];
+        centroids[0] = point(features, random.nextInt(rows));
+        double[] nearest = new double[rows];
+        IntStream.range(0, rows).parallel().forEach(row -> nearest[row] = distance(features, row, centroids[0]));
+        for (int c = 1; c < k; c++) {
+            double total = IntStream.range(0, rows).parallel().mapToDouble(row -> nearest[row]).sum();
+            int chosen = rows - 1;
+            if (total > 0) {
+                double target = random.nextDouble() * total;
+                for (int row = 0; row < rows; row++) {
+                    target -= nearest[row];
+                    if (target <= 0) {
+                        chosen = row;
+                        break;
+                    }
+                }
+            } else {
+                chosen = random.nextInt(rows);
+            }
+            double[] centroid = point(features, chosen);
+            centroids[c] = centroid;
+            IntStream.range(0, rows).parallel()
+                    .forEach(row -> nearest[row] = Math.min(nearest[row], distance(features, row, centroid)));
+        }
+        return centroids;
+    }
+
+    private static KMeans lloyd(double[][] features, double[][] initial) {
+        int rows = features[0].length;
+        int dimensions = features.length;
+        int k = initial.length;
+        double[][] centroids = initial;
+        int[] labels = new int[rows];
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            double[][] current = centroids;
+            IntStream.range(0, rows).parallel().forEach(row -> labels[row] = closest(features, row, current));
+
+            Sums sums = IntStream.range(0, rows).parallel().collect(() -> new Sums(k, dimensions),
+                    (acc, row) -> acc.add(features, row, labels[row]), Sums::merge);
+            double[][] next = new double[k][];
+            double shift = 0;
+            for (int c = 0; c < k; c++) {
+                // An emptied cluster keeps its previous centroid
+                next[c] = sums.counts[c] == 0 ? current[c] : sums.mean(c);
+                shift += squaredDistance(next[c], current[c]);
+            }
+            centroids = next;
+            if (shift <= TOLERANCE * TOLERANCE) {
+                break;
+            }
+        }
+        double[][] fitted = centroids;
+        IntStream.range(0, rows).parallel().forEach(row -> labels[row] = closest(features, row, fitted));
+        double inertia = IntStream.range(0, rows).parallel().mapToDouble(row -> distance(features, row, fitted[labels[row]])).sum();
+        return new KMeans(labels, fitted, inertia);
+    }
+
+    private static int closest(double[][] features, int row, double[][] centroids) {
+        int best = 0;
+        double bestDistance = Double.MAX_VALUE;
+        for (int c = 0; c < centroids.length; c++) {
+            double d = distance(features, row, centroids[c]);
+            if (d < bestDistance) {
+                bestDistance = d;
+                best = c;
+            }
+        }
+        return best;
+    }
+
+    private static double distance(double[][] features, int row, double[] centroid) {
+        double sum = 0;
+        for (int d = 0; d < features.length; d++) {
+            double diff = features[d][row] - centroid[d];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    private static double squaredDistance(double[] a, double[] b) {
+        double sum = 0;
+        for (int d = 0; d < a.length; d++) {
+            sum += (a[d] - b[d]) * (a[d] - b[d]);
+        }
+        return sum;
+    }
+
+    private static double[] point(double[][] features, int row) {
+        double[] point = new double[features.length];
+        for (int d = 0; d < features.length; d++) {
+            point[d] = features[d][row];
+        }
+        return point;
+    }
+
+    private static final class Sums {
+        private final double[][] totals;
+        private final long[] counts;
+
+        Sums(int k, int dimensions) {
+            totals = new double[k][dimensions];
+            counts = new long[k];
+        }
+
+        void add(double[][] features, int row, int cluster) {
+            for (int d = 0; d < features.length; d++) {
+                totals[cluster][d] += features[d][row];
+            }
+            counts[cluster]++;
+        }
+
+        void merge(Sums other) {
+            for (int c = 0; c < counts.length; c++) {
+                for (int d = 0; d < totals[c].length; d++) {
+                    totals[c][d] += other.totals[c][d];
+                }
+                counts[c] += other.counts[c];
+            }
+        }
+
+        double[] mean(int cluster) {
+            double[] mean = new double[totals[cluster].length];
+            for (int d = 0; d < mean.length; d++) {
+                mean[d] = totals[cluster][d] / counts[cluster];
+            }
+            return mean;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.company.ems.analytics;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Ordinary least squares with one feature. The sums behind the closed-form fit are accumulated in
+ * parallel over the selected rows, so fitting is a single pass over the columns.
+ */
+public final class LinearRegression {
+
+    private final double coefficient;
+    private final double intercept;
+
+    private LinearRegression(double coefficient, double intercept) {
+        this.coefficient = coefficient;
+        this.intercept = intercept;
+    }
+
+    public static LinearRegression fit(double[] x, double[] y, int[] rows) {
+        Moments moments = moments(x, y, rows);
+        if (moments.count == 0) {
+            return new LinearRegression(0, 0);
+        }
+        double meanX = moments.sumX / moments.count;
+        double meanY = moments.sumY / moments.count;
+        double sxx = moments.sumXX - moments.count * meanX * meanX;
+        double sxy = moments.sumXY - moments.count * meanX * meanY;
+        // A constant feature explains nothing: predict the mean
+        double coefficient = sxx > 0 ? sxy / sxx : 0;
+        return new LinearRegression(coefficient, meanY - coefficient * meanX);
+    }
+
+    /**
+     * Shuffles the given rows with a fixed seed and splits off {@code ceil(n * testFraction)} of them as
+     * the test set; element 0 of the result holds the training rows, element 1 the test rows.
+     */
+    public static int[][] trainTestSplit(int[] rows, double testFraction, long seed) {
+        int[] shuffled = rows.clone();
+        Random random = new Random(seed);
+        for (int i = shuffled.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = shuffled[i];
+            shuffled[i] = shuffled[j];
+            shuffled[j] = swap;
+        }
+        int testSize = (int) Math.ceil(shuffled.length * testFraction);
+        return new int[][] {
+                Arrays.copyOfRange(shuffled, testSize, shuffled.length),
+                Arrays.copyOfRange(shuffled, 0, testSize)
+        };
+    }
+
+    public double predict(double x) {
+        return intercept + coefficient * x;
+    }
+
+    public double meanSquaredError(double[] x, double[] y, int[] rows) {
+        if (rows.length == 0) {
+            return 0;
+        }
+        return IntStream.of(rows).parallel()
+                .mapToDouble(row -> square(y[row] - predict(x[row])))
+                .sum() / rows.length;
+    }
+
+    public double r2Score(double[] x, double[] y, int[] rows) {
+        if (rows.length == 0) {
+            return 0;
+        }
+        double meanY = IntStream.of(rows).parallel().mapToDouble(row -> y[row]).sum() / rows.length;
+        double residual = IntStream.of(rows).parallel().mapToDouble(row -> square(y[row] - predict(x[row]))).sum();
+        double total = IntStream.of(rows).parallel().mapToDouble(row -> square(y[row] - meanY)).sum();
+        return total > 0 ? 1 - residual / total : 0;
+    }
+
+    public double getCoefficient() {
+        return coefficient;
+    }
+
+    public double getIntercept() {
+        return intercept;
+    }
+
+    private static Moments moments(double[] x, double[] y, int[] rows) {
+        return IntStream.of(rows).parallel().collect(Moments::new,
+                (moments, row) -> moments.add(x[row], y[row]), Moments::merge);
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
+
+    private static final class Moments {
+        private long count;
+        private double sumX;
+        private double sumY;
+        private double sumXX;
+        private double sumXY;
+
+        void add(double x, double y) {
+            count++;
+            sumX += x;
+            sumY += y;
+            sumXX += x * x;
+            sumXY += x * y;
+        }
+
+        void merge(Moments other) {
+            count += other.count;
+            sumX += other.sumX;
+            sumY += other.sumY;
+            sumXX += other.sumXX;
+            sumXY += other.sumXY;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.company.ems.analytics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Mergeable quantile sketch with log-spaced buckets (HdrHistogram/DDSketch style): bucket {@code i} holds the
+ * values in {@code (gamma^(i-1), gamma^i]}, so any quantile it reports is within {@link #RELATIVE_ACCURACY}
+ * of a real value. Buckets are plain counters, which makes values removable as well as addable and lets two
+ * sketches merge by adding their arrays; a salary range of 1 to 10^7 needs about 800 buckets.
+ *
+ * <p>Not thread-safe; callers guard concurrent use.
+ */
+public final class SalaryHistogram {
+
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    // counts[i] is the bucket with index offset + i
+    private long[] counts = new long[0];
+    private int offset;
+    private long count;
+
+    public void add(double value) {
+        if (value <= 0) {
+            return;
+        }
+        int index = index(value);
+        ensureCovers(index);
+        counts[index - offset]++;
+        count++;
+    }
+
+    /** Removes one occurrence of {@code value}; a value that was never added is ignored. */
+    public void remove(double value) {
+        if (value <= 0) {
+            return;
+        }
+        int index = index(value) - offset;
+        if (index >= 0 && index < counts.length && counts[index] > 0) {
+            counts[index]--;
+            count--;
+        }
+    }
+
+    public void merge(SalaryHistogram other) {
+        if (other.count == 0) {
+            return;
+        }
+        ensureCovers(other.offset);
+        ensureCovers(other.offset + other.counts.length - 1);
+        for (int i = 0; i < other.counts.length; i++) {
+            counts[other.offset + i - offset] += other.counts[i];
+        }
+        count += other.count;
+    }
+
+    public SalaryHistogram copy() {
+        SalaryHistogram copy = new SalaryHistogram();
+        copy.counts = counts.clone();
+        copy.offset = offset;
+        copy.count = count;
+        return copy;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /** Value at quantile {@code q} (0..1), or NaN for an empty sketch. Walks the buckets once. */
+    public double quantile(double q) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) Math.floor(Math.max(0, Math.min(1, q)) * (count - 1));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen > rank) {
+                return value(offset + i);
+            }
+        }
+        return value(offset + counts.length - 1);
+    }
+
+    public double min() {
+        return quantile(0);
+    }
+
+    public double max() {
+        return quantile(1);
+    }
+
+    /**
+     * Counts in {@code bins} equal-width bins from {@link #min()} to {@link #max()}; each bucket falls into
+     * the bin of its representative value.
+     */
+    public List<Bin> histogram(int bins) {
+        List<Bin> result = new ArrayList<>();
+        if (count == 0 || bins <= 0) {
+            return result;
+        }
+        double lower = min();
+        double width = (max() - lower) / bins;
+        long[] binCounts = new long[bins];
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                int bin = width > 0 ? (int) ((value(offset + i) - lower) / width) : 0;
+                binCounts[Math.min(bins - 1, bin)] += counts[i];
+            }
+        }
+        for (int b = 0; b < bins; b++) {
+            result.add(new Bin(lower + b * width, b == bins - 1 ? max() : lower + (b + 1) * width, binCounts[b]));
+        }
+        return result;
+    }
+
+    private static int index(double value) {
+        return (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+    }
+
+    // Midpoint of the bucket in relative terms, so the error is at most RELATIVE_ACCURACY either way
+    private static double value(int index) {
+        return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+    }
+
+    private void ensureCovers(int index) {
+        if (counts.length == 0) {
+            counts = new long[1];
+            offset = index;
+            return;
+        }
+        if (index < offset) {
+            long[] grown = new long[counts.length + (offset - index)];
+            System.arraycopy(counts, 0, grown, offset - index, counts.length);
+            counts = grown;
+            offset = index;
+        } else if (index >= offset + counts.length) {
+            counts = Arrays.copyOf(counts, index - offset + 1);
+        }
+    }
+
+    public static final class Bin {
+        private final double lower;
+        private final double upper;
+        private final long count;
+
+        Bin(double lower, double upper, long count) {
+            this.lower = lower;
+            this.upper = upper;
+            this.count = count;
+        }
+
+        public double getLower() {
+            return lower;
+        }
+
+        public double getUpper() {
+            return upper;
+        }
+
+        public long getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.company.ems.analytics;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Picks the rows with the {@code n} largest keys without sorting the column: every worker keeps a
+ * bounded min-heap of row indices and the heaps are merged at the end, so selection is O(rows log n).
+ * Equal keys rank the earlier row first.
+ */
+public final class TopN {
+
+    private final double[] keys;
+    private final int[] heap;
+    private int size;
+
+    private TopN(double[] keys, int capacity) {
+        this.keys = keys;
+        this.heap = new int[capacity];
+    }
+
+    /** Rows passing {@code filter}, ordered by descending key, at most {@code n} of them. */
+    public static int[] select(double[] keys, int n, IntPredicate filter) {
+        if (n <= 0) {
+            return new int[0];
+        }
+        TopN top = IntStream.range(0, keys.length).parallel()
+                .filter(filter)
+                .collect(() -> new TopN(keys, n), TopN::offer, TopN::merge);
+        return top.sorted();
+    }
+
+    private void offer(int row) {
+        if (size < heap.length) {
+            heap[size] = row;
+            siftUp(size++);
+        } else if (ranksBefore(row, heap[0])) {
+            heap[0] = row;
+            siftDown(0);
+        }
+    }
+
+    private void merge(TopN other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.heap[i]);
+        }
+    }
+
+    private int[] sorted() {
+        Integer[] rows = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            rows[i] = heap[i];
+        }
+        Arrays.sort(rows, (a, b) -> ranksBefore(a, b) ? -1 : ranksBefore(b, a) ? 1 : 0);
+        return Arrays.stream(rows).mapToInt(Integer::intValue).toArray();
+    }
+
+    // The heap root is the weakest row kept so far
+    private boolean ranksBefore(int a, int b) {
+        int byKey = Double.compare(keys[a], keys[b]);
+        return byKey > 0 || (byKey == 0 && a < b);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!ranksBefore(heap[parent], heap[index])) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int weakest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && ranksBefore(heap[weakest], heap[left])) {
+                weakest = left;
+            }
+            if (right < size && ranksBefore(heap[weakest], heap[right])) {
+                weakest = right;
+            }
+            if (weakest == index) {
+                return;
+            }
+            swap(index, weakest);
+            index = weakest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+}
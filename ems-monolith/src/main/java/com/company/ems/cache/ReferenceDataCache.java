@@ -0,0 +1,159 @@
+package com.company.ems.cache;
+
+import com.company.ems.model.Department;
+import com.company.ems.model.Project;
+import com.company.ems.repository.DepartmentRepository;
+import com.company.ems.repository.ProjectRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-evicting in-process cache for department and project lookups. Entries are detached
+ * entities shared between requests and must never be modified. Callers may read them and may set them
+ * as the department or projects of an employee being written, which only stores the id as a foreign key
+ * (there is no cascade). Changing a department or project itself goes through a fresh instance from the
+ * repository and evicts the cached one once the change has committed.
+ */
+@Component
+public class ReferenceDataCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataCache.class);
+
+    private static final String ALL = "all";
+
+    private final Cache<Long, Department> departments;
+    private final Cache<String, List<Department>> departmentList;
+    private final Cache<Long, Project> projects;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    public ReferenceDataCache(@Value("${ems.cache.reference.maximum-size:10000}") long maximumSize,
+                              @Value("${ems.cache.reference.time-to-live:10m}") Duration timeToLive) {
+        this.departments = newCache(maximumSize, timeToLive);
+        this.departmentList = newCache(1, timeToLive);
+        this.projects = newCache(maximumSize, timeToLive);
+    }
+
+    @Autowired
+    void registerMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        meterRegistry.ifAvailable(registry -> {
+            CaffeineCacheMetrics.monitor(registry, departments, "departments");
+            CaffeineCacheMetrics.monitor(registry, departmentList, "departmentList");
+            CaffeineCacheMetrics.monitor(registry, projects, "projects");
+            logger.debug("Reference data cache metrics registered");
+        });
+    }
+
+    public Optional<Department> findDepartment(Long id) {
+        // Misses that find nothing are not cached, so a department created later is visible at once.
+        return Optional.ofNullable(departments.get(id, key -> departmentRepository.findById(key).orElse(null)));
+    }
+
+    public List<Department> findAllDepartments() {
+        return departmentList.get(ALL, key -> {
+            List<Department> loaded = List.copyOf(departmentRepository.findAll());
+            loaded.forEach(department -> departments.put(department.getId(), department));
+            return loaded;
+        });
+    }
+
+    public Map<Long, Department> findDepartments(Collection<Long> ids) {
+        return getAll(departments, ids, departmentRepository::findAllById, Department::getId);
+    }
+
+    public Optional<Project> findProject(Long id) {
+        return Optional.ofNullable(projects.get(id, key -> projectRepository.findById(key).orElse(null)));
+    }
+
+    public Map<Long, Project> findProjects(Collection<Long> ids) {
+        return getAll(projects, ids, projectRepository::findAllById, Project::getId);
+    }
+
+    public void evictDepartment(Long id) {
+        afterCommit(() -> {
+            if (id != null) {
+                departments.invalidate(id);
+            }
+            departmentList.invalidateAll();
+            logger.debug("Department cache evicted for id: {}", id);
+        });
+    }
+
+    public void evictProject(Long id) {
+        afterCommit(() -> {
+            if (id != null) {
+                projects.invalidate(id);
+            }
+            logger.debug("Project cache evicted for id: {}", id);
+        });
+    }
+
+    // Inside a transaction the eviction waits for the commit; evicting earlier would let a concurrent read
+    // reload and cache the rows as they were before the write for the whole time to live.
+    private static void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    // Serves cached ids directly and loads all misses with a single IN query.
+    private static <T> Map<Long, T> getAll(Cache<Long, T> cache, Collection<Long> ids,
+                                           Function<Set<Long>, List<T>> loader,
+                                           Function<T, Long> idOf) {
+        Set<Long> requested = new HashSet<>();
+        ids.stream().filter(Objects::nonNull).forEach(requested::add);
+        if (requested.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, T> found = new HashMap<>(cache.getAllPresent(requested));
+        Set<Long> missing = new HashSet<>(requested);
+        missing.removeAll(found.keySet());
+        if (!missing.isEmpty()) {
+            for (T loaded : loader.apply(missing)) {
+                found.put(idOf.apply(loaded), loaded);
+                cache.put(idOf.apply(loaded), loaded);
+            }
+        }
+        return found;
+    }
+
+    private static <K, V> Cache<K, V> newCache(long maximumSize, Duration timeToLive) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.company.ems.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Dedicated, bounded executor for report generation, so long report runs never occupy the shared
+ * scheduler thread that fires the other {@code @Scheduled} tasks. With virtual threads enabled
+ * ({@code spring.threads.virtual.enabled} on Java 21) every run gets its own virtual thread instead.
+ */
+@Configuration
+public class ReportExecutorConfig {
+
+    @Bean(name = "reportExecutor")
+    public AsyncTaskExecutor reportExecutor(Environment environment,
+                                            @Value("${ems.report.executor.pool-size:1}") int poolSize,
+                                            @Value("${ems.report.executor.queue-capacity:0}") int queueCapacity) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("report-");
+            executor.setVirtualThreads(true);
+            // Waits rather than rejects at the limit; ReportGeneratorService already skips overlapping runs
+            executor.setConcurrencyLimit(poolSize);
+            executor.setTaskTerminationTimeout(30_000);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        // Submissions beyond the pool and queue are rejected instead of piling up
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("report-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
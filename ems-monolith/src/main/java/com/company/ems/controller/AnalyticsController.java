@@ -0,0 +1,36 @@
+package com.company.ems.controller;
+
+import com.company.ems.dto.AnalyticsReportDTO;
+import com.company.ems.service.IAnalyticsService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/analytics")
+@Tag(name = "Analytics", description = "Salary and performance analytics over all employees")
+public class AnalyticsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsController.class);
+
+    @Autowired
+    private IAnalyticsService analyticsService;
+
+    @GetMapping("/report")
+    public ResponseEntity<AnalyticsReportDTO> getReport() {
+        try {
+            logger.info("Generating employee analytics report");
+            AnalyticsReportDTO response = analyticsService.generateReport();
+            logger.info("Employee analytics report generated - employees: {}", response.getEmployeeCount());
+            return ResponseEntity.ok(response);
+        } catch (Exception ex) {
+            logger.error("Error generating employee analytics report: {}", ex.getMessage(), ex);
+            throw ex;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.company.ems.controller;
 
 import com.company.ems.dto.DepartmentRequestDTO;
 import com.company.ems.dto.DepartmentResponseDTO;
+import com.company.ems.dto.DepartmentSalaryStatsDTO;
 import com.company.ems.dto.DepartmentUpdateRequestDTO;
 import com.company.ems.service.IDepartmentService;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -53,6 +54,19 @@ public class DepartmentController {
         }
     }
 
+    @GetMapping("/{id}/salary-stats")
+    public ResponseEntity<DepartmentSalaryStatsDTO> getSalaryStats(@PathVariable Long id) {
+        try {
+            logger.info("Fetching salary stats for department with id: {}", id);
+            DepartmentSalaryStatsDTO response = departmentService.getSalaryStats(id);
+            logger.info("Salary stats fetched successfully for department with id: {}", id);
+            return ResponseEntity.ok(response);
+        } catch (Exception ex) {
+            logger.error("Error fetching salary stats for department with id {}: {}", id, ex.getMessage(), ex);
+            throw ex;
+        }
+    }
+
     @GetMapping
     public ResponseEntity<List<DepartmentResponseDTO>> getAllDepartments() {
         try {
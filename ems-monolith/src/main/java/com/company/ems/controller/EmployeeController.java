@@ -1,9 +1,17 @@
 package com.company.ems.controller;
 
+import com.company.ems.dto.EmployeeBatchResponseDTO;
+import com.company.ems.dto.EmployeeBatchUpdateRequestDTO;
 import com.company.ems.dto.EmployeeRequestDTO;
 import com.company.ems.dto.EmployeeResponseDTO;
+import com.company.ems.dto.EmployeeSliceResponseDTO;
 import com.company.ems.dto.EmployeeUpdateRequestDTO;
+import com.company.ems.exception.InvalidExportFormatException;
 import com.company.ems.service.IEmployeeService;
+import com.company.ems.util.EmployeeCsvFormat;
+import com.company.ems.util.EmployeeCursor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
@@ -11,9 +19,24 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/employees")
@@ -21,10 +44,17 @@ import java.util.List;
 public class EmployeeController {
     
     private static final Logger logger = LoggerFactory.getLogger(EmployeeController.class);
+
+    private static final String FORMAT_NDJSON = "ndjson";
+    private static final String FORMAT_CSV = "csv";
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
     
     @Autowired
     private IEmployeeService employeeService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PostMapping
     public ResponseEntity<EmployeeResponseDTO> createEmployee(@Valid @RequestBody EmployeeRequestDTO employeeDTO) {
         try {
@@ -71,32 +101,111 @@ public class EmployeeController {
         }
     }
 
-    @GetMapping("/sorted")
-    public ResponseEntity<List<EmployeeResponseDTO>> getSortedEmployees() {
+    @GetMapping("/cursor")
+    public ResponseEntity<EmployeeSliceResponseDTO> getEmployeesByCursor(
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size) {
         try {
-            logger.info("Fetching all employees sorted by name and date");
-            List<EmployeeResponseDTO> response = employeeService.getAllEmployeesSortedByNameAndDate();
-            logger.info("Sorted employees fetched successfully - total: {}", response.size());
+            logger.info("Fetching employees by cursor - department: {}, after: {}, size: {}", department, after, size);
+            Slice<EmployeeResponseDTO> slice = employeeService.getEmployeesAfter(department, EmployeeCursor.decode(after),
+                    EmployeeCursor.checkSize(size));
+            EmployeeSliceResponseDTO response = new EmployeeSliceResponseDTO();
+            response.setContent(slice.getContent());
+            response.setSize(slice.getNumberOfElements());
+            response.setHasNext(slice.hasNext());
+            if (slice.hasNext()) {
+                List<EmployeeResponseDTO> content = slice.getContent();
+                response.setNextCursor(EmployeeCursor.encode(content.get(content.size() - 1).getId()));
+            }
+            logger.info("Employees fetched by cursor successfully - returned: {}, hasNext: {}", response.getSize(), response.isHasNext());
             return ResponseEntity.ok(response);
         } catch (Exception ex) {
-            logger.error("Error fetching sorted employees: {}", ex.getMessage(), ex);
+            logger.error("Error fetching employees by cursor: {}", ex.getMessage(), ex);
             throw ex;
         }
     }
 
+    @GetMapping("/sorted")
+    public ResponseEntity<StreamingResponseBody> getSortedEmployees() {
+        logger.info("Streaming all employees sorted by name and date");
+        StreamingResponseBody body = out -> {
+            try {
+                long total = writeJsonArray(out, employeeService::streamEmployeesSortedByNameAndDate);
+                logger.info("Sorted employees streamed successfully - total: {}", total);
+            } catch (Exception ex) {
+                logger.error("Error streaming sorted employees: {}", ex.getMessage(), ex);
+                throw ex;
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     @GetMapping("/sorted-by-salary")
-    public ResponseEntity<List<EmployeeResponseDTO>> getEmployeesSortedBySalary() {
+    public ResponseEntity<StreamingResponseBody> getEmployeesSortedBySalary() {
+        logger.info("Streaming all employees sorted by salary");
+        StreamingResponseBody body = out -> {
+            try {
+                long total = writeJsonArray(out, employeeService::streamEmployeesSortedBySalary);
+                logger.info("Employees sorted by salary streamed successfully - total: {}", total);
+            } catch (Exception ex) {
+                logger.error("Error streaming employees sorted by salary: {}", ex.getMessage(), ex);
+                throw ex;
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    @GetMapping("/top")
+    public ResponseEntity<List<EmployeeResponseDTO>> getTopEmployees(
+            @RequestParam(defaultValue = "salary") String by,
+            @RequestParam(defaultValue = "10") int n) {
         try {
-            logger.info("Fetching all employees sorted by salary");
-            List<EmployeeResponseDTO> response = employeeService.getAllEmployeesSortedBySalary();
-            logger.info("Employees sorted by salary fetched successfully - total: {}", response.size());
+            logger.info("Fetching top employees - by: {}, n: {}", by, n);
+            List<EmployeeResponseDTO> response = employeeService.getTopEmployees(by, n);
+            logger.info("Top employees fetched successfully - returned: {}", response.size());
             return ResponseEntity.ok(response);
         } catch (Exception ex) {
-            logger.error("Error fetching employees sorted by salary: {}", ex.getMessage(), ex);
+            logger.error("Error fetching top employees: {}", ex.getMessage(), ex);
             throw ex;
         }
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        logger.info("Exporting all employees - format: {}, gzip: {}", format, gzip);
+        boolean csv = FORMAT_CSV.equalsIgnoreCase(format);
+        if (!csv && !FORMAT_NDJSON.equalsIgnoreCase(format)) {
+            logger.warn("Unsupported export format requested: {}", format);
+            throw new InvalidExportFormatException("Unsupported export format: " + format + " (expected ndjson or csv)");
+        }
+        MediaType mediaType = csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON;
+
+        StreamingResponseBody body = out -> {
+            try {
+                OutputStream target = gzip ? new GZIPOutputStream(out, EXPORT_BUFFER_SIZE) : out;
+                long total = csv ? writeCsv(target) : writeNdjson(target);
+                if (target instanceof GZIPOutputStream gzipStream) {
+                    gzipStream.finish();
+                }
+                logger.info("Employees exported successfully - format: {}, total: {}", format, total);
+            } catch (Exception ex) {
+                logger.error("Error exporting employees: {}", ex.getMessage(), ex);
+                throw ex;
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees." + format.toLowerCase() + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<EmployeeResponseDTO> updateEmployee(@PathVariable Long id, @Valid @RequestBody EmployeeUpdateRequestDTO employeeDTO) {
         try {
@@ -110,6 +219,32 @@ public class EmployeeController {
         }
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<EmployeeBatchResponseDTO> createEmployees(@RequestBody List<EmployeeRequestDTO> employeeDTOs) {
+        try {
+            logger.info("Creating employee batch - size: {}", employeeDTOs.size());
+            EmployeeBatchResponseDTO response = employeeService.createEmployees(employeeDTOs);
+            logger.info("Employee batch created - succeeded: {}, failed: {}", response.getSucceeded(), response.getFailed());
+            return ResponseEntity.ok(response);
+        } catch (Exception ex) {
+            logger.error("Error creating employee batch: {}", ex.getMessage(), ex);
+            throw ex;
+        }
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<EmployeeBatchResponseDTO> updateEmployees(@RequestBody List<EmployeeBatchUpdateRequestDTO> employeeDTOs) {
+        try {
+            logger.info("Updating employee batch - size: {}", employeeDTOs.size());
+            EmployeeBatchResponseDTO response = employeeService.updateEmployees(employeeDTOs);
+            logger.info("Employee batch updated - succeeded: {}, failed: {}", response.getSucceeded(), response.getFailed());
+            return ResponseEntity.ok(response);
+        } catch (Exception ex) {
+            logger.error("Error updating employee batch: {}", ex.getMessage(), ex);
+            throw ex;
+        }
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteEmployee(@PathVariable Long id) {
         try {
@@ -122,4 +257,58 @@ public class EmployeeController {
             throw ex;
         }
     }
+
+    // Writes rows as a JSON array while the service streams them, so the response never holds the full list.
+    // The generator is only flushed on success; a failure before the first buffered bytes still yields a clean 500.
+    private long writeJsonArray(OutputStream out, Consumer<Consumer<EmployeeResponseDTO>> source) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(out);
+        AtomicLong count = new AtomicLong();
+        generator.writeStartArray();
+        source.accept(dto -> {
+            try {
+                generator.writeObject(dto);
+                count.incrementAndGet();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        generator.writeEndArray();
+        generator.flush();
+        return count.get();
+    }
+
+    private long writeNdjson(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(out);
+        generator.setRootValueSeparator(null);
+        AtomicLong count = new AtomicLong();
+        employeeService.streamAllEmployees(dto -> {
+            try {
+                generator.writeObject(dto);
+                generator.writeRaw('\n');
+                count.incrementAndGet();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        generator.flush();
+        return count.get();
+    }
+
+    private long writeCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+        AtomicLong count = new AtomicLong();
+        writer.write(EmployeeCsvFormat.HEADER);
+        writer.write('\n');
+        employeeService.streamAllEmployees(dto -> {
+            try {
+                writer.write(EmployeeCsvFormat.toRow(dto));
+                writer.write('\n');
+                count.incrementAndGet();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        writer.flush();
+        return count.get();
+    }
 }
@@ -0,0 +1,38 @@
+package com.company.ems.controller;
+
+import com.company.ems.dto.EmployeeImportResultDTO;
+import com.company.ems.service.IEmployeeImportService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/employees/import")
+@Tag(name = "Employee Import", description = "Bulk import of employees from CSV files")
+public class EmployeeImportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeImportController.class);
+
+    @Autowired
+    private IEmployeeImportService employeeImportService;
+
+    @PostMapping(consumes = {"text/csv", "text/plain", "application/octet-stream"})
+    public ResponseEntity<EmployeeImportResultDTO> importEmployees(InputStream csv) {
+        try {
+            logger.info("Starting bulk employee import");
+            EmployeeImportResultDTO response = employeeImportService.importEmployees(csv);
+            logger.info("Bulk employee import completed - imported: {}, failed: {}", response.getImportedRows(), response.getFailedRows());
+            return ResponseEntity.ok(response);
+        } catch (Exception ex) {
+            logger.error("Error importing employees: {}", ex.getMessage(), ex);
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.company.ems.controller;
+
+import com.company.ems.dto.SalaryDistributionDTO;
+import com.company.ems.service.ISalaryDistributionService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/salary-distribution")
+@Tag(name = "Salary Distribution", description = "Approximate salary percentiles and histograms by department and role")
+public class SalaryDistributionController {
+
+    private static final Logger logger = LoggerFactory.getLogger(SalaryDistributionController.class);
+
+    @Autowired
+    private ISalaryDistributionService salaryDistributionService;
+
+    @GetMapping
+    public ResponseEntity<SalaryDistributionDTO> getDistribution(
+            @RequestParam(name = "departmentId", required = false) List<Long> departmentIds,
+            @RequestParam(required = false) String role,
+            @RequestParam(defaultValue = "10") int bins) {
+        try {
+            logger.info("Fetching salary distribution - departments: {}, role: {}, bins: {}", departmentIds, role, bins);
+            SalaryDistributionDTO response = salaryDistributionService.getDistribution(departmentIds, role, bins);
+            logger.info("Salary distribution fetched successfully - count: {}", response.getCount());
+            return ResponseEntity.ok(response);
+        } catch (Exception ex) {
+            logger.error("Error fetching salary distribution: {}", ex.getMessage(), ex);
+            throw ex;
+        }
+    }
+}
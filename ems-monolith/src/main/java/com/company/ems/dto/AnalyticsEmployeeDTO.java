@@ -0,0 +1,12 @@
+package com.company.ems.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class AnalyticsEmployeeDTO {
+    private String name;
+    private String role;
+    private Integer performanceScore;
+}
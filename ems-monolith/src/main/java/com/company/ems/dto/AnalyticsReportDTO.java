@@ -0,0 +1,21 @@
+package com.company.ems.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Getter
+@Setter
+public class AnalyticsReportDTO {
+    private long employeeCount;
+    private long elapsedMillis;
+    private Map<String, Double> averageSalary = new TreeMap<>();
+    private List<AnalyticsEmployeeDTO> topPerformers = new ArrayList<>();
+    private List<AnalyticsEmployeeDTO> attritionRisk = new ArrayList<>();
+    private SalaryRegressionDTO salaryRegression;
+    private List<EmployeeSegmentDTO> segments = new ArrayList<>();
+    private List<SegmentSummaryDTO> segmentSummaries = new ArrayList<>();
+}
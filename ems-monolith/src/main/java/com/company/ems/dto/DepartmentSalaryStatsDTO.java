@@ -0,0 +1,16 @@
+package com.company.ems.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class DepartmentSalaryStatsDTO {
+    private Long departmentId;
+    private String departmentName;
+    private Long headcount;
+    private Double totalSalary;
+    private Double averageSalary;
+    private Double minSalary;
+    private Double maxSalary;
+}
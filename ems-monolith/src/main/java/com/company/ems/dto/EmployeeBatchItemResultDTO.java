@@ -0,0 +1,14 @@
+package com.company.ems.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class EmployeeBatchItemResultDTO {
+    private int index;
+    private int status;
+    private Long id;
+    private String message;
+    private EmployeeResponseDTO employee;
+}
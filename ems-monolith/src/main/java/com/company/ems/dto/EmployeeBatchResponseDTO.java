@@ -0,0 +1,14 @@
+package com.company.ems.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+public class EmployeeBatchResponseDTO {
+    private int succeeded;
+    private int failed;
+    private List<EmployeeBatchItemResultDTO> results = new ArrayList<>();
+}
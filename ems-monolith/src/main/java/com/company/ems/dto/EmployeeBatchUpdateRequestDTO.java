@@ -0,0 +1,12 @@
+package com.company.ems.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class EmployeeBatchUpdateRequestDTO extends EmployeeUpdateRequestDTO {
+    @NotNull(message = "id is required")
+    private Long id;
+}
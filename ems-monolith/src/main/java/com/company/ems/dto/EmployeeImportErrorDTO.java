@@ -0,0 +1,11 @@
+package com.company.ems.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class EmployeeImportErrorDTO {
+    private long line;
+    private String message;
+}
@@ -0,0 +1,17 @@
+package com.company.ems.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+public class EmployeeImportResultDTO {
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<EmployeeImportErrorDTO> errors = new ArrayList<>();
+}
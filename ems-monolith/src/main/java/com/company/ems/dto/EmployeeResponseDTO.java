@@ -1,11 +1,13 @@
 package com.company.ems.dto;
 
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import java.time.LocalDate;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class EmployeeResponseDTO {
     private Long id;
     private String name;
@@ -13,5 +15,22 @@ public class EmployeeResponseDTO {
     private Double salary;
     private LocalDate joiningDate;
     private String departmentName;
+    private Integer performanceScore;
     private java.util.Set<String> projectNames;
+
+    public EmployeeResponseDTO(Long id, String name, String role, Double salary, LocalDate joiningDate, String departmentName) {
+        this(id, name, role, salary, joiningDate, departmentName, null);
+    }
+
+    // Constructor expression target for the read-only views in EmployeeRepository.
+    public EmployeeResponseDTO(Long id, String name, String role, Double salary, LocalDate joiningDate, String departmentName,
+                               Integer performanceScore) {
+        this.id = id;
+        this.name = name;
+        this.role = role;
+        this.salary = salary;
+        this.joiningDate = joiningDate;
+        this.departmentName = departmentName;
+        this.performanceScore = performanceScore;
+    }
 }
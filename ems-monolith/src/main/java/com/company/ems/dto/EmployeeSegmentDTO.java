@@ -0,0 +1,11 @@
+package com.company.ems.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class EmployeeSegmentDTO {
+    private String name;
+    private int segment;
+}
@@ -0,0 +1,14 @@
+package com.company.ems.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import java.util.List;
+
+@Getter
+@Setter
+public class EmployeeSliceResponseDTO {
+    private List<EmployeeResponseDTO> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,21 @@
+package com.company.ems.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+public class SalaryDistributionDTO {
+    private List<Long> departmentIds = new ArrayList<>();
+    private String role;
+    private long count;
+    private Double min;
+    private Double p50;
+    private Double p90;
+    private Double p99;
+    private Double max;
+    private double relativeAccuracy;
+    private List<SalaryHistogramBinDTO> histogram = new ArrayList<>();
+}
@@ -0,0 +1,12 @@
+package com.company.ems.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class SalaryHistogramBinDTO {
+    private double lower;
+    private double upper;
+    private long count;
+}
@@ -0,0 +1,13 @@
+package com.company.ems.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class SalaryRegressionDTO {
+    private double coefficient;
+    private double intercept;
+    private double mse;
+    private double r2Score;
+}
@@ -0,0 +1,13 @@
+package com.company.ems.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class SegmentSummaryDTO {
+    private int segment;
+    private long size;
+    private double averageSalary;
+    private double averagePerformanceScore;
+}
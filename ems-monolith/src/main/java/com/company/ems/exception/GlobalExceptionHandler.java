@@ -33,7 +33,9 @@ public class GlobalExceptionHandler {
         }
     }
 
-    @ExceptionHandler(InvalidProjectDurationException.class)
+    @ExceptionHandler({InvalidProjectDurationException.class, InvalidCursorException.class, InvalidExportFormatException.class,
+            InvalidImportFileException.class, InvalidBatchRequestException.class, InvalidTopRequestException.class,
+            InvalidDistributionRequestException.class})
     public ResponseEntity<?> handleBadRequestException(RuntimeException ex, WebRequest request) {
         try {
             logger.warn("Bad request: {}", ex.getMessage());
@@ -0,0 +1,7 @@
+package com.company.ems.exception;
+
+public class InvalidDistributionRequestException extends RuntimeException {
+    public InvalidDistributionRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.company.ems.exception;
+
+public class InvalidTopRequestException extends RuntimeException {
+    public InvalidTopRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,29 @@
+package com.company.ems.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(indexes = @Index(name = "idx_department_report_snapshot_generated_at", columnList = "generated_at"))
+@Getter
+@Setter
+public class DepartmentReportSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "department_report_snapshot_seq")
+    @SequenceGenerator(name = "department_report_snapshot_seq", sequenceName = "department_report_snapshot_seq", allocationSize = 50)
+    private Long id;
+
+    private LocalDateTime generatedAt;
+
+    // Copied rather than referenced, so a snapshot survives renames and deletes of the department
+    private Long departmentId;
+    private String departmentName;
+
+    private Long headcount;
+    private Double totalSalary;
+    private Double averageSalary;
+    private Double minSalary;
+    private Double maxSalary;
+}
@@ -0,0 +1,28 @@
+package com.company.ems.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+public class DepartmentSalarySummary {
+    // Shares the department's id; the row is removed with the department (ON DELETE CASCADE)
+    @Id
+    private Long departmentId;
+
+    private Long headcount;
+    private Double totalSalary;
+    private Double minSalary;
+    private Double maxSalary;
+
+    /** Figures of a department without employees. */
+    public static DepartmentSalarySummary empty(Long departmentId) {
+        DepartmentSalarySummary summary = new DepartmentSalarySummary();
+        summary.setDepartmentId(departmentId);
+        summary.setHeadcount(0L);
+        summary.setTotalSalary(0.0);
+        return summary;
+    }
+}
@@ -7,17 +7,25 @@ import java.time.LocalDate;
 import java.util.Set;
 
 @Entity
+// Mirrors db/migration, which owns the schema
+@Table(indexes = {
+    @Index(name = "idx_employee_department_id_salary", columnList = "department_id, salary"),
+    @Index(name = "idx_employee_name_joining_date_id", columnList = "name, joining_date, id"),
+    @Index(name = "idx_employee_salary_id", columnList = "salary, id")
+})
 @Getter
 @Setter
 public class Employee implements Comparable<Employee> {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_seq")
+    @SequenceGenerator(name = "employee_seq", sequenceName = "employee_seq", allocationSize = 50)
     private Long id;
 
     private String name;
     private String role;
     private Double salary;
     private LocalDate joiningDate;
+    private Integer performanceScore;
 
     @ManyToOne
     @JoinColumn(name = "department_id")
@@ -0,0 +1,22 @@
+package com.company.ems.repository;
+
+import com.company.ems.model.DepartmentReportSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DepartmentReportSnapshotRepository extends JpaRepository<DepartmentReportSnapshot, Long> {
+
+    List<DepartmentReportSnapshot> findByGeneratedAtOrderByDepartmentId(LocalDateTime generatedAt);
+
+    // One bulk statement over the generated_at index; no snapshot is loaded into the persistence context.
+    @Modifying
+    @Query("delete from DepartmentReportSnapshot s where s.generatedAt < :cutoff")
+    int deleteGeneratedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
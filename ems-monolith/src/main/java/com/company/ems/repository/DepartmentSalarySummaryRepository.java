@@ -0,0 +1,20 @@
+package com.company.ems.repository;
+
+import com.company.ems.model.DepartmentSalarySummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface DepartmentSalarySummaryRepository extends JpaRepository<DepartmentSalarySummary, Long> {
+
+    // Row lock held until the employee write commits, so concurrent writers to one department serialize here.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from DepartmentSalarySummary s where s.departmentId = :departmentId")
+    Optional<DepartmentSalarySummary> findForUpdate(@Param("departmentId") Long departmentId);
+}
@@ -1,12 +1,173 @@
 package com.company.ems.repository;
 
+import com.company.ems.dto.EmployeeResponseDTO;
 import com.company.ems.model.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
-    Page<Employee> findByDepartmentName(String departmentName, Pageable pageable);
+
+    // Read-only views select the response columns straight into the DTO: no managed entities,
+    // no dirty-checking snapshots. Project names are filled in afterwards from findProjectNamesByEmployeeIdIn.
+    String VIEW = "select new com.company.ems.dto.EmployeeResponseDTO(e.id, e.name, e.role, e.salary, e.joiningDate, d.name,"
+            + " e.performanceScore)"
+            + " from Employee e left join e.department d";
+
+    interface EmployeeProjectName {
+        Long getEmployeeId();
+
+        String getProjectName();
+    }
+
+    interface EmployeeScore {
+        Long getId();
+
+        Integer getPerformanceScore();
+    }
+
+    interface EmployeeRoleSalary {
+        String getRole();
+
+        Double getSalary();
+    }
+
+    interface DepartmentSalaryAggregate {
+        Long getDepartmentId();
+
+        String getDepartmentName();
+
+        Long getHeadcount();
+
+        Double getTotalSalary();
+
+        Double getAverageSalary();
+
+        Double getMinSalary();
+
+        Double getMaxSalary();
+    }
+
+    interface EmployeeAnalyticsRow {
+        String getName();
+
+        String getRole();
+
+        Double getSalary();
+
+        LocalDate getJoiningDate();
+
+        String getDepartmentName();
+
+        Integer getPerformanceScore();
+    }
+
+    @Override
+    @EntityGraph(attributePaths = {"department", "projects"})
+    Optional<Employee> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = "department")
+    List<Employee> findAll();
+
+    // Department is to-one, so it can be fetched in the page query without breaking LIMIT/OFFSET.
+    @Override
+    @EntityGraph(attributePaths = "department")
+    Page<Employee> findAll(Pageable pageable);
+
+    @Query(VIEW + " where e.id = :id")
+    Optional<EmployeeResponseDTO> findViewById(@Param("id") Long id);
+
+    @Query(value = VIEW, countQuery = "select count(e) from Employee e")
+    Page<EmployeeResponseDTO> findAllViews(Pageable pageable);
+
+    // The page content and its count are separate queries so that only the count goes through the query cache.
+    @Query(VIEW + " where d.name = :departmentName")
+    List<EmployeeResponseDTO> findViewsByDepartmentName(@Param("departmentName") String departmentName, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    long countByDepartmentName(String departmentName);
+
+    // Keyset pagination: seeks past the last seen id and returns a Slice, so no count query is issued.
+    @Query(VIEW + " where e.id > :id order by e.id")
+    Slice<EmployeeResponseDTO> findViewsByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    @Query(VIEW + " where d.name = :departmentName and e.id > :id order by e.id")
+    Slice<EmployeeResponseDTO> findViewsByDepartmentNameAndIdGreaterThan(@Param("departmentName") String departmentName,
+                                                                         @Param("id") Long id, Pageable pageable);
+
+    @Query(VIEW + " where e.id in :ids")
+    List<EmployeeResponseDTO> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Highest salaries first, as ORDER BY ... LIMIT: both keys descending so idx_employee_salary_id is read backwards.
+    @Query(VIEW + " order by e.salary desc, e.id desc")
+    List<EmployeeResponseDTO> findTopViewsBySalary(Pageable limit);
+
+    // Only the two ranking columns of reviewed employees, for an in-memory top-N over the whole table.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select e.id as id, e.performanceScore as performanceScore from Employee e where e.performanceScore is not null")
+    Stream<EmployeeScore> streamPerformanceScores();
+
+    // Ordered, cursor-backed reads for full-roster listings; callers must consume them inside a transaction
+    // and close the stream. The trailing id keeps the order total for rows with equal sort keys.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(VIEW + " order by e.name, e.joiningDate, e.id")
+    Stream<EmployeeResponseDTO> streamAllOrderByNameAndJoiningDate();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(VIEW + " order by e.salary, e.id")
+    Stream<EmployeeResponseDTO> streamAllOrderBySalary();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(VIEW + " order by e.id")
+    Stream<EmployeeResponseDTO> streamAllOrderById();
+
+    // The analytics columns of every employee in one forward-only pass
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select e.name as name, e.role as role, e.salary as salary, e.joiningDate as joiningDate,"
+            + " d.name as departmentName, e.performanceScore as performanceScore"
+            + " from Employee e left join e.department d order by e.id")
+    Stream<EmployeeAnalyticsRow> streamAnalyticsRows();
+
+    // Served from idx_employee_department_id_salary
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select e.role as role, e.salary as salary from Employee e where e.department.id = :departmentId")
+    Stream<EmployeeRoleSalary> streamRoleSalariesByDepartmentId(@Param("departmentId") Long departmentId);
+
+    // Loads the targets of a batch update with everything the response mapping touches.
+    @EntityGraph(attributePaths = {"department", "projects"})
+    List<Employee> findAllByIdIn(Collection<Long> ids);
+
+    // Project names of a whole page as flat employee/project rows: one statement whatever the page size,
+    // stitched into the views in memory instead of walking each employee's lazy projects set.
+    @Query("select e.id as employeeId, p.name as projectName from Employee e join e.projects p where e.id in :ids")
+    List<EmployeeProjectName> findProjectNamesByEmployeeIdIn(@Param("ids") Collection<Long> ids);
+
+    // Per-department headcount and salary figures, grouped in the database and read through a cursor.
+    // Employees without a department are not part of any group.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select d.id as departmentId, d.name as departmentName, count(e) as headcount, sum(e.salary) as totalSalary,"
+            + " avg(e.salary) as averageSalary, min(e.salary) as minSalary, max(e.salary) as maxSalary"
+            + " from Employee e join e.department d group by d.id, d.name order by d.id")
+    Stream<DepartmentSalaryAggregate> streamDepartmentSalaryAggregates();
+
+    @Query("select d.id as departmentId, d.name as departmentName, count(e) as headcount, sum(e.salary) as totalSalary,"
+            + " avg(e.salary) as averageSalary, min(e.salary) as minSalary, max(e.salary) as maxSalary"
+            + " from Employee e join e.department d where d.id in :departmentIds group by d.id, d.name")
+    List<DepartmentSalaryAggregate> findDepartmentSalaryAggregates(@Param("departmentIds") Collection<Long> departmentIds);
 }
@@ -0,0 +1,174 @@
+package com.company.ems.service;
+
+import com.company.ems.analytics.EmployeeColumns;
+import com.company.ems.analytics.KMeans;
+import com.company.ems.analytics.LinearRegression;
+import com.company.ems.analytics.TopN;
+import com.company.ems.dto.AnalyticsEmployeeDTO;
+import com.company.ems.dto.AnalyticsReportDTO;
+import com.company.ems.dto.EmployeeSegmentDTO;
+import com.company.ems.dto.SalaryRegressionDTO;
+import com.company.ems.dto.SegmentSummaryDTO;
+import com.company.ems.repository.EmployeeRepository;
+import com.company.ems.repository.EmployeeRepository.EmployeeAnalyticsRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Year;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Employee analytics computed in the JVM: the employee table is streamed once into {@link EmployeeColumns}
+ * and every figure is derived from those primitive columns, with the per-row work spread over the
+ * common fork-join pool.
+ */
+@Service
+public class AnalyticsServiceImpl implements IAnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsServiceImpl.class);
+
+    static final double TOP_PERFORMER_SCORE = 90;
+    static final double ATTRITION_RISK_SCORE = 80;
+    static final int MIN_MODEL_ROWS = 5;
+    static final double TEST_FRACTION = 0.2;
+    static final int SEGMENTS = 3;
+    static final int SEGMENT_RESTARTS = 10;
+    static final long SEED = 42;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Value("${ems.analytics.top-performers:10}")
+    private int topPerformers = 10;
+
+    @Override
+    @Transactional(readOnly = true)
+    public AnalyticsReportDTO generateReport() {
+        long started = System.nanoTime();
+        try {
+            logger.debug("Generating employee analytics report");
+            EmployeeColumns columns = loadColumns();
+            AnalyticsReportDTO report = analyze(columns);
+            report.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+            logger.info("Employee analytics report generated - employees: {}, elapsed ms: {}",
+                    report.getEmployeeCount(), report.getElapsedMillis());
+            return report;
+        } catch (Exception ex) {
+            logger.error("Error generating employee analytics report: {}", ex.getMessage(), ex);
+            throw ex;
+        }
+    }
+
+    private EmployeeColumns loadColumns() {
+        EmployeeColumns.Builder builder = EmployeeColumns.builder(Year.now().getValue());
+        try (Stream<EmployeeAnalyticsRow> rows = employeeRepository.streamAnalyticsRows()) {
+            rows.forEach(row -> builder.add(row.getName(), row.getRole(), row.getSalary(), row.getJoiningDate(),
+                    row.getDepartmentName(), row.getPerformanceScore()));
+        }
+        return builder.build();
+    }
+
+    AnalyticsReportDTO analyze(EmployeeColumns columns) {
+        AnalyticsReportDTO report = new AnalyticsReportDTO();
+        report.setEmployeeCount(columns.size());
+        averageSalaryByDepartment(columns, report);
+
+        double[] scores = columns.performanceScores();
+        for (int row : TopN.select(scores, topPerformers, row -> scores[row] > TOP_PERFORMER_SCORE)) {
+            report.getTopPerformers().add(employee(columns, row));
+        }
+        // Kept in table order, like the list HR works through
+        IntStream.range(0, columns.size()).filter(row -> scores[row] < ATTRITION_RISK_SCORE)
+                .forEach(row -> report.getAttritionRisk().add(employee(columns, row)));
+
+        // The models only use reviewed employees
+        int[] scored = IntStream.range(0, columns.size()).filter(columns::hasPerformanceScore).toArray();
+        if (scored.length < MIN_MODEL_ROWS) {
+            logger.warn("Only {} employees have a performance score - skipping regression and segmentation", scored.length);
+            report.setSalaryRegression(new SalaryRegressionDTO());
+            return report;
+        }
+        report.setSalaryRegression(salaryRegression(columns, scored));
+        segment(columns, scored, report);
+        return report;
+    }
+
+    private void averageSalaryByDepartment(EmployeeColumns columns, AnalyticsReportDTO report) {
+        int departments = columns.departmentNames().size();
+        double[] salaries = columns.salaries();
+        int[] departmentOf = columns.departments();
+        // One {sum, count} pair per department and worker, merged at the end
+        double[] totals = IntStream.range(0, columns.size()).parallel().collect(() -> new double[departments * 2],
+                (acc, row) -> {
+                    acc[departmentOf[row] * 2] += salaries[row];
+                    acc[departmentOf[row] * 2 + 1]++;
+                },
+                (left, right) -> {
+                    for (int i = 0; i < left.length; i++) {
+                        left[i] += right[i];
+                    }
+                });
+        for (int d = 0; d < departments; d++) {
+            report.getAverageSalary().put(columns.departmentNames().get(d), totals[d * 2] / totals[d * 2 + 1]);
+        }
+    }
+
+    private SalaryRegressionDTO salaryRegression(EmployeeColumns columns, int[] rows) {
+        int[][] split = LinearRegression.trainTestSplit(rows, TEST_FRACTION, SEED);
+        double[] experience = columns.yearsExperience();
+        double[] salaries = columns.salaries();
+        LinearRegression model = LinearRegression.fit(experience, salaries, split[0]);
+        SalaryRegressionDTO dto = new SalaryRegressionDTO();
+        dto.setCoefficient(model.getCoefficient());
+        dto.setIntercept(model.getIntercept());
+        dto.setMse(model.meanSquaredError(experience, salaries, split[1]));
+        dto.setR2Score(model.r2Score(experience, salaries, split[1]));
+        return dto;
+    }
+
+    private void segment(EmployeeColumns columns, int[] rows, AnalyticsReportDTO report) {
+        double[] salaries = columns.salaries();
+        double[] scores = columns.performanceScores();
+        double[][] features = {
+                IntStream.of(rows).mapToDouble(row -> salaries[row]).toArray(),
+                IntStream.of(rows).mapToDouble(row -> scores[row]).toArray()
+        };
+        KMeans.standardize(features);
+        int[] labels = KMeans.fit(features, SEGMENTS, SEGMENT_RESTARTS, SEED).getLabels();
+
+        int segments = labels.length == 0 ? 0 : IntStream.of(labels).max().getAsInt() + 1;
+        long[] sizes = new long[segments];
+        double[] salaryTotals = new double[segments];
+        double[] scoreTotals = new double[segments];
+        for (int i = 0; i < rows.length; i++) {
+            EmployeeSegmentDTO dto = new EmployeeSegmentDTO();
+            dto.setName(columns.name(rows[i]));
+            dto.setSegment(labels[i]);
+            report.getSegments().add(dto);
+            sizes[labels[i]]++;
+            salaryTotals[labels[i]] += salaries[rows[i]];
+            scoreTotals[labels[i]] += scores[rows[i]];
+        }
+        for (int s = 0; s < segments; s++) {
+            SegmentSummaryDTO summary = new SegmentSummaryDTO();
+            summary.setSegment(s);
+            summary.setSize(sizes[s]);
+            summary.setAverageSalary(sizes[s] > 0 ? salaryTotals[s] / sizes[s] : 0);
+            summary.setAveragePerformanceScore(sizes[s] > 0 ? scoreTotals[s] / sizes[s] : 0);
+            report.getSegmentSummaries().add(summary);
+        }
+    }
+
+    private static AnalyticsEmployeeDTO employee(EmployeeColumns columns, int row) {
+        AnalyticsEmployeeDTO dto = new AnalyticsEmployeeDTO();
+        dto.setName(columns.name(row));
+        dto.setRole(columns.role(row));
+        dto.setPerformanceScore((int) columns.performanceScores()[row]);
+        return dto;
+    }
+}
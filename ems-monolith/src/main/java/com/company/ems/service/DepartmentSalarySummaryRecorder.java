@@ -0,0 +1,182 @@
+package com.company.ems.service;
+
+import com.company.ems.model.DepartmentSalarySummary;
+import com.company.ems.repository.DepartmentSalarySummaryRepository;
+import com.company.ems.repository.EmployeeRepository;
+import com.company.ems.repository.EmployeeRepository.DepartmentSalaryAggregate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the department_salary_summary rows in step with employee writes. Callers collect the salary
+ * movements of one write in {@link Changes} and apply them inside the write's transaction, so the
+ * summary commits or rolls back together with the employees.
+ */
+@Component
+public class DepartmentSalarySummaryRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(DepartmentSalarySummaryRecorder.class);
+
+    @Autowired
+    private DepartmentSalarySummaryRepository summaryRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /** Salaries entering and leaving departments, grouped by department id in ascending order. */
+    public static final class Changes {
+        private final Map<Long, List<Entry>> added = new TreeMap<>();
+        private final Map<Long, List<Entry>> removed = new TreeMap<>();
+
+        public Changes add(Long departmentId, String role, Double salary) {
+            if (departmentId != null && salary != null) {
+                added.computeIfAbsent(departmentId, id -> new ArrayList<>()).add(new Entry(role, salary));
+            }
+            return this;
+        }
+
+        public Changes remove(Long departmentId, String role, Double salary) {
+            if (departmentId != null && salary != null) {
+                removed.computeIfAbsent(departmentId, id -> new ArrayList<>()).add(new Entry(role, salary));
+            }
+            return this;
+        }
+
+        public Changes move(Long fromDepartmentId, String fromRole, Double fromSalary,
+                            Long toDepartmentId, String toRole, Double toSalary) {
+            if (Objects.equals(fromDepartmentId, toDepartmentId) && Objects.equals(fromRole, toRole)
+                    && Objects.equals(fromSalary, toSalary)) {
+                return this;
+            }
+            return remove(fromDepartmentId, fromRole, fromSalary).add(toDepartmentId, toRole, toSalary);
+        }
+
+        Set<Long> departmentIds() {
+            Set<Long> ids = new TreeSet<>(added.keySet());
+            ids.addAll(removed.keySet());
+            return ids;
+        }
+
+        List<Entry> added(Long departmentId) {
+            return added.getOrDefault(departmentId, List.of());
+        }
+
+        List<Entry> removed(Long departmentId) {
+            return removed.getOrDefault(departmentId, List.of());
+        }
+    }
+
+    static final class Entry {
+        final String role;
+        final double salary;
+
+        private Entry(String role, double salary) {
+            this.role = role;
+            this.salary = salary;
+        }
+    }
+
+    /** Published when the summaries of some departments were recomputed from the employee table. */
+    public static final class Rebuilt {
+        private final Set<Long> departmentIds;
+
+        Rebuilt(Set<Long> departmentIds) {
+            this.departmentIds = departmentIds;
+        }
+
+        public Set<Long> getDepartmentIds() {
+            return departmentIds;
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Changes changes) {
+        // Ascending id order: two writers touching the same departments take the row locks in the same order
+        for (Long departmentId : changes.departmentIds()) {
+            // Every department gets its row when created (or from V4/V7), so there is always a row to lock here
+            DepartmentSalarySummary summary = summaryRepository.findForUpdate(departmentId)
+                    .orElseGet(() -> DepartmentSalarySummary.empty(departmentId));
+            changes.added(departmentId).forEach(entry -> add(summary, entry.salary));
+            boolean extremeRemoved = false;
+            for (Entry entry : changes.removed(departmentId)) {
+                extremeRemoved |= remove(summary, entry.salary);
+            }
+            if (extremeRemoved) {
+                // Only a departing min or max needs the employee table; the query flushes this transaction's writes first
+                List<DepartmentSalaryAggregate> current = employeeRepository.findDepartmentSalaryAggregates(List.of(departmentId));
+                summary.setMinSalary(current.isEmpty() ? null : current.get(0).getMinSalary());
+                summary.setMaxSalary(current.isEmpty() ? null : current.get(0).getMaxSalary());
+            }
+            summaryRepository.save(summary);
+        }
+        // Listeners that keep in-memory views of the salaries see the changes once this transaction commits
+        eventPublisher.publishEvent(changes);
+        logger.debug("Department salary summaries updated for departments: {}", changes.departmentIds());
+    }
+
+    /** Recomputes the summaries of the given departments from the employee table, e.g. after a JDBC bulk load. */
+    @Transactional
+    public void rebuild(Collection<Long> departmentIds) {
+        Set<Long> ids = new TreeSet<>(departmentIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+        Map<Long, DepartmentSalaryAggregate> aggregates = employeeRepository.findDepartmentSalaryAggregates(ids).stream()
+                .collect(Collectors.toMap(DepartmentSalaryAggregate::getDepartmentId, Function.identity()));
+        for (Long departmentId : ids) {
+            DepartmentSalarySummary summary = summaryRepository.findForUpdate(departmentId)
+                    .orElseGet(() -> DepartmentSalarySummary.empty(departmentId));
+            DepartmentSalaryAggregate aggregate = aggregates.get(departmentId);
+            summary.setHeadcount(aggregate == null ? 0L : aggregate.getHeadcount());
+            summary.setTotalSalary(aggregate == null ? 0.0 : aggregate.getTotalSalary());
+            summary.setMinSalary(aggregate == null ? null : aggregate.getMinSalary());
+            summary.setMaxSalary(aggregate == null ? null : aggregate.getMaxSalary());
+            summaryRepository.save(summary);
+        }
+        eventPublisher.publishEvent(new Rebuilt(ids));
+        logger.info("Department salary summaries rebuilt for {} departments", ids.size());
+    }
+
+    private static void add(DepartmentSalarySummary summary, Double salary) {
+        summary.setHeadcount(summary.getHeadcount() + 1);
+        summary.setTotalSalary(summary.getTotalSalary() + salary);
+        if (summary.getMinSalary() == null || salary < summary.getMinSalary()) {
+            summary.setMinSalary(salary);
+        }
+        if (summary.getMaxSalary() == null || salary > summary.getMaxSalary()) {
+            summary.setMaxSalary(salary);
+        }
+    }
+
+    // Returns true when the removed salary was the current min or max, which then has to be looked up again.
+    private static boolean remove(DepartmentSalarySummary summary, Double salary) {
+        summary.setHeadcount(Math.max(0, summary.getHeadcount() - 1));
+        if (summary.getHeadcount() == 0) {
+            summary.setTotalSalary(0.0);
+            summary.setMinSalary(null);
+            summary.setMaxSalary(null);
+            return false;
+        }
+        summary.setTotalSalary(summary.getTotalSalary() - salary);
+        return salary.equals(summary.getMinSalary()) || salary.equals(summary.getMaxSalary());
+    }
+}
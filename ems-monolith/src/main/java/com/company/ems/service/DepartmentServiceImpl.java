@@ -1,15 +1,20 @@
 package com.company.ems.service;
 
+import com.company.ems.cache.ReferenceDataCache;
 import com.company.ems.dto.DepartmentRequestDTO;
 import com.company.ems.dto.DepartmentResponseDTO;
+import com.company.ems.dto.DepartmentSalaryStatsDTO;
 import com.company.ems.dto.DepartmentUpdateRequestDTO;
 import com.company.ems.exception.DepartmentNotFoundException;
 import com.company.ems.model.Department;
+import com.company.ems.model.DepartmentSalarySummary;
 import com.company.ems.repository.DepartmentRepository;
+import com.company.ems.repository.DepartmentSalarySummaryRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
@@ -22,13 +27,24 @@ public class DepartmentServiceImpl implements IDepartmentService {
     @Autowired
     private DepartmentRepository departmentRepository;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private DepartmentSalarySummaryRepository salarySummaryRepository;
+
     @Override
+    @Transactional
     public DepartmentResponseDTO createDepartment(DepartmentRequestDTO departmentDTO) {
         try {
             logger.debug("Creating department with name: {}", departmentDTO.getName());
             Department department = new Department();
             department.setName(departmentDTO.getName());
             Department saved = departmentRepository.save(department);
+            // The zero summary row commits with the department, so concurrent first employee writes lock
+            // this row instead of racing to insert it
+            salarySummaryRepository.save(DepartmentSalarySummary.empty(saved.getId()));
+            referenceDataCache.evictDepartment(saved.getId());
             logger.info("Department created successfully with id: {}", saved.getId());
             return mapToResponseDTO(saved);
         } catch (Exception ex) {
@@ -41,7 +57,7 @@ public class DepartmentServiceImpl implements IDepartmentService {
     public DepartmentResponseDTO getDepartmentById(Long id) {
         try {
             logger.debug("Fetching department with id: {}", id);
-            Department department = departmentRepository.findById(id)
+            Department department = referenceDataCache.findDepartment(id)
                     .orElseThrow(() -> new DepartmentNotFoundException("Department not found with id: " + id));
             logger.info("Department fetched successfully with id: {}", id);
             return mapToResponseDTO(department);
@@ -58,7 +74,7 @@ public class DepartmentServiceImpl implements IDepartmentService {
     public List<DepartmentResponseDTO> getAllDepartments() {
         try {
             logger.debug("Fetching all departments and sorting using TreeSet");
-            List<Department> departments = departmentRepository.findAll();
+            List<Department> departments = referenceDataCache.findAllDepartments();
             
             // Using TreeSet to demonstrate sorting with Comparable
             TreeSet<Department> sortedDepartments = new TreeSet<>(departments);
@@ -83,6 +99,7 @@ public class DepartmentServiceImpl implements IDepartmentService {
                     .orElseThrow(() -> new DepartmentNotFoundException("Department not found with id: " + id));
             department.setName(departmentDTO.getName());
             Department updated = departmentRepository.save(department);
+            referenceDataCache.evictDepartment(id);
             logger.info("Department updated successfully with id: {}", id);
             return mapToResponseDTO(updated);
         } catch (DepartmentNotFoundException ex) {
@@ -101,6 +118,7 @@ public class DepartmentServiceImpl implements IDepartmentService {
             Department department = departmentRepository.findById(id)
                     .orElseThrow(() -> new DepartmentNotFoundException("Department not found with id: " + id));
             departmentRepository.delete(department);
+            referenceDataCache.evictDepartment(id);
             logger.info("Department deleted successfully with id: {}", id);
         } catch (DepartmentNotFoundException ex) {
             logger.warn("Department not found with id: {}", id);
@@ -111,6 +129,39 @@ public class DepartmentServiceImpl implements IDepartmentService {
         }
     }
 
+    @Override
+    public DepartmentSalaryStatsDTO getSalaryStats(Long id) {
+        try {
+            logger.debug("Fetching salary stats for department with id: {}", id);
+            Department department = referenceDataCache.findDepartment(id)
+                    .orElseThrow(() -> new DepartmentNotFoundException("Department not found with id: " + id));
+            // One primary-key read of the summary kept up to date by employee writes; no scan of the employee table
+            DepartmentSalaryStatsDTO dto = new DepartmentSalaryStatsDTO();
+            dto.setDepartmentId(department.getId());
+            dto.setDepartmentName(department.getName());
+            dto.setHeadcount(0L);
+            dto.setTotalSalary(0.0);
+            dto.setAverageSalary(0.0);
+            salarySummaryRepository.findById(id).ifPresent(summary -> copySummary(summary, dto));
+            logger.info("Salary stats fetched successfully for department with id: {}", id);
+            return dto;
+        } catch (DepartmentNotFoundException ex) {
+            logger.warn("Department not found with id: {}", id);
+            throw ex;
+        } catch (Exception ex) {
+            logger.error("Error fetching salary stats for department with id {}: {}", id, ex.getMessage(), ex);
+            throw ex;
+        }
+    }
+
+    private void copySummary(DepartmentSalarySummary summary, DepartmentSalaryStatsDTO dto) {
+        dto.setHeadcount(summary.getHeadcount());
+        dto.setTotalSalary(summary.getTotalSalary());
+        dto.setAverageSalary(summary.getHeadcount() > 0 ? summary.getTotalSalary() / summary.getHeadcount() : 0.0);
+        dto.setMinSalary(summary.getMinSalary());
+        dto.setMaxSalary(summary.getMaxSalary());
+    }
+
     private DepartmentResponseDTO mapToResponseDTO(Department department) {
         try {
             DepartmentResponseDTO dto = new DepartmentResponseDTO();
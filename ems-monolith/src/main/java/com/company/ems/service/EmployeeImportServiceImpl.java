@@ -0,0 +1,310 @@
+package com.company.ems.service;
+
+import com.company.ems.dto.EmployeeImportErrorDTO;
+import com.company.ems.dto.EmployeeImportResultDTO;
+import com.company.ems.exception.InvalidImportFileException;
+import com.company.ems.model.Department;
+import com.company.ems.repository.DepartmentRepository;
+import com.company.ems.util.CsvLineParser;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk employee import for CSV files shaped like employees.csv. The file is read line by line,
+ * departments are resolved against a name-to-id map loaded once, and valid rows are written
+ * with JDBC batch inserts in chunks, so neither the file nor the result set is held in memory.
+ */
+@Service
+public class EmployeeImportServiceImpl implements IEmployeeImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeImportServiceImpl.class);
+
+    static final int BATCH_SIZE = 500;
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final String ID_SEQUENCE = "employee_seq";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private DepartmentSalarySummaryRecorder salarySummaryRecorder;
+
+    @Override
+    public EmployeeImportResultDTO importEmployees(InputStream csv) {
+        long started = System.nanoTime();
+        EmployeeImportResultDTO result = new EmployeeImportResultDTO();
+        Set<Long> touchedDepartmentIds = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new InvalidImportFileException("Import file is empty");
+            }
+            Columns columns = Columns.fromHeader(CsvLineParser.parse(stripBom(headerLine)));
+            String insertSql = insertSql();
+            Map<String, Long> departmentIds = loadDepartmentIds();
+            logger.debug("Importing employees - {} departments preloaded", departmentIds.size());
+
+            List<ImportRow> batch = new ArrayList<>(BATCH_SIZE);
+            long lineNumber = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                result.setTotalRows(result.getTotalRows() + 1);
+                try {
+                    batch.add(columns.toRow(lineNumber, CsvLineParser.parse(line), departmentIds));
+                } catch (IllegalArgumentException ex) {
+                    recordError(result, lineNumber, ex.getMessage());
+                }
+                if (batch.size() == BATCH_SIZE) {
+                    writeBatch(insertSql, batch, result, touchedDepartmentIds);
+                }
+            }
+            writeBatch(insertSql, batch, result, touchedDepartmentIds);
+        } catch (IOException ex) {
+            logger.error("Error reading employee import file: {}", ex.getMessage(), ex);
+            throw new UncheckedIOException(ex);
+        } catch (InvalidImportFileException ex) {
+            logger.warn("Invalid employee import file: {}", ex.getMessage());
+            throw ex;
+        } catch (Exception ex) {
+            logger.error("Error importing employees: {}", ex.getMessage(), ex);
+            throw ex;
+        } finally {
+            try {
+                // The JDBC inserts skip EmployeeServiceImpl, so the touched departments' salary summaries are recomputed
+                // once; also when the import stops part way, as the batches written by then stay committed.
+                if (!touchedDepartmentIds.isEmpty()) {
+                    salarySummaryRecorder.rebuild(touchedDepartmentIds);
+                }
+            } finally {
+                // Rows written through JDBC bypass Hibernate, so cached query results (e.g. department counts) are dropped.
+                entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache().evictQueryRegions();
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        result.setElapsedMillis(elapsedNanos / 1_000_000);
+        result.setRowsPerSecond(elapsedNanos > 0 ? result.getImportedRows() * 1_000_000_000.0 / elapsedNanos : 0);
+        logger.info("Employee import finished - total: {}, imported: {}, failed: {}, rows/sec: {}",
+                result.getTotalRows(), result.getImportedRows(), result.getFailedRows(), Math.round(result.getRowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * Ids are drawn from the entity's sequence inside the INSERT itself, so rows stay batchable.
+     * Each row consumes a whole pooled block; the gaps are harmless and never collide with Hibernate.
+     */
+    private String insertSql() {
+        String nextId = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect().getSequenceSupport().getSelectSequenceNextValString(ID_SEQUENCE);
+        return "INSERT INTO employee (id, name, role, salary, joining_date, department_id, performance_score) VALUES ("
+                + nextId + ", ?, ?, ?, ?, ?, ?)";
+    }
+
+    private Map<String, Long> loadDepartmentIds() {
+        Map<String, Long> departmentIds = new HashMap<>();
+        for (Department department : departmentRepository.findAll()) {
+            departmentIds.putIfAbsent(department.getName(), department.getId());
+        }
+        return departmentIds;
+    }
+
+    private void writeBatch(String insertSql, List<ImportRow> batch, EmployeeImportResultDTO result,
+                            Set<Long> touchedDepartmentIds) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(insertSql, batch, batch.size(), (ps, row) -> {
+                ps.setString(1, row.name);
+                ps.setString(2, row.role);
+                ps.setDouble(3, row.salary);
+                ps.setDate(4, Date.valueOf(row.joiningDate));
+                if (row.departmentId != null) {
+                    ps.setLong(5, row.departmentId);
+                } else {
+                    ps.setNull(5, Types.BIGINT);
+                }
+                if (row.performanceScore != null) {
+                    ps.setInt(6, row.performanceScore);
+                } else {
+                    ps.setNull(6, Types.INTEGER);
+                }
+            });
+            result.setImportedRows(result.getImportedRows() + batch.size());
+            for (ImportRow row : batch) {
+                if (row.departmentId != null) {
+                    touchedDepartmentIds.add(row.departmentId);
+                }
+            }
+            logger.debug("Imported batch of {} employees", batch.size());
+        } catch (Exception ex) {
+            // A failed batch is reported row by row; earlier batches stay committed.
+            logger.warn("Employee import batch failed: {}", ex.getMessage());
+            for (ImportRow row : batch) {
+                recordError(result, row.line, "Batch insert failed: " + ex.getMessage());
+            }
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private void recordError(EmployeeImportResultDTO result, long line, String message) {
+        result.setFailedRows(result.getFailedRows() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            EmployeeImportErrorDTO error = new EmployeeImportErrorDTO();
+            error.setLine(line);
+            error.setMessage(message);
+            result.getErrors().add(error);
+        }
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    private static final class ImportRow {
+        private final long line;
+        private final String name;
+        private final String role;
+        private final double salary;
+        private final LocalDate joiningDate;
+        private final Long departmentId;
+        private final Integer performanceScore;
+
+        private ImportRow(long line, String name, String role, double salary, LocalDate joiningDate, Long departmentId,
+                          Integer performanceScore) {
+            this.line = line;
+            this.name = name;
+            this.role = role;
+            this.salary = salary;
+            this.joiningDate = joiningDate;
+            this.departmentId = departmentId;
+            this.performanceScore = performanceScore;
+        }
+    }
+
+    private static final class Columns {
+        private final int name;
+        private final int role;
+        private final int salary;
+        private final int joiningDate;
+        private final int department;
+        private final int performanceScore;
+
+        private Columns(int name, int role, int salary, int joiningDate, int department, int performanceScore) {
+            this.name = name;
+            this.role = role;
+            this.salary = salary;
+            this.joiningDate = joiningDate;
+            this.department = department;
+            this.performanceScore = performanceScore;
+        }
+
+        static Columns fromHeader(List<String> header) {
+            List<String> normalized = header.stream().map(String::trim).toList();
+            return new Columns(
+                    required(normalized, "name"),
+                    required(normalized, "role"),
+                    required(normalized, "salary"),
+                    required(normalized, "joiningDate"),
+                    normalized.indexOf("department"),
+                    normalized.indexOf("performance_score"));
+        }
+
+        private static int required(List<String> header, String column) {
+            int index = header.indexOf(column);
+            if (index < 0) {
+                throw new InvalidImportFileException("Import file is missing required column: " + column);
+            }
+            return index;
+        }
+
+        ImportRow toRow(long line, List<String> fields, Map<String, Long> departmentIds) {
+            String nameValue = field(fields, name);
+            String roleValue = field(fields, role);
+            if (nameValue.isEmpty()) {
+                throw new IllegalArgumentException("name is required");
+            }
+            if (roleValue.isEmpty()) {
+                throw new IllegalArgumentException("role is required");
+            }
+
+            double salaryValue;
+            try {
+                salaryValue = Double.parseDouble(field(fields, salary));
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("salary is not a number: " + field(fields, salary));
+            }
+            if (salaryValue <= 0) {
+                throw new IllegalArgumentException("salary must be positive");
+            }
+
+            LocalDate joiningDateValue;
+            try {
+                joiningDateValue = LocalDate.parse(field(fields, joiningDate));
+            } catch (DateTimeParseException ex) {
+                throw new IllegalArgumentException("joiningDate is not an ISO date: " + field(fields, joiningDate));
+            }
+
+            Long departmentId = null;
+            String departmentName = department >= 0 ? field(fields, department) : "";
+            if (!departmentName.isEmpty()) {
+                departmentId = departmentIds.get(departmentName);
+                if (departmentId == null) {
+                    throw new IllegalArgumentException("Department not found with name: " + departmentName);
+                }
+            }
+
+            Integer performanceScoreValue = null;
+            String scoreText = performanceScore >= 0 ? field(fields, performanceScore) : "";
+            if (!scoreText.isEmpty()) {
+                try {
+                    performanceScoreValue = Integer.valueOf(scoreText);
+                } catch (NumberFormatException ex) {
+                    throw new IllegalArgumentException("performance_score is not a whole number: " + scoreText);
+                }
+                if (performanceScoreValue < 0 || performanceScoreValue > 100) {
+                    throw new IllegalArgumentException("performance_score must be between 0 and 100");
+                }
+            }
+            return new ImportRow(line, nameValue, roleValue, salaryValue, joiningDateValue, departmentId, performanceScoreValue);
+        }
+
+        private static String field(List<String> fields, int index) {
+            return index < fields.size() ? fields.get(index).trim() : "";
+        }
+    }
+}
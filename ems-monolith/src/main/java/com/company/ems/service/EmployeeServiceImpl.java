@@ -1,33 +1,67 @@
 package com.company.ems.service;
 
+import com.company.ems.cache.ReferenceDataCache;
+import com.company.ems.dto.EmployeeBatchItemResultDTO;
+import com.company.ems.dto.EmployeeBatchResponseDTO;
+import com.company.ems.dto.EmployeeBatchUpdateRequestDTO;
 import com.company.ems.dto.EmployeeRequestDTO;
 import com.company.ems.dto.EmployeeResponseDTO;
 import com.company.ems.dto.EmployeeUpdateRequestDTO;
 import com.company.ems.exception.DepartmentNotFoundException;
 import com.company.ems.exception.EmployeeNotFoundException;
+import com.company.ems.exception.InvalidBatchRequestException;
+import com.company.ems.exception.InvalidTopRequestException;
 import com.company.ems.exception.ProjectNotFoundException;
 import com.company.ems.model.Department;
 import com.company.ems.model.Employee;
 import com.company.ems.model.Project;
 import com.company.ems.repository.DepartmentRepository;
 import com.company.ems.repository.EmployeeRepository;
-import com.company.ems.repository.ProjectRepository;
-import com.company.ems.util.EmployeeComparator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class EmployeeServiceImpl implements IEmployeeService {
     
     private static final Logger logger = LoggerFactory.getLogger(EmployeeServiceImpl.class);
+
+    private static final int STREAM_CHUNK_SIZE = 500;
+    static final int MAX_BATCH_SIZE = 1000;
+    static final int MAX_TOP_N = 1000;
+    static final String TOP_BY_SALARY = "salary";
+    static final String TOP_BY_PERFORMANCE = "performance";
+
+    // Weakest kept score at the head; equal scores keep the lower id
+    private static final Comparator<EmployeeRepository.EmployeeScore> WEAKEST_SCORE_FIRST =
+            Comparator.comparing(EmployeeRepository.EmployeeScore::getPerformanceScore)
+                    .thenComparing(EmployeeRepository.EmployeeScore::getId, Comparator.reverseOrder());
     
     @Autowired
     private EmployeeRepository employeeRepository;
@@ -36,14 +70,23 @@ public class EmployeeServiceImpl implements IEmployeeService {
     private DepartmentRepository departmentRepository;
 
     @Autowired
-    private ProjectRepository projectRepository;
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private DepartmentSalarySummaryRecorder salarySummaryRecorder;
 
     @Override
+    @Transactional
     public EmployeeResponseDTO createEmployee(EmployeeRequestDTO employeeDTO) {
         try {
             logger.debug("Creating employee with name: {}", employeeDTO.getName());
             Employee employee = mapToEntity(employeeDTO);
             Employee savedEmployee = employeeRepository.save(employee);
+            salarySummaryRecorder.apply(new DepartmentSalarySummaryRecorder.Changes()
+                    .add(departmentIdOf(savedEmployee), savedEmployee.getRole(), savedEmployee.getSalary()));
             logger.info("Employee created successfully with id: {}", savedEmployee.getId());
             return mapToResponseDTO(savedEmployee);
         } catch (Exception ex) {
@@ -53,13 +96,15 @@ public class EmployeeServiceImpl implements IEmployeeService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public EmployeeResponseDTO getEmployeeById(Long id) {
         try {
             logger.debug("Fetching employee with id: {}", id);
-            Employee employee = employeeRepository.findById(id)
+            EmployeeResponseDTO employee = employeeRepository.findViewById(id)
                     .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + id));
+            fillProjectNames(List.of(employee));
             logger.info("Employee fetched successfully with id: {}", id);
-            return mapToResponseDTO(employee);
+            return employee;
         } catch (EmployeeNotFoundException ex) {
             logger.warn("Employee not found with id: {}", id);
             throw ex;
@@ -70,18 +115,21 @@ public class EmployeeServiceImpl implements IEmployeeService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<EmployeeResponseDTO> getEmployees(String departmentName, Pageable pageable) {
         try {
             logger.debug("Fetching employees - department: {}, page: {}, size: {}", departmentName, pageable.getPageNumber(), pageable.getPageSize());
-            Page<Employee> employees;
+            Page<EmployeeResponseDTO> employees;
             if (departmentName != null && !departmentName.isEmpty()) {
-                employees = employeeRepository.findByDepartmentName(departmentName, pageable);
+                employees = PageableExecutionUtils.getPage(employeeRepository.findViewsByDepartmentName(departmentName, pageable),
+                        pageable, () -> employeeRepository.countByDepartmentName(departmentName));
                 logger.info("Employees fetched by department: {} - total: {}", departmentName, employees.getTotalElements());
             } else {
-                employees = employeeRepository.findAll(pageable);
+                employees = employeeRepository.findAllViews(pageable);
                 logger.info("All employees fetched - total: {}", employees.getTotalElements());
             }
-            return employees.map(this::mapToResponseDTO);
+            fillProjectNames(employees.getContent());
+            return employees;
         } catch (Exception ex) {
             logger.error("Error fetching employees: {}", ex.getMessage(), ex);
             throw ex;
@@ -89,11 +137,36 @@ public class EmployeeServiceImpl implements IEmployeeService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Slice<EmployeeResponseDTO> getEmployeesAfter(String departmentName, Long afterId, int size) {
+        try {
+            logger.debug("Fetching employees after id - department: {}, afterId: {}, size: {}", departmentName, afterId, size);
+            Pageable limit = PageRequest.of(0, size);
+            Slice<EmployeeResponseDTO> employees;
+            if (departmentName != null && !departmentName.isEmpty()) {
+                employees = employeeRepository.findViewsByDepartmentNameAndIdGreaterThan(departmentName, afterId, limit);
+            } else {
+                employees = employeeRepository.findViewsByIdGreaterThan(afterId, limit);
+            }
+            logger.info("Employees fetched after id {} - returned: {}, hasNext: {}", afterId, employees.getNumberOfElements(), employees.hasNext());
+            fillProjectNames(employees.getContent());
+            return employees;
+        } catch (Exception ex) {
+            logger.error("Error fetching employees after id {}: {}", afterId, ex.getMessage(), ex);
+            throw ex;
+        }
+    }
+
+    @Override
+    @Transactional
     public EmployeeResponseDTO updateEmployee(Long id, EmployeeUpdateRequestDTO employeeDTO) {
         try {
             logger.debug("Updating employee with id: {}", id);
             Employee employee = employeeRepository.findById(id)
                     .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + id));
+            Long previousDepartmentId = departmentIdOf(employee);
+            String previousRole = employee.getRole();
+            Double previousSalary = employee.getSalary();
             
             employee.setName(employeeDTO.getName());
             employee.setRole(employeeDTO.getRole());
@@ -102,7 +175,7 @@ public class EmployeeServiceImpl implements IEmployeeService {
             
             if (employeeDTO.getDepartmentId() != null) {
                 try {
-                    Department department = departmentRepository.findById(employeeDTO.getDepartmentId())
+                    Department department = referenceDataCache.findDepartment(employeeDTO.getDepartmentId())
                             .orElseThrow(() -> new DepartmentNotFoundException("Department not found with id: " + employeeDTO.getDepartmentId()));
                     employee.setDepartment(department);
                     logger.debug("Department assigned to employee");
@@ -113,15 +186,14 @@ public class EmployeeServiceImpl implements IEmployeeService {
             }
 
             if (employeeDTO.getProjectIds() != null) {
-                java.util.Set<Project> projects = employeeDTO.getProjectIds().stream()
-                        .map(projectId -> projectRepository.findById(projectId)
-                                .orElseThrow(() -> new ProjectNotFoundException("Project not found with id: " + projectId)))
-                        .collect(Collectors.toSet());
-                employee.setProjects(projects);
+                employee.setProjects(resolveProjects(employeeDTO.getProjectIds()));
                 logger.debug("Projects assigned to employee");
             }
 
             Employee updatedEmployee = employeeRepository.save(employee);
+            salarySummaryRecorder.apply(new DepartmentSalarySummaryRecorder.Changes()
+                    .move(previousDepartmentId, previousRole, previousSalary,
+                            departmentIdOf(updatedEmployee), updatedEmployee.getRole(), updatedEmployee.getSalary()));
             logger.info("Employee updated successfully with id: {}", id);
             return mapToResponseDTO(updatedEmployee);
         } catch (EmployeeNotFoundException ex) {
@@ -134,12 +206,15 @@ public class EmployeeServiceImpl implements IEmployeeService {
     }
 
     @Override
+    @Transactional
     public void deleteEmployee(Long id) {
         try {
             logger.debug("Deleting employee with id: {}", id);
             Employee employee = employeeRepository.findById(id)
                     .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + id));
             employeeRepository.delete(employee);
+            salarySummaryRecorder.apply(new DepartmentSalarySummaryRecorder.Changes()
+                    .remove(departmentIdOf(employee), employee.getRole(), employee.getSalary()));
             logger.info("Employee deleted successfully with id: {}", id);
         } catch (EmployeeNotFoundException ex) {
             logger.warn("Employee not found with id: {}", id);
@@ -151,38 +226,249 @@ public class EmployeeServiceImpl implements IEmployeeService {
     }
 
     @Override
-    public List<EmployeeResponseDTO> getAllEmployeesSortedByNameAndDate() {
+    @Transactional
+    public EmployeeBatchResponseDTO createEmployees(List<EmployeeRequestDTO> employeeDTOs) {
         try {
-            logger.debug("Fetching all employees for sorting using custom comparator");
-            List<Employee> employees = employeeRepository.findAll();
-            
-            employees.sort(new EmployeeComparator());
-            logger.info("Employees fetched and sorted successfully using EmployeeComparator - total: {}", employees.size());
-            
-            return employees.stream().map(this::mapToResponseDTO).collect(Collectors.toList());
+            checkBatchSize(employeeDTOs);
+            logger.debug("Creating batch of {} employees", employeeDTOs.size());
+            Map<Long, Department> departments = loadDepartments(employeeDTOs.stream()
+                    .filter(Objects::nonNull).map(EmployeeRequestDTO::getDepartmentId));
+            Map<Long, Project> projects = loadProjects(employeeDTOs.stream()
+                    .filter(Objects::nonNull).map(EmployeeRequestDTO::getProjectIds));
+
+            EmployeeBatchResponseDTO response = new EmployeeBatchResponseDTO();
+            List<Employee> created = new ArrayList<>();
+            List<EmployeeBatchItemResultDTO> createdResults = new ArrayList<>();
+            for (int index = 0; index < employeeDTOs.size(); index++) {
+                EmployeeRequestDTO dto = employeeDTOs.get(index);
+                EmployeeBatchItemResultDTO result = new EmployeeBatchItemResultDTO();
+                result.setIndex(index);
+                response.getResults().add(result);
+                if (!checkItem(result, dto) || !checkReferences(result, dto.getDepartmentId(), dto.getProjectIds(), departments, projects)) {
+                    continue;
+                }
+                Employee employee = new Employee();
+                employee.setName(dto.getName());
+                employee.setRole(dto.getRole());
+                employee.setSalary(dto.getSalary());
+                employee.setJoiningDate(dto.getJoiningDate());
+                if (dto.getDepartmentId() != null) {
+                    employee.setDepartment(departments.get(dto.getDepartmentId()));
+                }
+                if (dto.getProjectIds() != null) {
+                    employee.setProjects(resolveFrom(projects, dto.getProjectIds()));
+                }
+                created.add(employee);
+                createdResults.add(result);
+            }
+
+            employeeRepository.saveAll(created);
+            employeeRepository.flush();
+            DepartmentSalarySummaryRecorder.Changes salaryChanges = new DepartmentSalarySummaryRecorder.Changes();
+            created.forEach(employee -> salaryChanges.add(departmentIdOf(employee), employee.getRole(), employee.getSalary()));
+            salarySummaryRecorder.apply(salaryChanges);
+            for (int i = 0; i < created.size(); i++) {
+                succeed(createdResults.get(i), HttpStatus.CREATED, mapToResponseDTO(created.get(i)));
+            }
+            summarize(response);
+            logger.info("Employee batch created - succeeded: {}, failed: {}", response.getSucceeded(), response.getFailed());
+            return response;
         } catch (Exception ex) {
-            logger.error("Error fetching sorted employees: {}", ex.getMessage(), ex);
+            logger.error("Error creating employee batch: {}", ex.getMessage(), ex);
             throw ex;
         }
     }
 
     @Override
-    public List<EmployeeResponseDTO> getAllEmployeesSortedBySalary() {
+    @Transactional
+    public EmployeeBatchResponseDTO updateEmployees(List<EmployeeBatchUpdateRequestDTO> employeeDTOs) {
         try {
-            logger.debug("Fetching all employees for natural sorting by salary");
-            List<Employee> employees = employeeRepository.findAll();
-            
-            // Natural sorting uses Employee's compareTo (sort by salary)
-            employees.sort(null); 
-            logger.info("Employees fetched and naturally sorted by salary - total: {}", employees.size());
-            
-            return employees.stream().map(this::mapToResponseDTO).collect(Collectors.toList());
+            checkBatchSize(employeeDTOs);
+            logger.debug("Updating batch of {} employees", employeeDTOs.size());
+            Set<Long> employeeIds = employeeDTOs.stream()
+                    .filter(Objects::nonNull).map(EmployeeBatchUpdateRequestDTO::getId).filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            Map<Long, Employee> employees = employeeIds.isEmpty() ? Map.of()
+                    : employeeRepository.findAllByIdIn(employeeIds).stream()
+                            .collect(Collectors.toMap(Employee::getId, Function.identity()));
+            Map<Long, Department> departments = loadDepartments(employeeDTOs.stream()
+                    .filter(Objects::nonNull).map(EmployeeBatchUpdateRequestDTO::getDepartmentId));
+            Map<Long, Project> projects = loadProjects(employeeDTOs.stream()
+                    .filter(Objects::nonNull).map(EmployeeBatchUpdateRequestDTO::getProjectIds));
+
+            EmployeeBatchResponseDTO response = new EmployeeBatchResponseDTO();
+            DepartmentSalarySummaryRecorder.Changes salaryChanges = new DepartmentSalarySummaryRecorder.Changes();
+            Set<Long> seenIds = new HashSet<>();
+            List<Employee> updated = new ArrayList<>();
+            List<EmployeeBatchItemResultDTO> updatedResults = new ArrayList<>();
+            for (int index = 0; index < employeeDTOs.size(); index++) {
+                EmployeeBatchUpdateRequestDTO dto = employeeDTOs.get(index);
+                EmployeeBatchItemResultDTO result = new EmployeeBatchItemResultDTO();
+                result.setIndex(index);
+                response.getResults().add(result);
+                if (!checkItem(result, dto)) {
+                    continue;
+                }
+                result.setId(dto.getId());
+                if (!seenIds.add(dto.getId())) {
+                    fail(result, HttpStatus.BAD_REQUEST, "Duplicate employee id in batch: " + dto.getId());
+                    continue;
+                }
+                Employee employee = employees.get(dto.getId());
+                if (employee == null) {
+                    fail(result, HttpStatus.NOT_FOUND, "Employee not found with id: " + dto.getId());
+                    continue;
+                }
+                if (!checkReferences(result, dto.getDepartmentId(), dto.getProjectIds(), departments, projects)) {
+                    continue;
+                }
+                Long previousDepartmentId = departmentIdOf(employee);
+                String previousRole = employee.getRole();
+                Double previousSalary = employee.getSalary();
+                employee.setName(dto.getName());
+                employee.setRole(dto.getRole());
+                employee.setSalary(dto.getSalary());
+                employee.setJoiningDate(dto.getJoiningDate());
+                if (dto.getDepartmentId() != null) {
+                    employee.setDepartment(departments.get(dto.getDepartmentId()));
+                }
+                if (dto.getProjectIds() != null) {
+                    employee.setProjects(resolveFrom(projects, dto.getProjectIds()));
+                }
+                salaryChanges.move(previousDepartmentId, previousRole, previousSalary,
+                        departmentIdOf(employee), employee.getRole(), employee.getSalary());
+                updated.add(employee);
+                updatedResults.add(result);
+            }
+
+            employeeRepository.saveAll(updated);
+            employeeRepository.flush();
+            salarySummaryRecorder.apply(salaryChanges);
+            for (int i = 0; i < updated.size(); i++) {
+                succeed(updatedResults.get(i), HttpStatus.OK, mapToResponseDTO(updated.get(i)));
+            }
+            summarize(response);
+            logger.info("Employee batch updated - succeeded: {}, failed: {}", response.getSucceeded(), response.getFailed());
+            return response;
         } catch (Exception ex) {
-            logger.error("Error fetching naturally sorted employees: {}", ex.getMessage(), ex);
+            logger.error("Error updating employee batch: {}", ex.getMessage(), ex);
             throw ex;
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeResponseDTO> getTopEmployees(String by, int n) {
+        try {
+            logger.debug("Fetching top {} employees by {}", n, by);
+            if (n < 1 || n > MAX_TOP_N) {
+                throw new InvalidTopRequestException("n must be between 1 and " + MAX_TOP_N);
+            }
+            List<EmployeeResponseDTO> top;
+            if (TOP_BY_SALARY.equalsIgnoreCase(by)) {
+                top = employeeRepository.findTopViewsBySalary(PageRequest.of(0, n));
+            } else if (TOP_BY_PERFORMANCE.equalsIgnoreCase(by)) {
+                top = topByPerformance(n);
+            } else {
+                throw new InvalidTopRequestException("Unsupported ranking: " + by + " (expected salary or performance)");
+            }
+            fillProjectNames(top);
+            logger.info("Top employees fetched successfully - by: {}, returned: {}", by, top.size());
+            return top;
+        } catch (InvalidTopRequestException ex) {
+            logger.warn("Invalid top employees request: {}", ex.getMessage());
+            throw ex;
+        } catch (Exception ex) {
+            logger.error("Error fetching top employees by {}: {}", by, ex.getMessage(), ex);
+            throw ex;
+        }
+    }
+
+    // performance_score is not indexed, so the ranking is a streamed scan through a min-heap holding at most n
+    // rows: O(rows log n) time and O(n) memory. Only the winners are then read as views.
+    private List<EmployeeResponseDTO> topByPerformance(int n) {
+        PriorityQueue<EmployeeRepository.EmployeeScore> heap = new PriorityQueue<>(n + 1, WEAKEST_SCORE_FIRST);
+        try (Stream<EmployeeRepository.EmployeeScore> scores = employeeRepository.streamPerformanceScores()) {
+            scores.forEach(score -> {
+                if (heap.size() < n) {
+                    heap.add(score);
+                } else if (WEAKEST_SCORE_FIRST.compare(score, heap.peek()) > 0) {
+                    heap.poll();
+                    heap.add(score);
+                }
+            });
+        }
+        List<Long> ranking = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ranking.add(heap.poll().getId());
+        }
+        Collections.reverse(ranking);
+        if (ranking.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, EmployeeResponseDTO> views = employeeRepository.findViewsByIdIn(ranking).stream()
+                .collect(Collectors.toMap(EmployeeResponseDTO::getId, Function.identity()));
+        return ranking.stream().map(views::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamEmployeesSortedByNameAndDate(Consumer<EmployeeResponseDTO> consumer) {
+        try (Stream<EmployeeResponseDTO> employees = employeeRepository.streamAllOrderByNameAndJoiningDate()) {
+            logger.debug("Streaming employees ordered by name and joining date");
+            int total = streamInChunks(employees, consumer);
+            logger.info("Employees streamed ordered by name and joining date - total: {}", total);
+        } catch (Exception ex) {
+            logger.error("Error streaming sorted employees: {}", ex.getMessage(), ex);
+            throw ex;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamEmployeesSortedBySalary(Consumer<EmployeeResponseDTO> consumer) {
+        try (Stream<EmployeeResponseDTO> employees = employeeRepository.streamAllOrderBySalary()) {
+            logger.debug("Streaming employees ordered by salary");
+            int total = streamInChunks(employees, consumer);
+            logger.info("Employees streamed ordered by salary - total: {}", total);
+        } catch (Exception ex) {
+            logger.error("Error streaming employees ordered by salary: {}", ex.getMessage(), ex);
+            throw ex;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllEmployees(Consumer<EmployeeResponseDTO> consumer) {
+        try (Stream<EmployeeResponseDTO> employees = employeeRepository.streamAllOrderById()) {
+            logger.debug("Streaming all employees for export");
+            int total = streamInChunks(employees, consumer);
+            logger.info("Employees streamed for export - total: {}", total);
+        } catch (Exception ex) {
+            logger.error("Error streaming employees for export: {}", ex.getMessage(), ex);
+            throw ex;
+        }
+    }
+
+    // Hands a database-ordered stream of views on chunk by chunk, so the project-name lookup stays one
+    // bounded IN query per STREAM_CHUNK_SIZE rows. Views are not managed, so nothing accumulates in the
+    // persistence context.
+    private int streamInChunks(Stream<EmployeeResponseDTO> employees, Consumer<EmployeeResponseDTO> consumer) {
+        List<EmployeeResponseDTO> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+        Iterator<EmployeeResponseDTO> iterator = employees.iterator();
+        int total = 0;
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == STREAM_CHUNK_SIZE || !iterator.hasNext()) {
+                fillProjectNames(chunk);
+                chunk.forEach(consumer);
+                total += chunk.size();
+                chunk.clear();
+            }
+        }
+        return total;
+    }
+
     private Employee mapToEntity(EmployeeRequestDTO dto) {
         try {
             Employee employee = new Employee();
@@ -193,7 +479,7 @@ public class EmployeeServiceImpl implements IEmployeeService {
             
             if (dto.getDepartmentId() != null) {
                 try {
-                    Department department = departmentRepository.findById(dto.getDepartmentId())
+                    Department department = referenceDataCache.findDepartment(dto.getDepartmentId())
                             .orElseThrow(() -> new DepartmentNotFoundException("Department not found with id: " + dto.getDepartmentId()));
                     employee.setDepartment(department);
                 } catch (Exception ex) {
@@ -203,11 +489,7 @@ public class EmployeeServiceImpl implements IEmployeeService {
             }
 
             if (dto.getProjectIds() != null) {
-                java.util.Set<Project> projects = dto.getProjectIds().stream()
-                        .map(projectId -> projectRepository.findById(projectId)
-                                .orElseThrow(() -> new ProjectNotFoundException("Project not found with id: " + projectId)))
-                        .collect(Collectors.toSet());
-                employee.setProjects(projects);
+                employee.setProjects(resolveProjects(dto.getProjectIds()));
             }
             return employee;
         } catch (Exception ex) {
@@ -216,6 +498,125 @@ public class EmployeeServiceImpl implements IEmployeeService {
         }
     }
 
+    private void checkBatchSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new InvalidBatchRequestException("Batch must contain at least one employee");
+        }
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new InvalidBatchRequestException("Batch size " + items.size() + " exceeds the maximum of " + MAX_BATCH_SIZE);
+        }
+    }
+
+    // Bean validation per item, so one bad entry is reported instead of rejecting the whole batch.
+    private boolean checkItem(EmployeeBatchItemResultDTO result, Object dto) {
+        if (dto == null) {
+            fail(result, HttpStatus.BAD_REQUEST, "Batch item is required");
+            return false;
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            fail(result, HttpStatus.BAD_REQUEST, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return false;
+        }
+        return true;
+    }
+
+    private boolean checkReferences(EmployeeBatchItemResultDTO result, Long departmentId, Set<Long> projectIds,
+                                    Map<Long, Department> departments, Map<Long, Project> projects) {
+        if (departmentId != null && !departments.containsKey(departmentId)) {
+            fail(result, HttpStatus.NOT_FOUND, "Department not found with id: " + departmentId);
+            return false;
+        }
+        if (projectIds != null) {
+            List<Long> missing = missingIds(projectIds, projects.keySet());
+            if (!missing.isEmpty()) {
+                fail(result, HttpStatus.NOT_FOUND, projectsNotFoundMessage(missing));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Loads every requested project with one IN query and reports all missing ids in a single exception.
+    private Set<Project> resolveProjects(Set<Long> projectIds) {
+        Set<Long> ids = projectIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return new HashSet<>();
+        }
+        Map<Long, Project> projects = referenceDataCache.findProjects(ids);
+        if (projects.size() < ids.size()) {
+            throw new ProjectNotFoundException(projectsNotFoundMessage(missingIds(ids, projects.keySet())));
+        }
+        logger.debug("Resolved {} projects", projects.size());
+        return new HashSet<>(projects.values());
+    }
+
+    private static List<Long> missingIds(Set<Long> requested, Set<Long> found) {
+        return requested.stream()
+                .filter(id -> id != null && !found.contains(id))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static String projectsNotFoundMessage(List<Long> missing) {
+        if (missing.size() == 1) {
+            return "Project not found with id: " + missing.get(0);
+        }
+        return "Projects not found with ids: " + missing.stream().map(String::valueOf).collect(Collectors.joining(", "));
+    }
+
+    // One lookup per referenced entity type for the whole batch instead of a findById per item;
+    // ids missing from the reference cache are loaded with a single findAllById.
+    private Map<Long, Department> loadDepartments(Stream<Long> departmentIds) {
+        return referenceDataCache.findDepartments(departmentIds.collect(Collectors.toSet()));
+    }
+
+    private Map<Long, Project> loadProjects(Stream<Set<Long>> projectIds) {
+        return referenceDataCache.findProjects(projectIds.filter(Objects::nonNull).flatMap(Set::stream)
+                .filter(Objects::nonNull).collect(Collectors.toSet()));
+    }
+
+    // Null ids are skipped, as in resolveProjects; checkReferences has already rejected the unknown ones.
+    private static Set<Project> resolveFrom(Map<Long, Project> projects, Set<Long> projectIds) {
+        return projectIds.stream().filter(Objects::nonNull).map(projects::get).collect(Collectors.toSet());
+    }
+
+    private static void fail(EmployeeBatchItemResultDTO result, HttpStatus status, String message) {
+        result.setStatus(status.value());
+        result.setMessage(message);
+    }
+
+    private static void succeed(EmployeeBatchItemResultDTO result, HttpStatus status, EmployeeResponseDTO employee) {
+        result.setStatus(status.value());
+        result.setId(employee.getId());
+        result.setEmployee(employee);
+    }
+
+    private static void summarize(EmployeeBatchResponseDTO response) {
+        int succeeded = (int) response.getResults().stream().filter(result -> result.getEmployee() != null).count();
+        response.setSucceeded(succeeded);
+        response.setFailed(response.getResults().size() - succeeded);
+    }
+
+    private static Long departmentIdOf(Employee employee) {
+        return employee.getDepartment() != null ? employee.getDepartment().getId() : null;
+    }
+
+    private void fillProjectNames(List<EmployeeResponseDTO> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        Map<Long, Set<String>> projectNames = new HashMap<>();
+        employees.forEach(employee -> projectNames.put(employee.getId(), new HashSet<>()));
+        employeeRepository.findProjectNamesByEmployeeIdIn(projectNames.keySet())
+                .forEach(row -> projectNames.get(row.getEmployeeId()).add(row.getProjectName()));
+        employees.forEach(employee -> employee.setProjectNames(projectNames.get(employee.getId())));
+        logger.debug("Project names resolved for {} employees", employees.size());
+    }
+
     private EmployeeResponseDTO mapToResponseDTO(Employee employee) {
         try {
             EmployeeResponseDTO dto = new EmployeeResponseDTO();
@@ -224,6 +625,7 @@ public class EmployeeServiceImpl implements IEmployeeService {
             dto.setRole(employee.getRole());
             dto.setSalary(employee.getSalary());
             dto.setJoiningDate(employee.getJoiningDate());
+            dto.setPerformanceScore(employee.getPerformanceScore());
             if (employee.getDepartment() != null) {
                 dto.setDepartmentName(employee.getDepartment().getName());
             }
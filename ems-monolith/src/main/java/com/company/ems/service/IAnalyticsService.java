@@ -0,0 +1,7 @@
+package com.company.ems.service;
+
+import com.company.ems.dto.AnalyticsReportDTO;
+
+public interface IAnalyticsService {
+    AnalyticsReportDTO generateReport();
+}
@@ -2,6 +2,7 @@ package com.company.ems.service;
 
 import com.company.ems.dto.DepartmentRequestDTO;
 import com.company.ems.dto.DepartmentResponseDTO;
+import com.company.ems.dto.DepartmentSalaryStatsDTO;
 import com.company.ems.dto.DepartmentUpdateRequestDTO;
 import java.util.List;
 
@@ -11,4 +12,5 @@ public interface IDepartmentService {
     List<DepartmentResponseDTO> getAllDepartments();
     DepartmentResponseDTO updateDepartment(Long id, DepartmentUpdateRequestDTO departmentDTO);
     void deleteDepartment(Long id);
+    DepartmentSalaryStatsDTO getSalaryStats(Long id);
 }
@@ -0,0 +1,8 @@
+package com.company.ems.service;
+
+import com.company.ems.dto.EmployeeImportResultDTO;
+import java.io.InputStream;
+
+public interface IEmployeeImportService {
+    EmployeeImportResultDTO importEmployees(InputStream csv);
+}
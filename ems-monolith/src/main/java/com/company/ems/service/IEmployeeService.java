@@ -1,19 +1,28 @@
 package com.company.ems.service;
 
+import com.company.ems.dto.EmployeeBatchResponseDTO;
+import com.company.ems.dto.EmployeeBatchUpdateRequestDTO;
 import com.company.ems.dto.EmployeeRequestDTO;
 import com.company.ems.dto.EmployeeResponseDTO;
 import com.company.ems.dto.EmployeeUpdateRequestDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface IEmployeeService {
     EmployeeResponseDTO createEmployee(EmployeeRequestDTO employeeDTO);
     EmployeeResponseDTO getEmployeeById(Long id);
     Page<EmployeeResponseDTO> getEmployees(String departmentName, Pageable pageable);
+    Slice<EmployeeResponseDTO> getEmployeesAfter(String departmentName, Long afterId, int size);
     EmployeeResponseDTO updateEmployee(Long id, EmployeeUpdateRequestDTO employeeDTO);
     void deleteEmployee(Long id);
-    List<EmployeeResponseDTO> getAllEmployeesSortedByNameAndDate();
-    List<EmployeeResponseDTO> getAllEmployeesSortedBySalary();
+    EmployeeBatchResponseDTO createEmployees(List<EmployeeRequestDTO> employeeDTOs);
+    EmployeeBatchResponseDTO updateEmployees(List<EmployeeBatchUpdateRequestDTO> employeeDTOs);
+    List<EmployeeResponseDTO> getTopEmployees(String by, int n);
+    void streamEmployeesSortedByNameAndDate(Consumer<EmployeeResponseDTO> consumer);
+    void streamEmployeesSortedBySalary(Consumer<EmployeeResponseDTO> consumer);
+    void streamAllEmployees(Consumer<EmployeeResponseDTO> consumer);
 }
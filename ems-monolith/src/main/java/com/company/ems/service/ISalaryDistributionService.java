@@ -0,0 +1,8 @@
+package com.company.ems.service;
+
+import com.company.ems.dto.SalaryDistributionDTO;
+import java.util.List;
+
+public interface ISalaryDistributionService {
+    SalaryDistributionDTO getDistribution(List<Long> departmentIds, String role, int bins);
+}
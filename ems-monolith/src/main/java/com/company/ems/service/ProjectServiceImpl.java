@@ -1,5 +1,6 @@
 package com.company.ems.service;
 
+import com.company.ems.cache.ReferenceDataCache;
 import com.company.ems.dto.ProjectRequestDTO;
 import com.company.ems.dto.ProjectResponseDTO;
 import com.company.ems.dto.ProjectUpdateRequestDTO;
@@ -22,6 +23,9 @@ public class ProjectServiceImpl implements IProjectService {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
     @Override
     public ProjectResponseDTO createProject(ProjectRequestDTO projectDTO) {
         try {
@@ -35,6 +39,7 @@ public class ProjectServiceImpl implements IProjectService {
             project.setName(projectDTO.getName());
             project.setDuration(projectDTO.getDuration());
             Project saved = projectRepository.save(project);
+            referenceDataCache.evictProject(saved.getId());
             logger.info("Project created successfully with id: {}", saved.getId());
             return mapToResponseDTO(saved);
         } catch (InvalidProjectDurationException ex) {
@@ -50,7 +55,7 @@ public class ProjectServiceImpl implements IProjectService {
     public ProjectResponseDTO getProjectById(Long id) {
         try {
             logger.debug("Fetching project with id: {}", id);
-            Project project = projectRepository.findById(id)
+            Project project = referenceDataCache.findProject(id)
                     .orElseThrow(() -> new ProjectNotFoundException("Project not found with id: " + id));
             logger.info("Project fetched successfully with id: {}", id);
             return mapToResponseDTO(project);
@@ -92,6 +97,7 @@ public class ProjectServiceImpl implements IProjectService {
             project.setName(projectDTO.getName());
             project.setDuration(projectDTO.getDuration());
             Project updated = projectRepository.save(project);
+            referenceDataCache.evictProject(id);
             logger.info("Project updated successfully with id: {}", id);
             return mapToResponseDTO(updated);
         } catch (ProjectNotFoundException | InvalidProjectDurationException ex) {
@@ -110,6 +116,7 @@ public class ProjectServiceImpl implements IProjectService {
             Project project = projectRepository.findById(id)
                     .orElseThrow(() -> new ProjectNotFoundException("Project not found with id: " + id));
             projectRepository.delete(project);
+            referenceDataCache.evictProject(id);
             logger.info("Project deleted successfully with id: {}", id);
         } catch (ProjectNotFoundException ex) {
             logger.warn("Project not found with id: {}", id);
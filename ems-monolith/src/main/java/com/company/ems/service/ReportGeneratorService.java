@@ -1,24 +1,155 @@
 package com.company.ems.service;
 
+import com.company.ems.model.DepartmentReportSnapshot;
+import com.company.ems.repository.DepartmentReportSnapshotRepository;
+import com.company.ems.repository.EmployeeRepository;
+import com.company.ems.repository.EmployeeRepository.DepartmentSalaryAggregate;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 public class ReportGeneratorService {
 
+    // Snapshots are written and flushed in chunks of the JDBC batch size, then detached
+    private static final int WRITE_CHUNK_SIZE = 50;
+
+    // Set while a report is queued or running; a trigger that finds it set is skipped, not queued.
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentReportSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Every run adds a row per department; runs older than this are deleted by the next run
+    @Value("${ems.report.snapshot-retention:7d}")
+    private Duration snapshotRetention;
+
+    @Autowired
+    @Qualifier("reportExecutor")
+    private TaskExecutor reportExecutor;
+
     @Scheduled(fixedRateString = "${ems.report.fixed-rate:60000}")
     public void generateMonthlyReport() {
         try {
-            log.info("Starting monthly performance report generation...");
             log.debug("Executing scheduled report generation task");
-            
-            System.out.println("Monthly report generated successfully.");
-            
-            log.info("Monthly performance report generated successfully");
+            submitReport();
         } catch (Exception ex) {
             log.error("Error generating monthly report: {}", ex.getMessage(), ex);
         }
     }
+
+    /**
+     * Hands a report run to the report executor and returns at once.
+     *
+     * @return false if a previous run is still in progress or the executor refused the run
+     */
+    public boolean submitReport() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Previous monthly report is still running - skipping this run");
+            return false;
+        }
+        try {
+            reportExecutor.execute(this::runReport);
+            return true;
+        } catch (TaskRejectedException ex) {
+            running.set(false);
+            log.warn("Report executor rejected the monthly report run: {}", ex.getMessage());
+            return false;
+        }
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private void runReport() {
+        try {
+            log.info("Starting monthly performance report generation...");
+            int departments = generateSnapshots();
+            log.info("Monthly performance report generated successfully - departments: {}", departments);
+        } catch (Exception ex) {
+            log.error("Error generating monthly report: {}", ex.getMessage(), ex);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Streams the per-department aggregates into snapshots sharing a single timestamp, then deletes the
+     * snapshots that have aged out of the retention window, all in one transaction. At most one chunk of
+     * snapshots is held in memory at a time.
+     *
+     * @return the number of department snapshots written
+     */
+    int generateSnapshots() {
+        LocalDateTime generatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Integer written = transactionTemplate.execute(status -> {
+            int count = 0;
+            List<DepartmentReportSnapshot> chunk = new ArrayList<>(WRITE_CHUNK_SIZE);
+            try (Stream<DepartmentSalaryAggregate> aggregates = employeeRepository.streamDepartmentSalaryAggregates()) {
+                for (DepartmentSalaryAggregate aggregate : (Iterable<DepartmentSalaryAggregate>) aggregates::iterator) {
+                    chunk.add(toSnapshot(aggregate, generatedAt));
+                    if (chunk.size() == WRITE_CHUNK_SIZE) {
+                        count += writeChunk(chunk);
+                    }
+                }
+            }
+            count += writeChunk(chunk);
+            int pruned = snapshotRepository.deleteGeneratedBefore(generatedAt.minus(snapshotRetention));
+            log.debug("Report snapshots written: {}, pruned past retention of {}: {}", count, snapshotRetention, pruned);
+            return count;
+        });
+        return written != null ? written : 0;
+    }
+
+    private int writeChunk(List<DepartmentReportSnapshot> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        int size = chunk.size();
+        snapshotRepository.saveAll(chunk);
+        entityManager.flush();
+        entityManager.clear();
+        chunk.clear();
+        return size;
+    }
+
+    private static DepartmentReportSnapshot toSnapshot(DepartmentSalaryAggregate aggregate, LocalDateTime generatedAt) {
+        DepartmentReportSnapshot snapshot = new DepartmentReportSnapshot();
+        snapshot.setGeneratedAt(generatedAt);
+        snapshot.setDepartmentId(aggregate.getDepartmentId());
+        snapshot.setDepartmentName(aggregate.getDepartmentName());
+        snapshot.setHeadcount(aggregate.getHeadcount());
+        snapshot.setTotalSalary(aggregate.getTotalSalary());
+        snapshot.setAverageSalary(aggregate.getAverageSalary());
+        snapshot.setMinSalary(aggregate.getMinSalary());
+        snapshot.setMaxSalary(aggregate.getMaxSalary());
+        return snapshot;
+    }
 }
@@ -0,0 +1,185 @@
+package com.company.ems.service;
+
+import com.company.ems.analytics.SalaryHistogram;
+import com.company.ems.repository.EmployeeRepository;
+import com.company.ems.repository.EmployeeRepository.EmployeeRoleSalary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * One {@link SalaryHistogram} per department and role, held in memory. A department is loaded from the
+ * employee table the first time it is asked for and from then on follows the committed salary changes
+ * published by {@link DepartmentSalarySummaryRecorder}; a bulk rebuild drops it so the next read reloads.
+ */
+@Component
+public class SalaryDistributionRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(SalaryDistributionRegistry.class);
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final Map<Long, DepartmentSketches> departments = new ConcurrentHashMap<>();
+
+    // Commits touching each department, tracked from before they commit until their change has been applied
+    private final Map<Long, CommitTracker> trackers = new ConcurrentHashMap<>();
+
+    /** Merged copy of the given department's sketches, restricted to {@code role} when it is not null. */
+    public SalaryHistogram snapshot(Long departmentId, String role) {
+        DepartmentSketches sketches = departments.get(departmentId);
+        if (sketches == null) {
+            sketches = load(departmentId);
+        }
+        return sketches.merged(role);
+    }
+
+    // Tracked before the commit, so a load that already reads the committed rows can tell the change is still
+    // to be applied on top; the change itself is applied once the transaction has committed.
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onSalaryChanges(DepartmentSalarySummaryRecorder.Changes changes) {
+        Set<Long> departmentIds = changes.departmentIds();
+        afterCompletion(departmentIds, committed -> {
+            if (committed) {
+                for (Long departmentId : departmentIds) {
+                    DepartmentSketches sketches = departments.get(departmentId);
+                    if (sketches != null) {
+                        sketches.apply(changes, departmentId);
+                    }
+                }
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onSummariesRebuilt(DepartmentSalarySummaryRecorder.Rebuilt rebuilt) {
+        Set<Long> departmentIds = rebuilt.getDepartmentIds();
+        afterCompletion(departmentIds, committed -> {
+            if (committed) {
+                departmentIds.forEach(departments::remove);
+                logger.debug("Salary sketches dropped for rebuilt departments: {}", departmentIds);
+            }
+        });
+    }
+
+    // Marks a commit of the departments as in flight and runs the action once the transaction has completed.
+    // The commit is ended whatever the outcome, so a failed commit cannot keep the departments uncached.
+    private void afterCompletion(Set<Long> departmentIds, Consumer<Boolean> action) {
+        departmentIds.forEach(departmentId -> tracker(departmentId).begin());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    action.accept(status == STATUS_COMMITTED);
+                } finally {
+                    departmentIds.forEach(departmentId -> tracker(departmentId).end());
+                }
+            }
+        });
+    }
+
+    private DepartmentSketches load(Long departmentId) {
+        CommitTracker tracker = tracker(departmentId);
+        DepartmentSketches loaded = null;
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            long before = tracker.settledVersion();
+            loaded = read(departmentId);
+            // A commit in flight when reading started, or begun since, may or may not be in the rows read and
+            // would still have its change applied on top, so the sketch is only installed if there was none
+            if (before != CommitTracker.UNSETTLED) {
+                synchronized (tracker) {
+                    if (tracker.version == before) {
+                        DepartmentSketches existing = departments.putIfAbsent(departmentId, loaded);
+                        return existing != null ? existing : loaded;
+                    }
+                }
+            }
+        }
+        logger.warn("Salary sketches of department {} kept changing while loading - serving an uncached read", departmentId);
+        return loaded;
+    }
+
+    private DepartmentSketches read(Long departmentId) {
+        DepartmentSketches sketches = new DepartmentSketches();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<EmployeeRoleSalary> rows = employeeRepository.streamRoleSalariesByDepartmentId(departmentId)) {
+                rows.forEach(row -> sketches.add(row.getRole(), row.getSalary()));
+            }
+        });
+        logger.debug("Salary sketches loaded for department {}", departmentId);
+        return sketches;
+    }
+
+    private CommitTracker tracker(Long departmentId) {
+        return trackers.computeIfAbsent(departmentId, id -> new CommitTracker());
+    }
+
+    private static final class CommitTracker {
+        static final long UNSETTLED = -1;
+
+        private long version;
+        private int inFlight;
+
+        synchronized void begin() {
+            version++;
+            inFlight++;
+        }
+
+        synchronized void end() {
+            inFlight--;
+        }
+
+        // The current version, or UNSETTLED while a commit is between its start and its applied change
+        synchronized long settledVersion() {
+            return inFlight == 0 ? version : UNSETTLED;
+        }
+    }
+
+    private static final class DepartmentSketches {
+        private final Map<String, SalaryHistogram> byRole = new HashMap<>();
+
+        synchronized void add(String role, Double salary) {
+            if (salary != null) {
+                byRole.computeIfAbsent(role, r -> new SalaryHistogram()).add(salary);
+            }
+        }
+
+        synchronized void apply(DepartmentSalarySummaryRecorder.Changes changes, Long departmentId) {
+            changes.added(departmentId).forEach(entry -> add(entry.role, entry.salary));
+            changes.removed(departmentId).forEach(entry -> {
+                SalaryHistogram sketch = byRole.get(entry.role);
+                if (sketch != null) {
+                    sketch.remove(entry.salary);
+                }
+            });
+        }
+
+        synchronized SalaryHistogram merged(String role) {
+            SalaryHistogram merged = new SalaryHistogram();
+            byRole.forEach((r, sketch) -> {
+                if (role == null || role.equals(r)) {
+                    merged.merge(sketch);
+                }
+            });
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.company.ems.service;
+
+import com.company.ems.analytics.SalaryHistogram;
+import com.company.ems.cache.ReferenceDataCache;
+import com.company.ems.dto.SalaryDistributionDTO;
+import com.company.ems.dto.SalaryHistogramBinDTO;
+import com.company.ems.exception.DepartmentNotFoundException;
+import com.company.ems.exception.InvalidDistributionRequestException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+@Service
+public class SalaryDistributionServiceImpl implements ISalaryDistributionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SalaryDistributionServiceImpl.class);
+
+    static final int MAX_BINS = 100;
+
+    @Autowired
+    private SalaryDistributionRegistry registry;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Override
+    public SalaryDistributionDTO getDistribution(List<Long> departmentIds, String role, int bins) {
+        try {
+            logger.debug("Fetching salary distribution - departments: {}, role: {}, bins: {}", departmentIds, role, bins);
+            if (bins < 0 || bins > MAX_BINS) {
+                throw new InvalidDistributionRequestException("bins must be between 0 and " + MAX_BINS);
+            }
+            String roleFilter = role == null || role.isBlank() ? null : role.trim();
+            List<Long> ids = resolveDepartmentIds(departmentIds);
+
+            // Per-department sketches merge into one; nothing here touches the employee table once they are loaded
+            SalaryHistogram merged = new SalaryHistogram();
+            ids.forEach(id -> merged.merge(registry.snapshot(id, roleFilter)));
+
+            SalaryDistributionDTO dto = new SalaryDistributionDTO();
+            dto.setDepartmentIds(ids);
+            dto.setRole(roleFilter);
+            dto.setCount(merged.getCount());
+            dto.setRelativeAccuracy(SalaryHistogram.RELATIVE_ACCURACY);
+            if (merged.getCount() > 0) {
+                dto.setMin(merged.min());
+                dto.setP50(merged.quantile(0.50));
+                dto.setP90(merged.quantile(0.90));
+                dto.setP99(merged.quantile(0.99));
+                dto.setMax(merged.max());
+                for (SalaryHistogram.Bin bin : merged.histogram(bins)) {
+                    SalaryHistogramBinDTO binDTO = new SalaryHistogramBinDTO();
+                    binDTO.setLower(bin.getLower());
+                    binDTO.setUpper(bin.getUpper());
+                    binDTO.setCount(bin.getCount());
+                    dto.getHistogram().add(binDTO);
+                }
+            }
+            logger.info("Salary distribution fetched successfully - departments: {}, role: {}, count: {}", ids.size(), roleFilter, dto.getCount());
+            return dto;
+        } catch (DepartmentNotFoundException | InvalidDistributionRequestException ex) {
+            logger.warn("Invalid salary distribution request: {}", ex.getMessage());
+            throw ex;
+        } catch (Exception ex) {
+            logger.error("Error fetching salary distribution: {}", ex.getMessage(), ex);
+            throw ex;
+        }
+    }
+
+    // No ids means every department
+    private List<Long> resolveDepartmentIds(List<Long> departmentIds) {
+        if (departmentIds == null || departmentIds.isEmpty()) {
+            List<Long> all = new ArrayList<>();
+            referenceDataCache.findAllDepartments().forEach(department -> all.add(department.getId()));
+            all.sort(null);
+            return all;
+        }
+        List<Long> ids = new ArrayList<>(new TreeSet<>(departmentIds));
+        for (Long id : ids) {
+            referenceDataCache.findDepartment(id)
+                    .orElseThrow(() -> new DepartmentNotFoundException("Department not found with id: " + id));
+        }
+        return ids;
+    }
+}
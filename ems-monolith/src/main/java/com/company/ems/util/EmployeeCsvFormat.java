@@ -0,0 +1,49 @@
+package com.company.ems.util;
+
+import com.company.ems.dto.EmployeeResponseDTO;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * CSV layout used by the employee export. Column names follow employees.csv where the two overlap
+ * (department, joiningDate, performance_score) so exported files can be fed back into the analytics pipeline.
+ */
+public final class EmployeeCsvFormat {
+
+    public static final String HEADER = "id,name,role,salary,department,joiningDate,performance_score,projects";
+
+    private EmployeeCsvFormat() {
+    }
+
+    public static String toRow(EmployeeResponseDTO dto) {
+        StringBuilder row = new StringBuilder(96);
+        row.append(dto.getId() != null ? dto.getId() : "").append(',');
+        row.append(escape(dto.getName())).append(',');
+        row.append(escape(dto.getRole())).append(',');
+        row.append(dto.getSalary() != null ? dto.getSalary() : "").append(',');
+        row.append(escape(dto.getDepartmentName())).append(',');
+        row.append(dto.getJoiningDate() != null ? dto.getJoiningDate() : "").append(',');
+        row.append(dto.getPerformanceScore() != null ? dto.getPerformanceScore() : "").append(',');
+        row.append(escape(joinProjects(dto.getProjectNames())));
+        return row.toString();
+    }
+
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String joinProjects(Set<String> projectNames) {
+        if (projectNames == null || projectNames.isEmpty()) {
+            return null;
+        }
+        // Sorted so repeated exports of unchanged data are byte-identical
+        return String.join(";", new TreeSet<>(projectNames));
+    }
+}
@@ -0,0 +1,48 @@
+package com.company.ems.util;
+
+import com.company.ems.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for employee listings. The token wraps the id of the last row a client has
+ * seen, so the next slice is read with {@code id > ?} instead of an OFFSET scan.
+ */
+public final class EmployeeCursor {
+
+    public static final int MAX_SLICE_SIZE = 1000;
+
+    private static final String PREFIX = "e:";
+
+    private EmployeeCursor() {
+    }
+
+    public static String encode(Long lastId) {
+        String raw = PREFIX + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Long decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return 0L;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new InvalidCursorException("Invalid cursor: " + token);
+            }
+            return Long.parseLong(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Invalid cursor: " + token);
+        }
+    }
+
+    /** Rejects slice sizes outside 1..{@link #MAX_SLICE_SIZE}: PageRequest fails on zero or less, and large slices are unbounded reads. */
+    public static int checkSize(int size) {
+        if (size < 1 || size > MAX_SLICE_SIZE) {
+            throw new InvalidCursorException("size must be between 1 and " + MAX_SLICE_SIZE + ", got " + size);
+        }
+        return size;
+    }
+}
@@ -0,0 +1,61 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * Moves the id sequences past the rows already in their tables. Databases created by ddl-auto before V1 hold
+ * IDENTITY ids 1..N and were baselined, while V1 created the sequences at 1, so the first pooled blocks would
+ * hand out existing ids. A Java migration because H2 has no setval: the position is read with nextval and
+ * moved with ALTER SEQUENCE ... RESTART WITH a literal, which PostgreSQL and H2 both accept.
+ */
+public class V6__Advance_id_sequences extends BaseJavaMigration {
+
+    // INCREMENT BY of the sequences, equal to the entities' allocationSize
+    static final long INCREMENT = 50;
+
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "department", "department_seq",
+            "employee", "employee_seq",
+            "project", "project_seq");
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            for (Map.Entry<String, String> entry : SEQUENCES.entrySet()) {
+                Long maxId = queryLong(statement, "SELECT MAX(id) FROM " + entry.getKey());
+                if (maxId == null) {
+                    continue;
+                }
+                long current = queryLong(statement, "SELECT nextval('" + entry.getValue() + "')");
+                long restart = restartValue(maxId, current);
+                if (restart > current + INCREMENT) {
+                    statement.execute("ALTER SEQUENCE " + entry.getValue() + " RESTART WITH " + restart);
+                }
+            }
+        }
+    }
+
+    /**
+     * First value the sequence may hand out next. Hibernate's pooled optimizer uses the ids
+     * {@code (value - INCREMENT, value]} for a fetched value, so it has to be at least {@code maxId + INCREMENT};
+     * it is rounded up to the sequence's own steps (1, 51, 101, ...) and never moves below the block just fetched.
+     */
+    static long restartValue(long maxId, long current) {
+        long pastRows = (maxId + INCREMENT - 1) / INCREMENT * INCREMENT + 1 + INCREMENT;
+        return Math.max(pastRows, current + INCREMENT);
+    }
+
+    private static Long queryLong(Statement statement, String sql) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            long value = rs.getLong(1);
+            return rs.wasNull() ? null : value;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+-- Id sequences (INCREMENT BY must match the entities' allocationSize for Hibernate's pooled optimizer)
+CREATE SEQUENCE IF NOT EXISTS department_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS employee_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS project_seq START WITH 1 INCREMENT BY 50;
+
+-- Department Table
+CREATE TABLE IF NOT EXISTS department (
+    id BIGINT DEFAULT nextval('department_seq') PRIMARY KEY,
+    name VARCHAR(100) NOT NULL
+);
+
+-- Employee Table
+CREATE TABLE IF NOT EXISTS employee (
+    id BIGINT DEFAULT nextval('employee_seq') PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    role VARCHAR(50) NOT NULL,
+    salary DECIMAL(10, 2) NOT NULL,
+    joining_date DATE NOT NULL,
+    department_id BIGINT REFERENCES department(id)
+);
+
+-- Indexes backing the ordered employee listings (/employees/sorted, /employees/sorted-by-salary)
+CREATE INDEX IF NOT EXISTS idx_employee_name_joining_date ON employee(name, joining_date);
+CREATE INDEX IF NOT EXISTS idx_employee_salary ON employee(salary);
+
+-- Project Table
+CREATE TABLE IF NOT EXISTS project (
+    id BIGINT DEFAULT nextval('project_seq') PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    duration INT NOT NULL -- duration in months
+);
+
+-- Employee_Project Junction Table (Many-to-Many)
+CREATE TABLE IF NOT EXISTS employee_project (
+    employee_id BIGINT REFERENCES employee(id),
+    project_id BIGINT REFERENCES project(id),
+    PRIMARY KEY (employee_id, project_id)
+);
@@ -0,0 +1,17 @@
+-- Secondary indexes for the employee read paths
+
+-- /employees?department= joins department and filters on its name
+CREATE INDEX IF NOT EXISTS idx_department_name ON department(name);
+
+-- Department join and per-department employee counts
+CREATE INDEX IF NOT EXISTS idx_employee_department_id ON employee(department_id);
+
+-- The ordered listings break ties on id (ORDER BY name, joining_date, id / salary, id); carrying id
+-- in the index lets the whole ORDER BY be read from it instead of sorting the matching rows
+DROP INDEX IF EXISTS idx_employee_name_joining_date;
+CREATE INDEX IF NOT EXISTS idx_employee_name_joining_date_id ON employee(name, joining_date, id);
+DROP INDEX IF EXISTS idx_employee_salary;
+CREATE INDEX IF NOT EXISTS idx_employee_salary_id ON employee(salary, id);
+
+-- Reverse lookups of the junction table (employees of a project); the primary key only covers employee_id first
+CREATE INDEX IF NOT EXISTS idx_employee_project_project_id ON employee_project(project_id);
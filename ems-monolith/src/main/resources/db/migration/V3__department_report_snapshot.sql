@@ -0,0 +1,17 @@
+-- Department headcount/salary aggregates written by ReportGeneratorService, one row per department per run
+CREATE SEQUENCE IF NOT EXISTS department_report_snapshot_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS department_report_snapshot (
+    id BIGINT DEFAULT nextval('department_report_snapshot_seq') PRIMARY KEY,
+    generated_at TIMESTAMP NOT NULL,
+    department_id BIGINT NOT NULL,
+    department_name VARCHAR(100) NOT NULL,
+    headcount BIGINT NOT NULL,
+    total_salary DOUBLE PRECISION NOT NULL,
+    average_salary DOUBLE PRECISION NOT NULL,
+    min_salary DOUBLE PRECISION NOT NULL,
+    max_salary DOUBLE PRECISION NOT NULL
+);
+
+-- Latest run lookups
+CREATE INDEX IF NOT EXISTS idx_department_report_snapshot_generated_at ON department_report_snapshot(generated_at);
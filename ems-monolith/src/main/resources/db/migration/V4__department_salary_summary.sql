@@ -0,0 +1,19 @@
+-- Running per-department salary figures, maintained by EmployeeServiceImpl in the same transaction as the
+-- employee write. Min/max are recomputed from the (department_id, salary) index when the current extreme leaves.
+CREATE TABLE IF NOT EXISTS department_salary_summary (
+    department_id BIGINT PRIMARY KEY REFERENCES department(id) ON DELETE CASCADE,
+    headcount BIGINT NOT NULL,
+    total_salary DOUBLE PRECISION NOT NULL,
+    min_salary DOUBLE PRECISION,
+    max_salary DOUBLE PRECISION
+);
+
+INSERT INTO department_salary_summary (department_id, headcount, total_salary, min_salary, max_salary)
+SELECT d.id, COUNT(e.id), COALESCE(SUM(e.salary), 0), MIN(e.salary), MAX(e.salary)
+FROM department d
+LEFT JOIN employee e ON e.department_id = d.id
+GROUP BY d.id;
+
+-- Serves both the department filter and the min/max recomputation; supersedes the department_id-only index
+DROP INDEX IF EXISTS idx_employee_department_id;
+CREATE INDEX IF NOT EXISTS idx_employee_department_id_salary ON employee(department_id, salary);
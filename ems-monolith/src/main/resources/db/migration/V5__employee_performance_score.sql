@@ -0,0 +1,2 @@
+-- Latest review score (0-100) as carried by the HR export; NULL until an employee has been reviewed
+ALTER TABLE employee ADD COLUMN IF NOT EXISTS performance_score INTEGER;
@@ -0,0 +1,8 @@
+-- Departments created after V4 ran got no summary row until createDepartment started inserting one;
+-- add theirs so employee writes always find a row to lock
+INSERT INTO department_salary_summary (department_id, headcount, total_salary, min_salary, max_salary)
+SELECT d.id, COUNT(e.id), COALESCE(SUM(e.salary), 0), MIN(e.salary), MAX(e.salary)
+FROM department d
+LEFT JOIN employee e ON e.department_id = d.id
+WHERE NOT EXISTS (SELECT 1 FROM department_salary_summary s WHERE s.department_id = d.id)
+GROUP BY d.id;
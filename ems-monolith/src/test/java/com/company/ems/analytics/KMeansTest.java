@@ -0,0 +1,64 @@
+package com.company.ems.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KMeansTest {
+
+    // Three tight, well separated blobs of 200 points each
+    private static double[][] blobs() {
+        double[][] centres = {{0, 0}, {10, 10}, {-10, 10}};
+        Random random = new Random(7);
+        double[][] features = new double[2][600];
+        for (int row = 0; row < 600; row++) {
+            double[] centre = centres[row / 200];
+            features[0][row] = centre[0] + random.nextGaussian() * 0.5;
+            features[1][row] = centre[1] + random.nextGaussian() * 0.5;
+        }
+        return features;
+    }
+
+    @Test
+    public void testFit_SeparatesWellSeparatedBlobs() {
+        KMeans model = KMeans.fit(blobs(), 3, 10, 42);
+
+        int[] labels = model.getLabels();
+        for (int blob = 0; blob < 3; blob++) {
+            int first = labels[blob * 200];
+            int start = blob * 200;
+            assertTrue(IntStream.range(start, start + 200).allMatch(row -> labels[row] == first));
+        }
+        assertEquals(3, IntStream.of(labels[0], labels[200], labels[400]).distinct().count());
+        assertTrue(model.getInertia() < 600);
+    }
+
+    @Test
+    public void testFit_IsDeterministicForASeed() {
+        double[][] features = blobs();
+
+        assertArrayEquals(KMeans.fit(features, 3, 5, 42).getLabels(), KMeans.fit(features, 3, 5, 42).getLabels());
+    }
+
+    @Test
+    public void testFit_FewerRowsThanClusters() {
+        KMeans model = KMeans.fit(new double[][] {{1, 2}, {1, 2}}, 3, 10, 42);
+
+        assertEquals(2, model.getLabels().length);
+        assertEquals(2, model.getCentroids().length);
+    }
+
+    @Test
+    public void testStandardize_ZeroMeanUnitVariance() {
+        double[][] features = {{10, 20, 30, 40}, {5, 5, 5, 5}};
+
+        KMeans.standardize(features);
+
+        assertEquals(0, IntStream.range(0, 4).mapToDouble(i -> features[0][i]).sum(), 1e-9);
+        assertEquals(4, IntStream.range(0, 4).mapToDouble(i -> features[0][i] * features[0][i]).sum(), 1e-9);
+        assertArrayEquals(new double[] {0, 0, 0, 0}, features[1]);
+    }
+}
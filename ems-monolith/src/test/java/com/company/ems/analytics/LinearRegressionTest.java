@@ -0,0 +1,57 @@
+package com.company.ems.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LinearRegressionTest {
+
+    @Test
+    public void testFit_RecoversExactLine() {
+        double[] x = {1, 2, 3, 4, 5};
+        double[] y = {3500, 6500, 9500, 12500, 15500};
+
+        LinearRegression model = LinearRegression.fit(x, y, new int[] {0, 1, 2, 3, 4});
+
+        assertEquals(3000, model.getCoefficient(), 1e-9);
+        assertEquals(500, model.getIntercept(), 1e-9);
+        assertEquals(0, model.meanSquaredError(x, y, new int[] {0, 4}), 1e-9);
+        assertEquals(1, model.r2Score(x, y, new int[] {0, 2, 4}), 1e-12);
+    }
+
+    @Test
+    public void testFit_MatchesTextbookLeastSquares() {
+        double[] x = {1, 2, 3, 4};
+        double[] y = {6, 5, 7, 10};
+
+        LinearRegression model = LinearRegression.fit(x, y, new int[] {0, 1, 2, 3});
+
+        assertEquals(1.4, model.getCoefficient(), 1e-9);
+        assertEquals(3.5, model.getIntercept(), 1e-9);
+        assertEquals(1.05, model.meanSquaredError(x, y, new int[] {0, 1, 2, 3}), 1e-9);
+    }
+
+    @Test
+    public void testFit_ConstantFeaturePredictsMean() {
+        LinearRegression model = LinearRegression.fit(new double[] {2, 2, 2}, new double[] {10, 20, 30}, new int[] {0, 1, 2});
+
+        assertEquals(0, model.getCoefficient());
+        assertEquals(20, model.predict(7), 1e-9);
+    }
+
+    @Test
+    public void testTrainTestSplit_IsDeterministicAndDisjoint() {
+        int[] rows = IntStream.range(0, 30).toArray();
+
+        int[][] first = LinearRegression.trainTestSplit(rows, 0.2, 42);
+        int[][] second = LinearRegression.trainTestSplit(rows, 0.2, 42);
+
+        assertEquals(24, first[0].length);
+        assertEquals(6, first[1].length);
+        assertArrayEquals(first[0], second[0]);
+        int[] all = IntStream.concat(IntStream.of(first[0]), IntStream.of(first[1])).sorted().toArray();
+        assertArrayEquals(rows, all);
+    }
+}
@@ -0,0 +1,99 @@
+package com.company.ems.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SalaryHistogramTest {
+
+    private static void assertWithinAccuracy(double expected, double actual) {
+        assertEquals(expected, actual, expected * SalaryHistogram.RELATIVE_ACCURACY * 1.0001,
+                "expected " + expected + " but was " + actual);
+    }
+
+    @Test
+    public void testQuantiles_WithinRelativeAccuracyOfExactValues() {
+        Random random = new Random(11);
+        double[] salaries = new double[20_000];
+        SalaryHistogram sketch = new SalaryHistogram();
+        for (int i = 0; i < salaries.length; i++) {
+            salaries[i] = 30_000 + Math.abs(random.nextGaussian()) * 60_000;
+            sketch.add(salaries[i]);
+        }
+        Arrays.sort(salaries);
+
+        assertEquals(salaries.length, sketch.getCount());
+        for (double q : new double[] {0, 0.5, 0.9, 0.99, 1}) {
+            assertWithinAccuracy(salaries[(int) Math.floor(q * (salaries.length - 1))], sketch.quantile(q));
+        }
+    }
+
+    @Test
+    public void testMerge_EqualsSketchOfCombinedValues() {
+        SalaryHistogram it = new SalaryHistogram();
+        SalaryHistogram hr = new SalaryHistogram();
+        SalaryHistogram all = new SalaryHistogram();
+        for (int i = 1; i <= 100; i++) {
+            it.add(1000.0 * i);
+            all.add(1000.0 * i);
+        }
+        for (int i = 1; i <= 50; i++) {
+            hr.add(250_000.0 + i);
+            all.add(250_000.0 + i);
+        }
+
+        SalaryHistogram merged = it.copy();
+        merged.merge(hr);
+
+        assertEquals(150, merged.getCount());
+        for (double q : new double[] {0.1, 0.5, 0.9, 0.99}) {
+            assertEquals(all.quantile(q), merged.quantile(q));
+        }
+        assertEquals(100, it.getCount());
+    }
+
+    @Test
+    public void testRemove_UndoesAdd() {
+        SalaryHistogram sketch = new SalaryHistogram();
+        sketch.add(50_000);
+        sketch.add(60_000);
+        sketch.add(200_000);
+
+        sketch.remove(200_000);
+        sketch.remove(999_999);
+
+        assertEquals(2, sketch.getCount());
+        assertWithinAccuracy(60_000, sketch.max());
+        assertWithinAccuracy(50_000, sketch.min());
+    }
+
+    @Test
+    public void testEmptySketch() {
+        SalaryHistogram sketch = new SalaryHistogram();
+
+        assertTrue(Double.isNaN(sketch.quantile(0.5)));
+        assertTrue(sketch.histogram(10).isEmpty());
+        sketch.merge(new SalaryHistogram());
+        assertEquals(0, sketch.getCount());
+    }
+
+    @Test
+    public void testHistogram_BinsCoverEveryValue() {
+        SalaryHistogram sketch = new SalaryHistogram();
+        for (int i = 0; i < 1000; i++) {
+            sketch.add(40_000 + i * 100);
+        }
+
+        List<SalaryHistogram.Bin> bins = sketch.histogram(5);
+
+        assertEquals(5, bins.size());
+        assertEquals(1000, bins.stream().mapToLong(SalaryHistogram.Bin::getCount).sum());
+        assertEquals(sketch.min(), bins.get(0).getLower());
+        assertEquals(sketch.max(), bins.get(4).getUpper());
+        bins.forEach(bin -> assertTrue(bin.getCount() > 150, "bin count " + bin.getCount()));
+    }
+}
@@ -0,0 +1,48 @@
+package com.company.ems.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TopNTest {
+
+    @Test
+    public void testSelect_LargestKeysInDescendingOrder() {
+        double[] keys = {50, 90, 70, 99, 10, 80};
+
+        assertArrayEquals(new int[] {3, 1, 5}, TopN.select(keys, 3, row -> true));
+    }
+
+    @Test
+    public void testSelect_TiesKeepTheEarlierRow() {
+        double[] keys = {93, 98, 93, 93};
+
+        assertArrayEquals(new int[] {1, 0, 2}, TopN.select(keys, 3, row -> true));
+    }
+
+    @Test
+    public void testSelect_AppliesFilterAndShortResult() {
+        double[] keys = {95, 60, 92, Double.NaN};
+
+        assertArrayEquals(new int[] {0, 2}, TopN.select(keys, 10, row -> keys[row] > 90));
+        assertEquals(0, TopN.select(keys, 0, row -> true).length);
+    }
+
+    @Test
+    public void testSelect_MatchesFullSortOnLargeInput() {
+        Random random = new Random(3);
+        double[] keys = IntStream.range(0, 100_000).mapToDouble(i -> random.nextInt(1000)).toArray();
+
+        int[] expected = IntStream.range(0, keys.length).boxed()
+                .sorted(Comparator.<Integer>comparingDouble(row -> keys[row]).reversed().thenComparing(row -> row))
+                .limit(25)
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        assertArrayEquals(expected, TopN.select(keys, 25, row -> true));
+    }
+}
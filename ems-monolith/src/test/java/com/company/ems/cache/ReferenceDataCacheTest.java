@@ -0,0 +1,164 @@
+package com.company.ems.cache;
+
+import com.company.ems.model.Department;
+import com.company.ems.model.Project;
+import com.company.ems.repository.DepartmentRepository;
+import com.company.ems.repository.ProjectRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReferenceDataCacheTest {
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private ReferenceDataCache referenceDataCache;
+
+    private Department it;
+
+    @BeforeEach
+    public void setUp() {
+        referenceDataCache = new ReferenceDataCache(100, Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(referenceDataCache, "departmentRepository", departmentRepository);
+        ReflectionTestUtils.setField(referenceDataCache, "projectRepository", projectRepository);
+
+        it = new Department();
+        it.setId(1L);
+        it.setName("IT");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static Project project(Long id, String name) {
+        Project project = new Project();
+        project.setId(id);
+        project.setName(name);
+        return project;
+    }
+
+    @Test
+    public void testFindDepartment_SecondLookupIsServedFromCache() {
+        when(departmentRepository.findById(1L)).thenReturn(Optional.of(it));
+
+        assertSame(it, referenceDataCache.findDepartment(1L).orElseThrow());
+        assertSame(it, referenceDataCache.findDepartment(1L).orElseThrow());
+
+        verify(departmentRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    public void testFindDepartment_MissIsNotCached() {
+        when(departmentRepository.findById(2L)).thenReturn(Optional.empty());
+
+        assertTrue(referenceDataCache.findDepartment(2L).isEmpty());
+        assertTrue(referenceDataCache.findDepartment(2L).isEmpty());
+
+        verify(departmentRepository, times(2)).findById(2L);
+    }
+
+    @Test
+    public void testEvictDepartment_ReloadsDepartmentAndList() {
+        when(departmentRepository.findById(1L)).thenReturn(Optional.of(it));
+        when(departmentRepository.findAll()).thenReturn(List.of(it));
+
+        referenceDataCache.findDepartment(1L);
+        referenceDataCache.findAllDepartments();
+        referenceDataCache.findAllDepartments();
+        referenceDataCache.evictDepartment(1L);
+        referenceDataCache.findDepartment(1L);
+        referenceDataCache.findAllDepartments();
+
+        verify(departmentRepository, times(2)).findById(1L);
+        verify(departmentRepository, times(2)).findAll();
+    }
+
+    @Test
+    public void testEvictDepartment_InTransactionWaitsForCommit() {
+        Department hr = new Department();
+        hr.setId(2L);
+        hr.setName("HR");
+        when(departmentRepository.findAll()).thenReturn(List.of(it), List.of(it, hr));
+        referenceDataCache.findAllDepartments();
+
+        TransactionSynchronizationManager.initSynchronization();
+        referenceDataCache.evictDepartment(2L);
+        // A read between the write and its commit still gets the cached list, and nothing stale is reloaded
+        assertEquals(List.of(it), referenceDataCache.findAllDepartments());
+        verify(departmentRepository, times(1)).findAll();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertEquals(List.of(it, hr), referenceDataCache.findAllDepartments());
+    }
+
+    @Test
+    public void testFindAllDepartments_PopulatesSingleLookups() {
+        when(departmentRepository.findAll()).thenReturn(List.of(it));
+
+        assertEquals(List.of(it), referenceDataCache.findAllDepartments());
+        assertSame(it, referenceDataCache.findDepartment(1L).orElseThrow());
+
+        verify(departmentRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    public void testFindProjects_LoadsOnlyMissingIdsInOneQuery() {
+        Project apollo = project(10L, "Apollo");
+        Project gemini = project(11L, "Gemini");
+        when(projectRepository.findById(10L)).thenReturn(Optional.of(apollo));
+        when(projectRepository.findAllById(Set.of(11L, 12L))).thenReturn(List.of(gemini));
+
+        referenceDataCache.findProject(10L);
+        Map<Long, Project> found = referenceDataCache.findProjects(List.of(10L, 11L, 12L));
+
+        assertEquals(Map.of(10L, apollo, 11L, gemini), found);
+        verify(projectRepository, times(1)).findAllById(Set.of(11L, 12L));
+
+        assertEquals(Map.of(11L, gemini), referenceDataCache.findProjects(List.of(11L)));
+        verifyNoMoreInteractions(projectRepository);
+    }
+
+    @Test
+    public void testRegisterMetrics_PublishesHitAndMissCounters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", registry);
+        referenceDataCache.registerMetrics(beanFactory.getBeanProvider(MeterRegistry.class));
+        when(departmentRepository.findById(1L)).thenReturn(Optional.of(it));
+
+        referenceDataCache.findDepartment(1L);
+        referenceDataCache.findDepartment(1L);
+
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "departments").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "departments").tag("result", "miss").functionCounter().count());
+    }
+}
@@ -0,0 +1,62 @@
+package com.company.ems.controller;
+
+import com.company.ems.dto.AnalyticsEmployeeDTO;
+import com.company.ems.dto.AnalyticsReportDTO;
+import com.company.ems.dto.SalaryRegressionDTO;
+import com.company.ems.service.IAnalyticsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AnalyticsController.class)
+public class AnalyticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private IAnalyticsService analyticsService;
+
+    @Test
+    public void testGetReport_Success() throws Exception {
+        AnalyticsReportDTO report = new AnalyticsReportDTO();
+        report.setEmployeeCount(30);
+        report.getAverageSalary().put("IT", 100371.4);
+        AnalyticsEmployeeDTO performer = new AnalyticsEmployeeDTO();
+        performer.setName("Employee 24");
+        performer.setRole("Developer");
+        performer.setPerformanceScore(99);
+        report.getTopPerformers().add(performer);
+        SalaryRegressionDTO regression = new SalaryRegressionDTO();
+        regression.setCoefficient(1250.5);
+        report.setSalaryRegression(regression);
+
+        when(analyticsService.generateReport()).thenReturn(report);
+
+        mockMvc.perform(get("/analytics/report"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employeeCount", is(30)))
+                .andExpect(jsonPath("$.averageSalary.IT", is(100371.4)))
+                .andExpect(jsonPath("$.topPerformers", hasSize(1)))
+                .andExpect(jsonPath("$.topPerformers[0].performanceScore", is(99)))
+                .andExpect(jsonPath("$.salaryRegression.coefficient", is(1250.5)));
+
+        verify(analyticsService, times(1)).generateReport();
+    }
+
+    @Test
+    public void testGetReport_ServiceException() throws Exception {
+        when(analyticsService.generateReport()).thenThrow(new RuntimeException("Database unavailable"));
+
+        mockMvc.perform(get("/analytics/report"))
+                .andExpect(status().isInternalServerError());
+    }
+}
@@ -2,6 +2,7 @@ package com.company.ems.controller;
 
 import com.company.ems.dto.DepartmentRequestDTO;
 import com.company.ems.dto.DepartmentResponseDTO;
+import com.company.ems.dto.DepartmentSalaryStatsDTO;
 import com.company.ems.dto.DepartmentUpdateRequestDTO;
 import com.company.ems.exception.DepartmentNotFoundException;
 import com.company.ems.service.IDepartmentService;
@@ -330,6 +331,41 @@ public class DepartmentControllerTest {
         verify(departmentService, times(1)).getDepartmentById(999L);
     }
 
+    @Test
+    public void testGetSalaryStats_Success() throws Exception {
+        DepartmentSalaryStatsDTO stats = new DepartmentSalaryStatsDTO();
+        stats.setDepartmentId(1L);
+        stats.setDepartmentName("IT");
+        stats.setHeadcount(2L);
+        stats.setTotalSalary(150000.0);
+        stats.setAverageSalary(75000.0);
+        stats.setMinSalary(50000.0);
+        stats.setMaxSalary(100000.0);
+
+        when(departmentService.getSalaryStats(1L)).thenReturn(stats);
+
+        mockMvc.perform(get("/departments/1/salary-stats")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.departmentName", is("IT")))
+                .andExpect(jsonPath("$.headcount", is(2)))
+                .andExpect(jsonPath("$.averageSalary", is(75000.0)))
+                .andExpect(jsonPath("$.minSalary", is(50000.0)))
+                .andExpect(jsonPath("$.maxSalary", is(100000.0)));
+
+        verify(departmentService, times(1)).getSalaryStats(1L);
+    }
+
+    @Test
+    public void testGetSalaryStats_NotFound() throws Exception {
+        when(departmentService.getSalaryStats(999L))
+                .thenThrow(new DepartmentNotFoundException("Department not found with id: 999"));
+
+        mockMvc.perform(get("/departments/999/salary-stats")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     public void testCreateDepartment_ServiceException() throws Exception {
         when(departmentService.createDepartment(any(DepartmentRequestDTO.class)))
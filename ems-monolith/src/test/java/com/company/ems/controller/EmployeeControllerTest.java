@@ -1,10 +1,16 @@
 package com.company.ems.controller;
 
+import com.company.ems.dto.EmployeeBatchItemResultDTO;
+import com.company.ems.dto.EmployeeBatchResponseDTO;
+import com.company.ems.dto.EmployeeBatchUpdateRequestDTO;
 import com.company.ems.dto.EmployeeRequestDTO;
 import com.company.ems.dto.EmployeeResponseDTO;
 import com.company.ems.dto.EmployeeUpdateRequestDTO;
 import com.company.ems.exception.EmployeeNotFoundException;
+import com.company.ems.exception.InvalidBatchRequestException;
+import com.company.ems.exception.InvalidTopRequestException;
 import com.company.ems.service.IEmployeeService;
+import com.company.ems.util.EmployeeCursor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,14 +20,26 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.hamcrest.Matchers.is;
@@ -174,30 +192,107 @@ public class EmployeeControllerTest {
 
         List<EmployeeResponseDTO> sortedEmployees = Arrays.asList(employee1, employee2);
 
-        when(employeeService.getAllEmployeesSortedByNameAndDate())
-                .thenReturn(sortedEmployees);
+        doAnswer(invocation -> {
+            Consumer<EmployeeResponseDTO> consumer = invocation.getArgument(0);
+            sortedEmployees.forEach(consumer);
+            return null;
+        }).when(employeeService).streamEmployeesSortedByNameAndDate(any());
 
-        mockMvc.perform(get("/employees/sorted")
+        MvcResult result = mockMvc.perform(get("/employees/sorted")
                 .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$", hasSize(2)))
                 .andExpect(jsonPath("$[0].name", is("Alice Johnson")))
+                .andExpect(jsonPath("$[0].joiningDate", is("2020-05-10")))
                 .andExpect(jsonPath("$[1].name", is("Bob Smith")));
 
-        verify(employeeService, times(1)).getAllEmployeesSortedByNameAndDate();
+        verify(employeeService, times(1)).streamEmployeesSortedByNameAndDate(any());
     }
 
     @Test
     public void testGetSortedEmployees_Empty() throws Exception {
-        when(employeeService.getAllEmployeesSortedByNameAndDate())
-                .thenReturn(Arrays.asList());
+        doNothing().when(employeeService).streamEmployeesSortedByNameAndDate(any());
+
+        MvcResult result = mockMvc.perform(get("/employees/sorted")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
 
-        mockMvc.perform(get("/employees/sorted")
+        verify(employeeService, times(1)).streamEmployeesSortedByNameAndDate(any());
+    }
+
+    @Test
+    public void testGetEmployeesSortedBySalary_Success() throws Exception {
+        EmployeeResponseDTO lowPaid = new EmployeeResponseDTO();
+        lowPaid.setId(2L);
+        lowPaid.setName("Bob Smith");
+        lowPaid.setSalary(40000.0);
+
+        doAnswer(invocation -> {
+            Consumer<EmployeeResponseDTO> consumer = invocation.getArgument(0);
+            consumer.accept(lowPaid);
+            consumer.accept(employeeResponseDTO);
+            return null;
+        }).when(employeeService).streamEmployeesSortedBySalary(any());
+
+        MvcResult result = mockMvc.perform(get("/employees/sorted-by-salary")
                 .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].salary", is(40000.0)))
+                .andExpect(jsonPath("$[1].salary", is(75000.0)));
+
+        verify(employeeService, times(1)).streamEmployeesSortedBySalary(any());
+    }
+
+    @Test
+    public void testGetTopEmployees_Success() throws Exception {
+        EmployeeResponseDTO best = new EmployeeResponseDTO(2L, "Jane Smith", "Developer", 90000.0, LocalDate.of(2022, 1, 1), "IT", 97);
+        when(employeeService.getTopEmployees("performance", 1)).thenReturn(List.of(best));
+
+        mockMvc.perform(get("/employees/top")
+                .param("by", "performance")
+                .param("n", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name", is("Jane Smith")))
+                .andExpect(jsonPath("$[0].performanceScore", is(97)));
+
+        verify(employeeService, times(1)).getTopEmployees("performance", 1);
+    }
+
+    @Test
+    public void testGetTopEmployees_DefaultsToTenBySalary() throws Exception {
+        when(employeeService.getTopEmployees("salary", 10)).thenReturn(List.of());
+
+        mockMvc.perform(get("/employees/top"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(0)));
 
-        verify(employeeService, times(1)).getAllEmployeesSortedByNameAndDate();
+        verify(employeeService, times(1)).getTopEmployees("salary", 10);
+    }
+
+    @Test
+    public void testGetTopEmployees_InvalidRanking() throws Exception {
+        when(employeeService.getTopEmployees("age", 10))
+                .thenThrow(new InvalidTopRequestException("Unsupported ranking: age (expected salary or performance)"));
+
+        mockMvc.perform(get("/employees/top").param("by", "age"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Unsupported ranking: age (expected salary or performance)")));
     }
 
     @Test
@@ -357,14 +452,18 @@ public class EmployeeControllerTest {
 
     @Test
     public void testGetSortedEmployees_ServiceException() throws Exception {
-        when(employeeService.getAllEmployeesSortedByNameAndDate())
-                .thenThrow(new RuntimeException("Error fetching sorted employees"));
+        doThrow(new RuntimeException("Error fetching sorted employees"))
+                .when(employeeService).streamEmployeesSortedByNameAndDate(any());
 
-        mockMvc.perform(get("/employees/sorted")
+        MvcResult result = mockMvc.perform(get("/employees/sorted")
                 .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isInternalServerError());
 
-        verify(employeeService, times(1)).getAllEmployeesSortedByNameAndDate();
+        verify(employeeService, times(1)).streamEmployeesSortedByNameAndDate(any());
     }
 
     @Test
@@ -437,4 +536,196 @@ public class EmployeeControllerTest {
 
         verify(employeeService, times(1)).deleteEmployee(1L);
     }
+
+    @Test
+    public void testGetEmployeesByCursor_FirstSlice() throws Exception {
+        Slice<EmployeeResponseDTO> slice = new SliceImpl<>(Arrays.asList(employeeResponseDTO), PageRequest.of(0, 1), true);
+
+        when(employeeService.getEmployeesAfter(null, 0L, 1)).thenReturn(slice);
+
+        mockMvc.perform(get("/employees/cursor")
+                .param("size", "1")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].id", is(1)))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andExpect(jsonPath("$.nextCursor", is(EmployeeCursor.encode(1L))))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(employeeService, times(1)).getEmployeesAfter(null, 0L, 1);
+    }
+
+    @Test
+    public void testGetEmployeesByCursor_LastSlice() throws Exception {
+        Slice<EmployeeResponseDTO> slice = new SliceImpl<>(Arrays.asList(employeeResponseDTO), PageRequest.of(0, 10), false);
+
+        when(employeeService.getEmployeesAfter("Engineering", 42L, 10)).thenReturn(slice);
+
+        mockMvc.perform(get("/employees/cursor")
+                .param("department", "Engineering")
+                .param("after", EmployeeCursor.encode(42L))
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext", is(false)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(employeeService, times(1)).getEmployeesAfter("Engineering", 42L, 10);
+    }
+
+    @Test
+    public void testGetEmployeesByCursor_InvalidCursor() throws Exception {
+        mockMvc.perform(get("/employees/cursor")
+                .param("after", "not-a-cursor")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verify(employeeService, never()).getEmployeesAfter(any(), anyLong(), anyInt());
+    }
+
+    @Test
+    public void testGetEmployeesByCursor_SizeOutOfRange() throws Exception {
+        mockMvc.perform(get("/employees/cursor")
+                .param("size", "0")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/employees/cursor")
+                .param("size", "1001")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verify(employeeService, never()).getEmployeesAfter(any(), anyLong(), anyInt());
+    }
+
+    @Test
+    public void testExportEmployees_Ndjson() throws Exception {
+        EmployeeResponseDTO second = new EmployeeResponseDTO();
+        second.setId(2L);
+        second.setName("Jane Doe");
+
+        doAnswer(invocation -> {
+            Consumer<EmployeeResponseDTO> consumer = invocation.getArgument(0);
+            consumer.accept(employeeResponseDTO);
+            consumer.accept(second);
+            return null;
+        }).when(employeeService).streamAllEmployees(any());
+
+        MvcResult result = mockMvc.perform(get("/employees/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("John Doe", objectMapper.readTree(lines[0]).get("name").asText());
+        assertEquals(2L, objectMapper.readTree(lines[1]).get("id").asLong());
+    }
+
+    @Test
+    public void testExportEmployees_CsvGzip() throws Exception {
+        employeeResponseDTO.setPerformanceScore(92);
+        doAnswer(invocation -> {
+            Consumer<EmployeeResponseDTO> consumer = invocation.getArgument(0);
+            consumer.accept(employeeResponseDTO);
+            return null;
+        }).when(employeeService).streamAllEmployees(any());
+
+        MvcResult result = mockMvc.perform(get("/employees/export")
+                .param("format", "csv")
+                .param("gzip", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] compressed = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"employees.csv\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        String csv = new String(new GZIPInputStream(new ByteArrayInputStream(compressed)).readAllBytes(), StandardCharsets.UTF_8);
+        assertEquals("id,name,role,salary,department,joiningDate,performance_score,projects\n"
+                + "1,John Doe,Software Engineer,75000.0,Engineering,2022-01-15,92,\n", csv);
+    }
+
+    @Test
+    public void testExportEmployees_UnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/employees/export")
+                .param("format", "xml"))
+                .andExpect(status().isBadRequest());
+
+        verify(employeeService, never()).streamAllEmployees(any());
+    }
+
+    @Test
+    public void testCreateEmployees_Batch() throws Exception {
+        EmployeeBatchItemResultDTO created = new EmployeeBatchItemResultDTO();
+        created.setIndex(0);
+        created.setStatus(201);
+        created.setId(1L);
+        created.setEmployee(employeeResponseDTO);
+        EmployeeBatchItemResultDTO missingDepartment = new EmployeeBatchItemResultDTO();
+        missingDepartment.setIndex(1);
+        missingDepartment.setStatus(404);
+        missingDepartment.setMessage("Department not found with id: 99");
+        EmployeeBatchResponseDTO response = new EmployeeBatchResponseDTO();
+        response.setSucceeded(1);
+        response.setFailed(1);
+        response.setResults(List.of(created, missingDepartment));
+        when(employeeService.createEmployees(anyList())).thenReturn(response);
+
+        mockMvc.perform(post("/employees/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(employeeRequestDTO, employeeRequestDTO))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded", is(1)))
+                .andExpect(jsonPath("$.failed", is(1)))
+                .andExpect(jsonPath("$.results", hasSize(2)))
+                .andExpect(jsonPath("$.results[0].status", is(201)))
+                .andExpect(jsonPath("$.results[0].employee.name", is("John Doe")))
+                .andExpect(jsonPath("$.results[1].status", is(404)));
+
+        verify(employeeService, times(1)).createEmployees(argThat(list -> list.size() == 2));
+    }
+
+    @Test
+    public void testUpdateEmployees_Batch() throws Exception {
+        EmployeeBatchUpdateRequestDTO update = new EmployeeBatchUpdateRequestDTO();
+        update.setId(1L);
+        update.setName("John Doe");
+        EmployeeBatchItemResultDTO updated = new EmployeeBatchItemResultDTO();
+        updated.setStatus(200);
+        updated.setId(1L);
+        updated.setEmployee(employeeResponseDTO);
+        EmployeeBatchResponseDTO response = new EmployeeBatchResponseDTO();
+        response.setSucceeded(1);
+        response.setResults(List.of(updated));
+        when(employeeService.updateEmployees(anyList())).thenReturn(response);
+
+        mockMvc.perform(put("/employees/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(update))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status", is(200)))
+                .andExpect(jsonPath("$.results[0].id", is(1)));
+
+        verify(employeeService, times(1)).updateEmployees(argThat(list -> list.get(0).getId() == 1L));
+        verify(employeeService, never()).updateEmployee(anyLong(), any());
+    }
+
+    @Test
+    public void testCreateEmployees_EmptyBatch() throws Exception {
+        when(employeeService.createEmployees(anyList()))
+                .thenThrow(new InvalidBatchRequestException("Batch must contain at least one employee"));
+
+        mockMvc.perform(post("/employees/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Batch must contain at least one employee")));
+    }
 }
@@ -0,0 +1,67 @@
+package com.company.ems.controller;
+
+import com.company.ems.dto.EmployeeImportErrorDTO;
+import com.company.ems.dto.EmployeeImportResultDTO;
+import com.company.ems.exception.InvalidImportFileException;
+import com.company.ems.service.IEmployeeImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(EmployeeImportController.class)
+public class EmployeeImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private IEmployeeImportService employeeImportService;
+
+    @Test
+    public void testImportEmployees_Success() throws Exception {
+        EmployeeImportResultDTO result = new EmployeeImportResultDTO();
+        result.setTotalRows(2);
+        result.setImportedRows(1);
+        result.setFailedRows(1);
+        EmployeeImportErrorDTO error = new EmployeeImportErrorDTO();
+        error.setLine(3);
+        error.setMessage("salary must be positive");
+        result.getErrors().add(error);
+
+        when(employeeImportService.importEmployees(any(InputStream.class))).thenReturn(result);
+
+        mockMvc.perform(post("/employees/import")
+                .contentType("text/csv")
+                .content("id,name,role,salary,department,joiningDate\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedRows", is(1)))
+                .andExpect(jsonPath("$.failedRows", is(1)))
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].line", is(3)));
+
+        verify(employeeImportService, times(1)).importEmployees(any(InputStream.class));
+    }
+
+    @Test
+    public void testImportEmployees_InvalidFile() throws Exception {
+        when(employeeImportService.importEmployees(any(InputStream.class)))
+                .thenThrow(new InvalidImportFileException("Import file is missing required column: salary"));
+
+        mockMvc.perform(post("/employees/import")
+                .contentType("text/csv")
+                .content("name,role\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Import file is missing required column: salary")));
+    }
+}
@@ -0,0 +1,69 @@
+package com.company.ems.controller;
+
+import com.company.ems.dto.SalaryDistributionDTO;
+import com.company.ems.exception.DepartmentNotFoundException;
+import com.company.ems.service.ISalaryDistributionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SalaryDistributionController.class)
+public class SalaryDistributionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ISalaryDistributionService salaryDistributionService;
+
+    @Test
+    public void testGetDistribution_Success() throws Exception {
+        SalaryDistributionDTO distribution = new SalaryDistributionDTO();
+        distribution.setDepartmentIds(List.of(1L, 2L));
+        distribution.setRole("Developer");
+        distribution.setCount(120);
+        distribution.setP50(85000.0);
+        distribution.setP90(120000.0);
+        distribution.setP99(150000.0);
+
+        when(salaryDistributionService.getDistribution(List.of(1L, 2L), "Developer", 10)).thenReturn(distribution);
+
+        mockMvc.perform(get("/salary-distribution")
+                .param("departmentId", "1", "2")
+                .param("role", "Developer"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count", is(120)))
+                .andExpect(jsonPath("$.p50", is(85000.0)))
+                .andExpect(jsonPath("$.p99", is(150000.0)));
+
+        verify(salaryDistributionService, times(1)).getDistribution(List.of(1L, 2L), "Developer", 10);
+    }
+
+    @Test
+    public void testGetDistribution_AllDepartments() throws Exception {
+        when(salaryDistributionService.getDistribution(isNull(), isNull(), eq(5))).thenReturn(new SalaryDistributionDTO());
+
+        mockMvc.perform(get("/salary-distribution").param("bins", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count", is(0)));
+    }
+
+    @Test
+    public void testGetDistribution_UnknownDepartment() throws Exception {
+        when(salaryDistributionService.getDistribution(List.of(99L), null, 10))
+                .thenThrow(new DepartmentNotFoundException("Department not found with id: 99"));
+
+        mockMvc.perform(get("/salary-distribution").param("departmentId", "99"))
+                .andExpect(status().isNotFound());
+    }
+}
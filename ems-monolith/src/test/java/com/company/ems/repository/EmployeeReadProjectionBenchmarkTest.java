@@ -0,0 +1,149 @@
+package com.company.ems.repository;
+
+import com.company.ems.dto.EmployeeResponseDTO;
+import com.company.ems.model.Department;
+import com.company.ems.model.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class EmployeeReadProjectionBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeReadProjectionBenchmarkTest.class);
+
+    private static final int ROWS = 2000;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 10;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        Department department = new Department();
+        department.setName("IT");
+        entityManager.persist(department);
+        for (int i = 0; i < ROWS; i++) {
+            Employee employee = new Employee();
+            employee.setName("Employee " + i);
+            employee.setRole("Engineer");
+            employee.setSalary(40000.0 + i);
+            employee.setJoiningDate(LocalDate.of(2020, 1, 1).plusDays(i % 365));
+            employee.setDepartment(department);
+            entityManager.persist(employee);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testFindAllViews_MatchesEntityMappingWithoutHydration() {
+        Pageable pageable = PageRequest.of(1, 20, Sort.by("salary").descending());
+
+        Page<EmployeeResponseDTO> views = employeeRepository.findAllViews(pageable);
+
+        assertEquals(ROWS, views.getTotalElements());
+        assertEquals(20, views.getContent().size());
+        assertEquals(40000.0 + ROWS - 21, views.getContent().get(0).getSalary());
+        assertEquals("IT", views.getContent().get(0).getDepartmentName());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    public void testFindViewsByDepartmentName_FiltersOnJoinedDepartment() {
+        assertEquals(10, employeeRepository.findViewsByDepartmentName("IT", PageRequest.of(0, 10)).size());
+        assertTrue(employeeRepository.findViewsByDepartmentName("HR", PageRequest.of(0, 10)).isEmpty());
+    }
+
+    @Test
+    public void testFindAllViews_AllocatesLessThanEntityPage() {
+        Pageable pageable = PageRequest.of(0, ROWS);
+
+        Measurement entities = measure(() -> employeeRepository.findAll(pageable).getContent().stream()
+                .map(EmployeeReadProjectionBenchmarkTest::toDTO)
+                .collect(Collectors.toList()));
+        Measurement views = measure(() -> employeeRepository.findAllViews(pageable).getContent());
+
+        logger.info("Page of {} employees - entities: {} bytes, {} us; views: {} bytes, {} us", ROWS,
+                entities.bytes, entities.nanos / 1000, views.bytes, views.nanos / 1000);
+        // Hydration adds the entity instances, their loaded-state snapshots and persistence context entries.
+        assertTrue(views.bytes < entities.bytes, "views: " + views.bytes + " bytes, entities: " + entities.bytes + " bytes");
+    }
+
+    private Measurement measure(Supplier<List<EmployeeResponseDTO>> read) {
+        for (int i = 0; i < WARMUP; i++) {
+            assertEquals(ROWS, read.get().size());
+            entityManager.clear();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long bytes = 0;
+        long nanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long started = System.nanoTime();
+            read.get();
+            nanos += System.nanoTime() - started;
+            bytes += threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+            entityManager.clear();
+        }
+        return new Measurement(bytes / ITERATIONS, nanos / ITERATIONS);
+    }
+
+    // Mirrors the entity-to-DTO copy the service did before the views existed.
+    private static EmployeeResponseDTO toDTO(Employee employee) {
+        EmployeeResponseDTO dto = new EmployeeResponseDTO();
+        dto.setId(employee.getId());
+        dto.setName(employee.getName());
+        dto.setRole(employee.getRole());
+        dto.setSalary(employee.getSalary());
+        dto.setJoiningDate(employee.getJoiningDate());
+        dto.setDepartmentName(employee.getDepartment().getName());
+        return dto;
+    }
+
+    private static class Measurement {
+        private final long bytes;
+        private final long nanos;
+
+        private Measurement(long bytes, long nanos) {
+            this.bytes = bytes;
+            this.nanos = nanos;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.company.ems.repository;
+
+import com.company.ems.model.Department;
+import com.company.ems.model.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class EmployeeRepositoryBatchInsertTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeRepositoryBatchInsertTest.class);
+
+    private static final int ROWS = 2000;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Department department;
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        department = new Department();
+        department.setName("IT");
+        entityManager.persist(department);
+        entityManager.flush();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testSaveAll_InsertsAreDeferredUntilFlush() {
+        employeeRepository.saveAll(employees(BATCH_SIZE));
+
+        // With IDENTITY every save ran its INSERT immediately; a pooled sequence needs one call per block.
+        assertTrue(statistics.getPrepareStatementCount() <= 2, "statements: " + statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityInsertCount());
+    }
+
+    @Test
+    public void testSaveAll_BulkInsertUsesJdbcBatches() {
+        long started = System.nanoTime();
+        employeeRepository.saveAll(employees(ROWS));
+        entityManager.flush();
+        long elapsedNanos = System.nanoTime() - started;
+
+        // Sequence calls plus one prepared INSERT per batch, instead of one statement per row.
+        long maxStatements = 2L * (ROWS / BATCH_SIZE) + 2;
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= maxStatements,
+                "statements: " + statistics.getPrepareStatementCount());
+        logger.info("Inserted {} employees with {} statements - rows/sec: {}", ROWS,
+                statistics.getPrepareStatementCount(), Math.round(ROWS * 1_000_000_000.0 / elapsedNanos));
+    }
+
+    private List<Employee> employees(int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Employee employee = new Employee();
+            employee.setName("Employee " + i);
+            employee.setRole("Engineer");
+            employee.setSalary(40000.0 + i);
+            employee.setJoiningDate(LocalDate.of(2020, 1, 1).plusDays(i % 365));
+            employee.setDepartment(department);
+            employees.add(employee);
+        }
+        return employees;
+    }
+}
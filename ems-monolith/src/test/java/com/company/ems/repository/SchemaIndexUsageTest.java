@@ -0,0 +1,72 @@
+package com.company.ems.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs against the schema built by the Flyway migrations and checks the plans H2 picks for the
+// query shapes EmployeeRepository issues. Foreign key columns may be served by the index H2 creates
+// for the constraint itself, so those plans are only checked for not scanning the table.
+@DataJpaTest
+public class SchemaIndexUsageTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private String explain(String sql) {
+        return String.valueOf(entityManager.createNativeQuery("EXPLAIN " + sql).getSingleResult());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> indexes(String table) {
+        return entityManager.createNativeQuery(
+                        "SELECT LOWER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_NAME = ?1")
+                .setParameter(1, table)
+                .getResultList();
+    }
+
+    @Test
+    public void testMigrationsCreateSecondaryIndexes() {
+        assertTrue(indexes("DEPARTMENT").contains("idx_department_name"));
+        assertTrue(indexes("EMPLOYEE").containsAll(List.of(
+                "idx_employee_department_id_salary", "idx_employee_name_joining_date_id", "idx_employee_salary_id")));
+        assertTrue(indexes("EMPLOYEE_PROJECT").contains("idx_employee_project_project_id"));
+    }
+
+    @Test
+    public void testDepartmentFilter_SeeksDepartmentNameIndex() {
+        String plan = explain("SELECT e.id FROM employee e JOIN department d ON d.id = e.department_id WHERE d.name = 'IT'");
+
+        assertTrue(plan.contains("IDX_DEPARTMENT_NAME: NAME = 'IT'"), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    public void testSortedByNameAndJoiningDate_ReadsIndexInOrder() {
+        String plan = explain("SELECT e.id FROM employee e ORDER BY e.name, e.joining_date, e.id");
+
+        assertTrue(plan.contains("IDX_EMPLOYEE_NAME_JOINING_DATE_ID"), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    @Test
+    public void testSortedBySalary_ReadsIndexInOrder() {
+        String plan = explain("SELECT e.id FROM employee e ORDER BY e.salary, e.id");
+
+        assertTrue(plan.contains("IDX_EMPLOYEE_SALARY_ID"), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    @Test
+    public void testProjectMembers_DoNotScanJunctionTable() {
+        String plan = explain("SELECT ep.employee_id FROM employee_project ep WHERE ep.project_id = 1");
+
+        assertTrue(plan.contains("PROJECT_ID = "), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+}
@@ -0,0 +1,120 @@
+package com.company.ems.repository;
+
+import com.company.ems.model.Department;
+import com.company.ems.model.Employee;
+import com.company.ems.model.Project;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs without the test-managed transaction: the query cache only trusts results once the writing transaction committed.
+@DataJpaTest
+@ActiveProfiles("l2cache")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Department department;
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        department = new Department();
+        department.setName("IT");
+        department = departmentRepository.save(department);
+        employeeRepository.save(employee("Employee 1"));
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        employeeRepository.deleteAll();
+        departmentRepository.deleteAll();
+        projectRepository.deleteAll();
+    }
+
+    private Employee employee(String name) {
+        Employee employee = new Employee();
+        employee.setName(name);
+        employee.setRole("Engineer");
+        employee.setSalary(50000.0);
+        employee.setJoiningDate(LocalDate.of(2024, 1, 1));
+        employee.setDepartment(department);
+        return employee;
+    }
+
+    @Test
+    public void testDepartmentFindById_RepeatedLookupsHitSecondLevelCache() {
+        assertEquals("IT", departmentRepository.findById(department.getId()).orElseThrow().getName());
+        assertEquals("IT", departmentRepository.findById(department.getId()).orElseThrow().getName());
+        assertEquals("IT", departmentRepository.findById(department.getId()).orElseThrow().getName());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    public void testProjectFindById_RepeatedLookupsHitSecondLevelCache() {
+        Project project = new Project();
+        project.setName("Apollo");
+        project.setDuration(6);
+        Long id = projectRepository.save(project).getId();
+        statistics.clear();
+
+        projectRepository.findById(id);
+        projectRepository.findById(id);
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    public void testDepartmentUpdate_RefreshesCachedEntry() {
+        departmentRepository.findById(department.getId());
+        department.setName("Engineering");
+        departmentRepository.save(department);
+
+        assertEquals("Engineering", departmentRepository.findById(department.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void testCountByDepartmentName_ServedFromQueryCacheUntilEmployeeTableChanges() {
+        assertEquals(1, employeeRepository.countByDepartmentName("IT"));
+        assertEquals(1, employeeRepository.countByDepartmentName("IT"));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        employeeRepository.save(employee("Employee 2"));
+
+        assertEquals(2, employeeRepository.countByDepartmentName("IT"));
+    }
+}
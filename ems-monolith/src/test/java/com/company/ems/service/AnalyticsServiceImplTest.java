@@ -0,0 +1,113 @@
+package com.company.ems.service;
+
+import com.company.ems.dto.AnalyticsReportDTO;
+import com.company.ems.dto.SegmentSummaryDTO;
+import com.company.ems.repository.EmployeeRepository;
+import com.company.ems.repository.EmployeeRepository.EmployeeAnalyticsRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AnalyticsServiceImplTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @InjectMocks
+    private AnalyticsServiceImpl analyticsService;
+
+    private static EmployeeAnalyticsRow row(String name, String role, Double salary, int yearsAgo, String department,
+                                            Integer performanceScore) {
+        LocalDate joiningDate = LocalDate.of(Year.now().getValue() - yearsAgo, 6, 1);
+        return new EmployeeAnalyticsRow() {
+            public String getName() { return name; }
+            public String getRole() { return role; }
+            public Double getSalary() { return salary; }
+            public LocalDate getJoiningDate() { return joiningDate; }
+            public String getDepartmentName() { return department; }
+            public Integer getPerformanceScore() { return performanceScore; }
+        };
+    }
+
+    @Test
+    public void testGenerateReport_ComputesEveryFigureFromOnePass() {
+        List<EmployeeAnalyticsRow> rows = new ArrayList<>();
+        // Salary grows by exactly 3000 per year of experience
+        for (int i = 0; i < 12; i++) {
+            rows.add(row("Employee " + i, "Developer", 40000.0 + 3000 * i, i, i % 2 == 0 ? "IT" : "HR", 60 + 3 * i));
+        }
+        rows.add(row("Unreviewed", "Designer", 52000.0, 4, "Human Resources", null));
+        rows.add(row("Floating", "Designer", 52000.0, 4, null, 85));
+        when(employeeRepository.streamAnalyticsRows()).thenReturn(rows.stream());
+
+        AnalyticsReportDTO report = analyticsService.generateReport();
+
+        assertEquals(14, report.getEmployeeCount());
+        assertEquals(List.of("HR", "IT", "Unassigned"), new ArrayList<>(report.getAverageSalary().keySet()));
+        // HR: employees 1,3,...,11 plus the aliased "Human Resources" row
+        assertEquals(400000.0 / 7, report.getAverageSalary().get("HR"), 1e-6);
+        assertEquals(52000.0, report.getAverageSalary().get("Unassigned"), 1e-9);
+
+        // Scores run 60, 63, ... 93, so only Employee 11 is above 90; Floating (85) is not
+        assertEquals(List.of("Employee 11"),
+                report.getTopPerformers().stream().map(e -> e.getName()).collect(Collectors.toList()));
+        assertEquals(93, report.getTopPerformers().get(0).getPerformanceScore());
+        assertEquals(7, report.getAttritionRisk().size());
+        assertEquals("Employee 0", report.getAttritionRisk().get(0).getName());
+
+        assertEquals(3000.0, report.getSalaryRegression().getCoefficient(), 1e-6);
+        assertEquals(40000.0, report.getSalaryRegression().getIntercept(), 1e-6);
+        assertEquals(0.0, report.getSalaryRegression().getMse(), 1e-6);
+
+        // Only reviewed employees are segmented
+        assertEquals(13, report.getSegments().size());
+        assertTrue(report.getSegments().stream().noneMatch(s -> s.getName().equals("Unreviewed")));
+        assertEquals(13, report.getSegmentSummaries().stream().mapToLong(SegmentSummaryDTO::getSize).sum());
+        verify(employeeRepository, times(1)).streamAnalyticsRows();
+    }
+
+    @Test
+    public void testGenerateReport_TooFewScoresSkipsModels() {
+        when(employeeRepository.streamAnalyticsRows()).thenReturn(Stream.of(
+                row("Employee 1", "Developer", 50000.0, 2, "IT", 95),
+                row("Employee 2", "Developer", 60000.0, 3, "IT", null)));
+
+        AnalyticsReportDTO report = analyticsService.generateReport();
+
+        assertEquals(55000.0, report.getAverageSalary().get("IT"), 1e-9);
+        assertEquals(1, report.getTopPerformers().size());
+        assertEquals(0.0, report.getSalaryRegression().getCoefficient());
+        assertTrue(report.getSegments().isEmpty());
+    }
+
+    @Test
+    public void testGenerateReport_EmptyTable() {
+        when(employeeRepository.streamAnalyticsRows()).thenReturn(Stream.empty());
+
+        AnalyticsReportDTO report = analyticsService.generateReport();
+
+        assertEquals(0, report.getEmployeeCount());
+        assertTrue(report.getAverageSalary().isEmpty());
+        assertTrue(report.getTopPerformers().isEmpty());
+    }
+
+    @Test
+    public void testGenerateReport_RepositoryFailurePropagates() {
+        when(employeeRepository.streamAnalyticsRows()).thenThrow(new RuntimeException("Database unavailable"));
+
+        assertThrows(RuntimeException.class, () -> analyticsService.generateReport());
+    }
+}
@@ -0,0 +1,170 @@
+package com.company.ems.service;
+
+import com.company.ems.cache.ReferenceDataCache;
+import com.company.ems.dto.DepartmentRequestDTO;
+import com.company.ems.dto.EmployeeRequestDTO;
+import com.company.ems.dto.EmployeeUpdateRequestDTO;
+import com.company.ems.model.Department;
+import com.company.ems.model.DepartmentSalarySummary;
+import com.company.ems.repository.DepartmentSalarySummaryRepository;
+import com.company.ems.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({EmployeeServiceImpl.class, DepartmentServiceImpl.class, DepartmentSalarySummaryRecorder.class, ReferenceDataCache.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+public class DepartmentSalarySummaryRecorderTest {
+
+    @Autowired
+    private EmployeeServiceImpl employeeService;
+
+    @Autowired
+    private DepartmentServiceImpl departmentService;
+
+    @Autowired
+    private DepartmentSalarySummaryRecorder recorder;
+
+    @Autowired
+    private DepartmentSalarySummaryRepository summaryRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Department it;
+    private Department hr;
+
+    @BeforeEach
+    public void setUp() {
+        it = new Department();
+        it.setName("IT");
+        entityManager.persist(it);
+        hr = new Department();
+        hr.setName("HR");
+        entityManager.persist(hr);
+        entityManager.flush();
+    }
+
+    private Long create(String name, double salary, Department department) {
+        EmployeeRequestDTO request = new EmployeeRequestDTO();
+        request.setName(name);
+        request.setRole("Engineer");
+        request.setSalary(salary);
+        request.setJoiningDate(LocalDate.of(2024, 1, 1));
+        request.setDepartmentId(department.getId());
+        return employeeService.createEmployee(request).getId();
+    }
+
+    private DepartmentSalarySummary summary(Department department) {
+        entityManager.flush();
+        entityManager.clear();
+        return summaryRepository.findById(department.getId()).orElseThrow();
+    }
+
+    @Test
+    public void testCreateDepartment_InsertsZeroSummaryRow() {
+        DepartmentRequestDTO request = new DepartmentRequestDTO();
+        request.setName("Finance");
+        Long departmentId = departmentService.createDepartment(request).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        // The row exists before any employee write, so the first writers lock it rather than insert it
+        DepartmentSalarySummary summary = summaryRepository.findForUpdate(departmentId).orElseThrow();
+        assertEquals(0L, summary.getHeadcount());
+        assertEquals(0.0, summary.getTotalSalary());
+        assertNull(summary.getMinSalary());
+    }
+
+    @Test
+    public void testCreateEmployee_AddsToRunningAggregates() {
+        create("Alice", 50000.0, it);
+        create("Bob", 70000.0, it);
+
+        DepartmentSalarySummary summary = summary(it);
+        assertEquals(2L, summary.getHeadcount());
+        assertEquals(120000.0, summary.getTotalSalary());
+        assertEquals(50000.0, summary.getMinSalary());
+        assertEquals(70000.0, summary.getMaxSalary());
+    }
+
+    @Test
+    public void testUpdateEmployee_MovesSalaryBetweenDepartments() {
+        create("Alice", 50000.0, it);
+        Long bob = create("Bob", 70000.0, it);
+
+        EmployeeUpdateRequestDTO update = new EmployeeUpdateRequestDTO();
+        update.setName("Bob");
+        update.setRole("Engineer");
+        update.setJoiningDate(LocalDate.of(2024, 1, 1));
+        update.setDepartmentId(hr.getId());
+        update.setSalary(80000.0);
+        employeeService.updateEmployee(bob, update);
+
+        DepartmentSalarySummary itSummary = summary(it);
+        assertEquals(1L, itSummary.getHeadcount());
+        assertEquals(50000.0, itSummary.getTotalSalary());
+        assertEquals(50000.0, itSummary.getMaxSalary());
+        DepartmentSalarySummary hrSummary = summary(hr);
+        assertEquals(1L, hrSummary.getHeadcount());
+        assertEquals(80000.0, hrSummary.getMinSalary());
+    }
+
+    @Test
+    public void testDeleteEmployee_RecomputesDepartingMinimum() {
+        Long alice = create("Alice", 50000.0, it);
+        create("Bob", 70000.0, it);
+        create("Carol", 60000.0, it);
+
+        employeeService.deleteEmployee(alice);
+
+        DepartmentSalarySummary summary = summary(it);
+        assertEquals(2L, summary.getHeadcount());
+        assertEquals(130000.0, summary.getTotalSalary());
+        assertEquals(60000.0, summary.getMinSalary());
+        assertEquals(70000.0, summary.getMaxSalary());
+    }
+
+    @Test
+    public void testDeleteLastEmployee_ResetsSummary() {
+        Long alice = create("Alice", 50000.0, it);
+
+        employeeService.deleteEmployee(alice);
+
+        DepartmentSalarySummary summary = summary(it);
+        assertEquals(0L, summary.getHeadcount());
+        assertEquals(0.0, summary.getTotalSalary());
+        assertNull(summary.getMinSalary());
+        assertNull(summary.getMaxSalary());
+    }
+
+    @Test
+    public void testRebuild_MatchesEmployeeTable() {
+        create("Alice", 50000.0, it);
+        create("Bob", 70000.0, it);
+        summaryRepository.deleteAll();
+        entityManager.flush();
+
+        recorder.rebuild(List.of(it.getId(), hr.getId()));
+
+        DepartmentSalarySummary itSummary = summary(it);
+        assertEquals(2L, itSummary.getHeadcount());
+        assertEquals(120000.0, itSummary.getTotalSalary());
+        assertEquals(0L, summary(hr).getHeadcount());
+        assertEquals(2, employeeRepository.count());
+    }
+}
@@ -1,18 +1,25 @@
 package com.company.ems.service;
 
+import com.company.ems.cache.ReferenceDataCache;
 import com.company.ems.dto.DepartmentRequestDTO;
 import com.company.ems.dto.DepartmentResponseDTO;
+import com.company.ems.dto.DepartmentSalaryStatsDTO;
 import com.company.ems.dto.DepartmentUpdateRequestDTO;
 import com.company.ems.exception.DepartmentNotFoundException;
 import com.company.ems.model.Department;
+import com.company.ems.model.DepartmentSalarySummary;
 import com.company.ems.repository.DepartmentRepository;
+import com.company.ems.repository.DepartmentSalarySummaryRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -28,6 +35,12 @@ public class DepartmentServiceImplTest {
     @Mock
     private DepartmentRepository departmentRepository;
 
+    @Mock
+    private DepartmentSalarySummaryRepository salarySummaryRepository;
+
+    @Spy
+    private ReferenceDataCache referenceDataCache = new ReferenceDataCache(100, Duration.ofMinutes(10));
+
     @InjectMocks
     private DepartmentServiceImpl departmentService;
 
@@ -37,6 +50,7 @@ public class DepartmentServiceImplTest {
 
     @BeforeEach
     public void setUp() {
+        ReflectionTestUtils.setField(referenceDataCache, "departmentRepository", departmentRepository);
         department = new Department();
         department.setId(1L);
         department.setName("IT");
@@ -59,6 +73,8 @@ public class DepartmentServiceImplTest {
         assertEquals("IT", result.getName());
         assertEquals(1L, result.getId());
         verify(departmentRepository, times(1)).save(any(Department.class));
+        verify(salarySummaryRepository, times(1)).save(argThat(summary ->
+                summary.getDepartmentId().equals(1L) && summary.getHeadcount() == 0L));
     }
 
     @Test
@@ -428,4 +444,63 @@ public class DepartmentServiceImplTest {
 
         assertThrows(RuntimeException.class, () -> departmentService.deleteDepartment(1L));
     }
+
+    @Test
+    public void testGetAllDepartments_ServedFromCacheUntilUpdate() {
+        DepartmentUpdateRequestDTO updateDTO = new DepartmentUpdateRequestDTO();
+        updateDTO.setName("Engineering");
+        when(departmentRepository.findAll()).thenReturn(List.of(department));
+        when(departmentRepository.findById(1L)).thenReturn(Optional.of(department));
+        when(departmentRepository.save(any(Department.class))).thenReturn(department);
+
+        departmentService.getAllDepartments();
+        departmentService.getAllDepartments();
+        departmentService.updateDepartment(1L, updateDTO);
+        List<DepartmentResponseDTO> result = departmentService.getAllDepartments();
+
+        assertEquals("Engineering", result.get(0).getName());
+        verify(departmentRepository, times(2)).findAll();
+        verify(referenceDataCache, times(1)).evictDepartment(1L);
+    }
+
+    @Test
+    public void testGetSalaryStats_ReadsMaintainedSummary() {
+        DepartmentSalarySummary summary = new DepartmentSalarySummary();
+        summary.setDepartmentId(1L);
+        summary.setHeadcount(4L);
+        summary.setTotalSalary(200000.0);
+        summary.setMinSalary(30000.0);
+        summary.setMaxSalary(80000.0);
+        when(departmentRepository.findById(1L)).thenReturn(Optional.of(department));
+        when(salarySummaryRepository.findById(1L)).thenReturn(Optional.of(summary));
+
+        DepartmentSalaryStatsDTO result = departmentService.getSalaryStats(1L);
+
+        assertEquals("IT", result.getDepartmentName());
+        assertEquals(4L, result.getHeadcount());
+        assertEquals(200000.0, result.getTotalSalary());
+        assertEquals(50000.0, result.getAverageSalary());
+        assertEquals(30000.0, result.getMinSalary());
+        assertEquals(80000.0, result.getMaxSalary());
+    }
+
+    @Test
+    public void testGetSalaryStats_NoSummaryYet_ReturnsZeros() {
+        when(departmentRepository.findById(1L)).thenReturn(Optional.of(department));
+        when(salarySummaryRepository.findById(1L)).thenReturn(Optional.empty());
+
+        DepartmentSalaryStatsDTO result = departmentService.getSalaryStats(1L);
+
+        assertEquals(0L, result.getHeadcount());
+        assertEquals(0.0, result.getAverageSalary());
+        assertNull(result.getMinSalary());
+    }
+
+    @Test
+    public void testGetSalaryStats_DepartmentNotFound() {
+        when(departmentRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThrows(DepartmentNotFoundException.class, () -> departmentService.getSalaryStats(999L));
+        verify(salarySummaryRepository, never()).findById(anyLong());
+    }
 }
@@ -0,0 +1,102 @@
+package com.company.ems.service;
+
+import com.company.ems.dto.EmployeeImportResultDTO;
+import com.company.ems.model.Department;
+import com.company.ems.model.DepartmentSalarySummary;
+import com.company.ems.model.Employee;
+import com.company.ems.repository.DepartmentSalarySummaryRepository;
+import com.company.ems.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({EmployeeImportServiceImpl.class, DepartmentSalarySummaryRecorder.class})
+public class EmployeeImportServiceImplIntegrationTest {
+
+    @Autowired
+    private EmployeeImportServiceImpl employeeImportService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentSalarySummaryRepository summaryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void testImportEmployees_RepositoryCsvFile() throws Exception {
+        for (String name : List.of("IT", "HR", "Design", "Finance", "Management", "Sales", "Marketing", "Operations")) {
+            Department department = new Department();
+            department.setName(name);
+            entityManager.persist(department);
+        }
+        entityManager.flush();
+
+        byte[] file = Files.readAllBytes(Path.of("python-analytics", "employees.csv"));
+        long dataLines = new String(file, StandardCharsets.UTF_8).lines().skip(1).filter(l -> !l.isBlank()).count();
+
+        EmployeeImportResultDTO result = employeeImportService.importEmployees(new ByteArrayInputStream(file));
+        entityManager.clear();
+
+        assertEquals(dataLines, result.getTotalRows());
+        assertEquals(result.getTotalRows(), result.getImportedRows() + result.getFailedRows());
+        assertEquals(result.getImportedRows(), employeeRepository.count());
+
+        Employee first = employeeRepository.findAll().stream()
+                .filter(e -> "Employee 1".equals(e.getName()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(LocalDate.of(2010, 1, 31), first.getJoiningDate());
+        assertEquals(98, first.getPerformanceScore());
+        assertNotNull(first.getDepartment());
+        assertEquals("IT", first.getDepartment().getName());
+    }
+
+    @Test
+    public void testImportEmployees_ReadFailureStillRebuildsSummariesOfWrittenBatches() {
+        Department it = new Department();
+        it.setName("IT");
+        entityManager.persist(it);
+        entityManager.flush();
+
+        StringBuilder csv = new StringBuilder("name,role,salary,department,joiningDate\n");
+        for (int i = 0; i < EmployeeImportServiceImpl.BATCH_SIZE + 10; i++) {
+            csv.append("Employee ").append(i).append(",Developer,1000,IT,2020-01-01\n");
+        }
+        // The connection drops after the first batch has been written
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+        InputStream file = new SequenceInputStream(new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), failing);
+
+        assertThrows(UncheckedIOException.class, () -> employeeImportService.importEmployees(file));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(EmployeeImportServiceImpl.BATCH_SIZE, employeeRepository.count());
+        DepartmentSalarySummary summary = summaryRepository.findById(it.getId()).orElseThrow();
+        assertEquals(EmployeeImportServiceImpl.BATCH_SIZE, summary.getHeadcount());
+        assertEquals(EmployeeImportServiceImpl.BATCH_SIZE * 1000.0, summary.getTotalSalary());
+    }
+}
@@ -0,0 +1,155 @@
+package com.company.ems.service;
+
+import com.company.ems.dto.EmployeeImportResultDTO;
+import com.company.ems.exception.InvalidImportFileException;
+import com.company.ems.model.Department;
+import com.company.ems.repository.DepartmentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeImportServiceImplTest {
+
+    private static final String HEADER = "id,name,role,salary,years_experience,department,joiningDate,performance_score\n";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private DepartmentSalarySummaryRecorder salarySummaryRecorder;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private SessionFactoryImplementor sessionFactory;
+
+    @InjectMocks
+    private EmployeeImportServiceImpl employeeImportService;
+
+    @BeforeEach
+    public void setUp() {
+        Department it = new Department();
+        it.setId(1L);
+        it.setName("IT");
+        Department hr = new Department();
+        hr.setId(2L);
+        hr.setName("HR");
+        lenient().when(departmentRepository.findAll()).thenReturn(List.of(it, hr));
+        lenient().when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        lenient().when(sessionFactory.getJdbcServices().getDialect().getSequenceSupport()
+                .getSelectSequenceNextValString("employee_seq")).thenReturn("nextval('employee_seq')");
+    }
+
+    private static InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testImportEmployees_ValidRowsAreBatched() {
+        String content = HEADER
+                + "1,Employee 1,IT Support,51427,2,IT,2010-01-31,63\n"
+                + "2,Employee 2,HR,71786,6,HR,2010-03-31,84\n";
+
+        EmployeeImportResultDTO result = employeeImportService.importEmployees(csv(content));
+
+        assertEquals(2, result.getTotalRows());
+        assertEquals(2, result.getImportedRows());
+        assertEquals(0, result.getFailedRows());
+        assertTrue(result.getErrors().isEmpty());
+
+        verify(jdbcTemplate, times(1)).batchUpdate(startsWith("INSERT INTO employee"), any(Collection.class), eq(2), any(ParameterizedPreparedStatementSetter.class));
+        verify(departmentRepository, times(1)).findAll();
+    }
+
+    @Test
+    public void testImportEmployees_InvalidRowsReportedWithLineNumbers() {
+        String content = HEADER
+                + "1,Employee 1,IT Support,51427,2,IT,2010-01-31,63\n"
+                + "2,Employee 2,HR,not-a-number,6,HR,2010-03-31,84\n"
+                + "\n"
+                + "3,Employee 3,Designer,60000,3,Design,2011-01-01,70\n"
+                + "4,,Designer,60000,3,IT,2011-01-01,70\n"
+                + "5,Employee 5,Designer,60000,3,IT,31/01/2011,70\n"
+                + "6,Employee 6,Designer,60000,3,IT,2011-01-01,high\n";
+
+        EmployeeImportResultDTO result = employeeImportService.importEmployees(csv(content));
+
+        assertEquals(6, result.getTotalRows());
+        assertEquals(1, result.getImportedRows());
+        assertEquals(5, result.getFailedRows());
+        assertEquals(3, result.getErrors().get(0).getLine());
+        assertTrue(result.getErrors().get(0).getMessage().contains("salary"));
+        assertEquals(5, result.getErrors().get(1).getLine());
+        assertTrue(result.getErrors().get(1).getMessage().contains("Design"));
+        assertEquals(6, result.getErrors().get(2).getLine());
+        assertEquals(7, result.getErrors().get(3).getLine());
+        assertEquals(8, result.getErrors().get(4).getLine());
+        assertTrue(result.getErrors().get(4).getMessage().contains("performance_score"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testImportEmployees_SplitsIntoBatches() {
+        StringBuilder content = new StringBuilder(HEADER);
+        int rows = EmployeeImportServiceImpl.BATCH_SIZE * 2 + 1;
+        for (int i = 0; i < rows; i++) {
+            content.append(i).append(",Employee ").append(i).append(",Developer,50000,1,IT,2020-01-01,80\n");
+        }
+
+        EmployeeImportResultDTO result = employeeImportService.importEmployees(csv(content.toString()));
+
+        assertEquals(rows, result.getImportedRows());
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), any(Collection.class), eq(EmployeeImportServiceImpl.BATCH_SIZE), any(ParameterizedPreparedStatementSetter.class));
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), any(Collection.class), eq(1), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testImportEmployees_FailedBatchMarksRowsFailed() {
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new RuntimeException("constraint violation"));
+
+        EmployeeImportResultDTO result = employeeImportService.importEmployees(csv(HEADER
+                + "1,Employee 1,IT Support,51427,2,IT,2010-01-31,63\n"));
+
+        assertEquals(0, result.getImportedRows());
+        assertEquals(1, result.getFailedRows());
+        assertTrue(result.getErrors().get(0).getMessage().contains("constraint violation"));
+    }
+
+    @Test
+    public void testImportEmployees_MissingRequiredColumn() {
+        assertThrows(InvalidImportFileException.class,
+                () -> employeeImportService.importEmployees(csv("id,name,role,department\n1,A,B,IT\n")));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void testImportEmployees_EmptyFile() {
+        assertThrows(InvalidImportFileException.class, () -> employeeImportService.importEmployees(csv("")));
+    }
+}
@@ -0,0 +1,226 @@
+package com.company.ems.service;
+
+import com.company.ems.cache.ReferenceDataCache;
+import com.company.ems.dto.EmployeeBatchResponseDTO;
+import com.company.ems.dto.EmployeeRequestDTO;
+import com.company.ems.dto.EmployeeResponseDTO;
+import com.company.ems.model.Department;
+import com.company.ems.model.Employee;
+import com.company.ems.model.Project;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({EmployeeServiceImpl.class, DepartmentSalarySummaryRecorder.class, ReferenceDataCache.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class EmployeeServiceImplStatementCountTest {
+
+    // One select for the page, one for the count and one for the projects of the page.
+    private static final long MAX_STATEMENTS_PER_PAGE = 3;
+
+    @Autowired
+    private EmployeeServiceImpl employeeService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        Department it = new Department();
+        it.setName("IT");
+        entityManager.persist(it);
+
+        Project apollo = new Project();
+        apollo.setName("Apollo");
+        apollo.setDuration(6);
+        entityManager.persist(apollo);
+
+        Project gemini = new Project();
+        gemini.setName("Gemini");
+        gemini.setDuration(12);
+        entityManager.persist(gemini);
+
+        for (int i = 0; i < 50; i++) {
+            Employee employee = new Employee();
+            employee.setName("Employee " + i);
+            employee.setRole("Engineer");
+            employee.setSalary(40000.0 + i);
+            employee.setJoiningDate(LocalDate.of(2020, 1, 1).plusDays(i));
+            employee.setDepartment(it);
+            employee.setProjects(Set.of(apollo, gemini));
+            // Every fifth employee is unreviewed; the others get distinct scores
+            employee.setPerformanceScore(i % 5 == 0 ? null : (i * 7) % 100);
+            entityManager.persist(employee);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testGetEmployees_StatementCountIndependentOfPageSize() {
+        Page<EmployeeResponseDTO> small = employeeService.getEmployees(null, PageRequest.of(0, 5));
+        long smallPageStatements = statistics.getPrepareStatementCount();
+
+        entityManager.clear();
+        statistics.clear();
+
+        Page<EmployeeResponseDTO> large = employeeService.getEmployees(null, PageRequest.of(0, 40));
+        long largePageStatements = statistics.getPrepareStatementCount();
+
+        assertEquals(5, small.getContent().size());
+        assertEquals(40, large.getContent().size());
+        assertTrue(smallPageStatements <= MAX_STATEMENTS_PER_PAGE, "statements: " + smallPageStatements);
+        assertEquals(smallPageStatements, largePageStatements);
+    }
+
+    @Test
+    public void testGetEmployees_DepartmentFilterMapsAssociationsWithBoundedStatements() {
+        Page<EmployeeResponseDTO> result = employeeService.getEmployees("IT", PageRequest.of(1, 20));
+
+        assertEquals(20, result.getContent().size());
+        assertEquals(50, result.getTotalElements());
+        result.getContent().forEach(dto -> {
+            assertEquals("IT", dto.getDepartmentName());
+            assertEquals(Set.of("Apollo", "Gemini"), dto.getProjectNames());
+        });
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertTrue(statistics.getPrepareStatementCount() <= MAX_STATEMENTS_PER_PAGE,
+                "statements: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testStreamEmployeesSortedBySalary_DoesNotLoadAssociationsPerRow() {
+        List<EmployeeResponseDTO> result = new java.util.ArrayList<>();
+        employeeService.streamEmployeesSortedBySalary(result::add);
+
+        assertEquals(50, result.size());
+        assertEquals(Set.of("Apollo", "Gemini"), result.get(0).getProjectNames());
+        assertTrue(statistics.getPrepareStatementCount() <= 2,
+                "statements: " + statistics.getPrepareStatementCount());
+        // Rows are selected straight into DTOs; no Employee is hydrated.
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    public void testGetEmployeesAfter_SeeksWithoutCountQuery() {
+        Slice<EmployeeResponseDTO> first = employeeService.getEmployeesAfter(null, 0L, 20);
+        long firstSliceStatements = statistics.getPrepareStatementCount();
+        Long lastId = first.getContent().get(first.getContent().size() - 1).getId();
+
+        entityManager.clear();
+        statistics.clear();
+
+        Slice<EmployeeResponseDTO> last = employeeService.getEmployeesAfter("IT", lastId + 20, 20);
+
+        assertEquals(20, first.getContent().size());
+        assertTrue(first.hasNext());
+        assertEquals(10, last.getContent().size());
+        assertFalse(last.hasNext());
+        assertTrue(last.getContent().get(0).getId() > lastId + 20);
+        // Slice and projects only: no count(*) round trip.
+        assertEquals(2, firstSliceStatements);
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testGetEmployeesAfter_StitchesProjectNamesWithConstantStatements() {
+        Slice<EmployeeResponseDTO> small = employeeService.getEmployeesAfter(null, 0L, 5);
+        long smallSliceStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+
+        Slice<EmployeeResponseDTO> large = employeeService.getEmployeesAfter(null, 0L, 50);
+
+        assertEquals(5, small.getContent().size());
+        assertEquals(50, large.getContent().size());
+        large.getContent().forEach(dto -> assertEquals(Set.of("Apollo", "Gemini"), dto.getProjectNames()));
+        assertEquals(smallSliceStatements, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    @Test
+    public void testCreateEmployees_StatementCountIndependentOfReferencesPerItem() {
+        Long departmentId = entityManager.createQuery("select d.id from Department d", Long.class).getSingleResult();
+        List<Long> projectIds = entityManager.createQuery("select p.id from Project p", Long.class).getResultList();
+        statistics.clear();
+
+        List<EmployeeRequestDTO> batch = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            EmployeeRequestDTO dto = new EmployeeRequestDTO();
+            dto.setName("Batch " + i);
+            dto.setRole("Engineer");
+            dto.setSalary(50000.0 + i);
+            dto.setJoiningDate(LocalDate.of(2024, 1, 1));
+            dto.setDepartmentId(departmentId);
+            dto.setProjectIds(new HashSet<>(projectIds));
+            batch.add(dto);
+        }
+
+        EmployeeBatchResponseDTO result = employeeService.createEmployees(batch);
+
+        assertEquals(100, result.getSucceeded());
+        assertEquals(Set.of("Apollo", "Gemini"), result.getResults().get(99).getEmployee().getProjectNames());
+        // One lookup per reference type, a few sequence calls and batched inserts; no findById per item.
+        assertEquals(3, statistics.getEntityLoadCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 12, "statements: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testGetTopEmployeesBySalary_LimitedInTheDatabase() {
+        List<EmployeeResponseDTO> top = employeeService.getTopEmployees("salary", 3);
+
+        assertEquals(List.of("Employee 49", "Employee 48", "Employee 47"),
+                top.stream().map(EmployeeResponseDTO::getName).toList());
+        assertEquals(Set.of("Apollo", "Gemini"), top.get(0).getProjectNames());
+        // The limited view query and the project names of the three rows
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testGetTopEmployeesByPerformance_MatchesFullSort() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            if (i % 5 != 0) {
+                expected.add((i * 7) % 100);
+            }
+        }
+        expected.sort(java.util.Comparator.reverseOrder());
+
+        List<EmployeeResponseDTO> top = employeeService.getTopEmployees("performance", 5);
+
+        assertEquals(expected.subList(0, 5), top.stream().map(EmployeeResponseDTO::getPerformanceScore).toList());
+        // Score scan, the views of the winners and their project names
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+}
@@ -1,32 +1,54 @@
 package com.company.ems.service;
 
+import com.company.ems.cache.ReferenceDataCache;
+import com.company.ems.dto.EmployeeBatchResponseDTO;
+import com.company.ems.dto.EmployeeBatchUpdateRequestDTO;
 import com.company.ems.dto.EmployeeRequestDTO;
 import com.company.ems.dto.EmployeeResponseDTO;
 import com.company.ems.dto.EmployeeUpdateRequestDTO;
 import com.company.ems.exception.EmployeeNotFoundException;
+import com.company.ems.exception.InvalidBatchRequestException;
+import com.company.ems.exception.InvalidTopRequestException;
+import com.company.ems.exception.ProjectNotFoundException;
 import com.company.ems.model.Department;
 import com.company.ems.model.Employee;
+import com.company.ems.model.Project;
 import com.company.ems.repository.DepartmentRepository;
 import com.company.ems.repository.EmployeeRepository;
+import com.company.ems.repository.ProjectRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +60,18 @@ public class EmployeeServiceImplTest {
     @Mock
     private DepartmentRepository departmentRepository;
 
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private DepartmentSalarySummaryRecorder salarySummaryRecorder;
+
+    @Spy
+    private ReferenceDataCache referenceDataCache = new ReferenceDataCache(100, Duration.ofMinutes(10));
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -48,6 +82,8 @@ public class EmployeeServiceImplTest {
 
     @BeforeEach
     public void setUp() {
+        ReflectionTestUtils.setField(referenceDataCache, "departmentRepository", departmentRepository);
+        ReflectionTestUtils.setField(referenceDataCache, "projectRepository", projectRepository);
         department = new Department();
         department.setId(1L);
         department.setName("IT");
@@ -76,6 +112,30 @@ public class EmployeeServiceImplTest {
         employeeResponseDTO.setDepartmentName("IT");
     }
 
+    // What the repository's constructor-expression views return for an entity.
+    private static EmployeeResponseDTO view(Employee employee) {
+        return new EmployeeResponseDTO(employee.getId(), employee.getName(), employee.getRole(), employee.getSalary(),
+                employee.getJoiningDate(), employee.getDepartment() != null ? employee.getDepartment().getName() : null);
+    }
+
+    private static List<EmployeeResponseDTO> views(List<Employee> employees) {
+        return employees.stream().map(EmployeeServiceImplTest::view).collect(java.util.stream.Collectors.toList());
+    }
+
+    private static EmployeeRepository.EmployeeProjectName projectName(Long employeeId, String projectName) {
+        return new EmployeeRepository.EmployeeProjectName() {
+            @Override
+            public Long getEmployeeId() {
+                return employeeId;
+            }
+
+            @Override
+            public String getProjectName() {
+                return projectName;
+            }
+        };
+    }
+
     @Test
     public void testCreateEmployee_Success() {
         when(departmentRepository.findById(1L)).thenReturn(Optional.of(department));
@@ -130,70 +190,83 @@ public class EmployeeServiceImplTest {
 
     @Test
     public void testGetEmployeeById_Success() {
-        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+        when(employeeRepository.findViewById(1L)).thenReturn(Optional.of(view(employee)));
 
         EmployeeResponseDTO result = employeeService.getEmployeeById(1L);
 
         assertNotNull(result);
         assertEquals("John Doe", result.getName());
         assertEquals(1L, result.getId());
-        verify(employeeRepository, times(1)).findById(1L);
+        assertEquals("IT", result.getDepartmentName());
+        verify(employeeRepository, times(1)).findViewById(1L);
+        verify(employeeRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    public void testGetEmployeeById_StitchesProjectNamesFromRows() {
+        when(employeeRepository.findViewById(1L)).thenReturn(Optional.of(view(employee)));
+        when(employeeRepository.findProjectNamesByEmployeeIdIn(Set.of(1L)))
+                .thenReturn(List.of(projectName(1L, "Apollo"), projectName(1L, "Gemini")));
+
+        EmployeeResponseDTO result = employeeService.getEmployeeById(1L);
+
+        assertEquals(Set.of("Apollo", "Gemini"), result.getProjectNames());
     }
 
     @Test
     public void testGetEmployeeById_EmployeeNotFound() {
-        when(employeeRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(employeeRepository.findViewById(anyLong())).thenReturn(Optional.empty());
 
         assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById(999L));
-        verify(employeeRepository, times(1)).findById(999L);
+        verify(employeeRepository, times(1)).findViewById(999L);
     }
 
     @Test
     public void testGetEmployees_WithoutDepartmentFilter() {
         Pageable pageable = PageRequest.of(0, 10);
         List<Employee> employees = Arrays.asList(employee);
-        Page<Employee> pageOfEmployees = new PageImpl<>(employees, pageable, 1);
+        Page<EmployeeResponseDTO> pageOfEmployees = new PageImpl<>(views(employees), pageable, 1);
 
-        when(employeeRepository.findAll(pageable)).thenReturn(pageOfEmployees);
+        when(employeeRepository.findAllViews(pageable)).thenReturn(pageOfEmployees);
 
         Page<EmployeeResponseDTO> result = employeeService.getEmployees(null, pageable);
 
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
         assertEquals("John Doe", result.getContent().get(0).getName());
-        verify(employeeRepository, times(1)).findAll(pageable);
-        verify(employeeRepository, never()).findByDepartmentName(anyString(), any(Pageable.class));
+        verify(employeeRepository, times(1)).findAllViews(pageable);
+        verify(employeeRepository, never()).findViewsByDepartmentName(anyString(), any(Pageable.class));
     }
 
     @Test
     public void testGetEmployees_WithDepartmentFilter() {
         Pageable pageable = PageRequest.of(0, 10);
         List<Employee> employees = Arrays.asList(employee);
-        Page<Employee> pageOfEmployees = new PageImpl<>(employees, pageable, 1);
+        Page<EmployeeResponseDTO> pageOfEmployees = new PageImpl<>(views(employees), pageable, 1);
 
-        when(employeeRepository.findByDepartmentName("IT", pageable)).thenReturn(pageOfEmployees);
+        when(employeeRepository.findViewsByDepartmentName("IT", pageable)).thenReturn(pageOfEmployees.getContent());
 
         Page<EmployeeResponseDTO> result = employeeService.getEmployees("IT", pageable);
 
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
         assertEquals("John Doe", result.getContent().get(0).getName());
-        verify(employeeRepository, times(1)).findByDepartmentName("IT", pageable);
-        verify(employeeRepository, never()).findAll(pageable);
+        verify(employeeRepository, times(1)).findViewsByDepartmentName("IT", pageable);
+        verify(employeeRepository, never()).findAllViews(pageable);
     }
 
     @Test
     public void testGetEmployees_EmptyDepartmentFilter() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Employee> pageOfEmployees = new PageImpl<>(new java.util.ArrayList<>(), pageable, 0);
+        Page<EmployeeResponseDTO> pageOfEmployees = new PageImpl<>(new java.util.ArrayList<>(), pageable, 0);
 
-        when(employeeRepository.findAll(pageable)).thenReturn(pageOfEmployees);
+        when(employeeRepository.findAllViews(pageable)).thenReturn(pageOfEmployees);
 
         Page<EmployeeResponseDTO> result = employeeService.getEmployees("", pageable);
 
         assertNotNull(result);
         assertEquals(0, result.getContent().size());
-        verify(employeeRepository, times(1)).findAll(pageable);
+        verify(employeeRepository, times(1)).findAllViews(pageable);
     }
 
     @Test
@@ -301,7 +374,7 @@ public class EmployeeServiceImplTest {
     }
 
     @Test
-    public void testGetAllEmployeesSortedByNameAndDate() {
+    public void testStreamEmployeesSortedByNameAndDate() {
         Employee employee1 = new Employee();
         employee1.setId(1L);
         employee1.setName("Alice Johnson");
@@ -323,11 +396,13 @@ public class EmployeeServiceImplTest {
         employee3.setSalary(65000.0);
         employee3.setJoiningDate(LocalDate.of(2020, 1, 20));
 
-        List<Employee> employees = Arrays.asList(employee2, employee1, employee3);
+        // Ordering is pushed to the database; the stream arrives already sorted by name, joining date
+        List<Employee> employees = Arrays.asList(employee3, employee1, employee2);
 
-        when(employeeRepository.findAll()).thenReturn(employees);
+        when(employeeRepository.streamAllOrderByNameAndJoiningDate()).thenReturn(views(employees).stream());
 
-        List<EmployeeResponseDTO> result = employeeService.getAllEmployeesSortedByNameAndDate();
+        List<EmployeeResponseDTO> result = new java.util.ArrayList<>();
+        employeeService.streamEmployeesSortedByNameAndDate(result::add);
 
         assertNotNull(result);
         assertEquals(3, result.size());
@@ -336,18 +411,20 @@ public class EmployeeServiceImplTest {
         assertEquals("Alice Johnson", result.get(1).getName());
         assertEquals(LocalDate.of(2021, 5, 10), result.get(1).getJoiningDate());
         assertEquals("Bob Smith", result.get(2).getName());
-        verify(employeeRepository, times(1)).findAll();
+        verify(employeeRepository, times(1)).streamAllOrderByNameAndJoiningDate();
+        verify(employeeRepository, never()).findAll();
     }
 
     @Test
-    public void testGetAllEmployeesSortedByNameAndDate_EmptyList() {
-        when(employeeRepository.findAll()).thenReturn(new java.util.ArrayList<>());
+    public void testStreamEmployeesSortedByNameAndDate_EmptyList() {
+        when(employeeRepository.streamAllOrderByNameAndJoiningDate()).thenReturn(Stream.empty());
 
-        List<EmployeeResponseDTO> result = employeeService.getAllEmployeesSortedByNameAndDate();
+        List<EmployeeResponseDTO> result = new java.util.ArrayList<>();
+        employeeService.streamEmployeesSortedByNameAndDate(result::add);
 
         assertNotNull(result);
         assertEquals(0, result.size());
-        verify(employeeRepository, times(1)).findAll();
+        verify(employeeRepository, times(1)).streamAllOrderByNameAndJoiningDate();
     }
 
     @Test
@@ -367,14 +444,14 @@ public class EmployeeServiceImplTest {
         employee2.setRole("Manager");
         employee2.setSalary(60000.0);
 
-        when(employeeRepository.findById(2L)).thenReturn(Optional.of(employee2));
+        when(employeeRepository.findViewById(2L)).thenReturn(Optional.of(view(employee2)));
 
         EmployeeResponseDTO result = employeeService.getEmployeeById(2L);
 
         assertNotNull(result);
         assertEquals("Jane Doe", result.getName());
         assertEquals(2L, result.getId());
-        verify(employeeRepository, times(1)).findById(2L);
+        verify(employeeRepository, times(1)).findViewById(2L);
     }
 
     @Test
@@ -410,9 +487,9 @@ public class EmployeeServiceImplTest {
     @Test
     public void testGetEmployees_WithDepartmentFilterEmptyResult() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Employee> emptyPage = new PageImpl<>(new java.util.ArrayList<>(), pageable, 0);
+        Page<EmployeeResponseDTO> emptyPage = new PageImpl<>(new java.util.ArrayList<>(), pageable, 0);
 
-        when(employeeRepository.findByDepartmentName("NonExistent", pageable)).thenReturn(emptyPage);
+        when(employeeRepository.findViewsByDepartmentName("NonExistent", pageable)).thenReturn(emptyPage.getContent());
 
         Page<EmployeeResponseDTO> result = employeeService.getEmployees("NonExistent", pageable);
 
@@ -431,7 +508,7 @@ public class EmployeeServiceImplTest {
     }
 
     @Test
-    public void testGetAllEmployeesSortedByNameAndDate_MultipleWithSameName() {
+    public void testStreamEmployeesSortedByNameAndDate_MultipleWithSameName() {
         Employee emp1 = new Employee();
         emp1.setId(1L);
         emp1.setName("Alice Johnson");
@@ -460,11 +537,12 @@ public class EmployeeServiceImplTest {
         emp4.setSalary(58000.0);
         emp4.setJoiningDate(LocalDate.of(2019, 7, 5));
 
-        List<Employee> employees = Arrays.asList(emp2, emp1, emp3, emp4);
+        List<Employee> employees = Arrays.asList(emp3, emp1, emp2, emp4);
 
-        when(employeeRepository.findAll()).thenReturn(employees);
+        when(employeeRepository.streamAllOrderByNameAndJoiningDate()).thenReturn(views(employees).stream());
 
-        List<EmployeeResponseDTO> result = employeeService.getAllEmployeesSortedByNameAndDate();
+        List<EmployeeResponseDTO> result = new java.util.ArrayList<>();
+        employeeService.streamEmployeesSortedByNameAndDate(result::add);
 
         assertNotNull(result);
         assertEquals(4, result.size());
@@ -485,9 +563,9 @@ public class EmployeeServiceImplTest {
         employee2.setRole("Manager");
 
         List<Employee> employees = Arrays.asList(employee2);
-        Page<Employee> pageOfEmployees = new PageImpl<>(employees, pageable, 11);
+        Page<EmployeeResponseDTO> pageOfEmployees = new PageImpl<>(views(employees), pageable, 11);
 
-        when(employeeRepository.findAll(pageable)).thenReturn(pageOfEmployees);
+        when(employeeRepository.findAllViews(pageable)).thenReturn(pageOfEmployees);
 
         Page<EmployeeResponseDTO> result = employeeService.getEmployees(null, pageable);
 
@@ -541,23 +619,23 @@ public class EmployeeServiceImplTest {
 
     @Test
     public void testGetEmployeeById_UnexpectedException() {
-        when(employeeRepository.findById(1L)).thenThrow(new RuntimeException("Database connection error"));
+        when(employeeRepository.findViewById(1L)).thenThrow(new RuntimeException("Database connection error"));
 
         assertThrows(RuntimeException.class, () -> employeeService.getEmployeeById(1L));
-        verify(employeeRepository, times(1)).findById(1L);
+        verify(employeeRepository, times(1)).findViewById(1L);
     }
 
     @Test
     public void testGetEmployeeById_DataAccessException() {
-        when(employeeRepository.findById(1L)).thenThrow(new IllegalArgumentException("Invalid parameter"));
+        when(employeeRepository.findViewById(1L)).thenThrow(new IllegalArgumentException("Invalid parameter"));
 
         assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeeById(1L));
-        verify(employeeRepository, times(1)).findById(1L);
+        verify(employeeRepository, times(1)).findViewById(1L);
     }
 
     @Test
     public void testGetEmployeeById_NullPointerException() {
-        when(employeeRepository.findById(1L)).thenThrow(new NullPointerException("Null value encountered"));
+        when(employeeRepository.findViewById(1L)).thenThrow(new NullPointerException("Null value encountered"));
 
         assertThrows(NullPointerException.class, () -> employeeService.getEmployeeById(1L));
     }
@@ -565,50 +643,50 @@ public class EmployeeServiceImplTest {
     @Test
     public void testGetEmployees_RepositoryThrowsException() {
         Pageable pageable = PageRequest.of(0, 10);
-        when(employeeRepository.findAll(pageable)).thenThrow(new RuntimeException("Database error"));
+        when(employeeRepository.findAllViews(pageable)).thenThrow(new RuntimeException("Database error"));
 
         assertThrows(RuntimeException.class, () -> employeeService.getEmployees(null, pageable));
-        verify(employeeRepository, times(1)).findAll(pageable);
+        verify(employeeRepository, times(1)).findAllViews(pageable);
     }
 
     @Test
     public void testGetEmployees_FindByDepartmentThrowsException() {
         Pageable pageable = PageRequest.of(0, 10);
-        when(employeeRepository.findByDepartmentName("IT", pageable))
+        when(employeeRepository.findViewsByDepartmentName("IT", pageable))
                 .thenThrow(new RuntimeException("Query execution failed"));
 
         assertThrows(RuntimeException.class, () -> employeeService.getEmployees("IT", pageable));
-        verify(employeeRepository, times(1)).findByDepartmentName("IT", pageable);
+        verify(employeeRepository, times(1)).findViewsByDepartmentName("IT", pageable);
     }
 
     @Test
     public void testGetEmployees_IllegalStateException() {
         Pageable pageable = PageRequest.of(0, 10);
-        when(employeeRepository.findAll(pageable)).thenThrow(new IllegalStateException("Invalid state"));
+        when(employeeRepository.findAllViews(pageable)).thenThrow(new IllegalStateException("Invalid state"));
 
         assertThrows(IllegalStateException.class, () -> employeeService.getEmployees(null, pageable));
     }
 
     @Test
-    public void testGetAllEmployeesSortedByNameAndDate_RepositoryException() {
-        when(employeeRepository.findAll()).thenThrow(new RuntimeException("Database connection failed"));
+    public void testStreamEmployeesSortedByNameAndDate_RepositoryException() {
+        when(employeeRepository.streamAllOrderByNameAndJoiningDate()).thenThrow(new RuntimeException("Database connection failed"));
 
-        assertThrows(RuntimeException.class, () -> employeeService.getAllEmployeesSortedByNameAndDate());
-        verify(employeeRepository, times(1)).findAll();
+        assertThrows(RuntimeException.class, () -> employeeService.streamEmployeesSortedByNameAndDate(employee -> { }));
+        verify(employeeRepository, times(1)).streamAllOrderByNameAndJoiningDate();
     }
 
     @Test
-    public void testGetAllEmployeesSortedByNameAndDate_DataAccessException() {
-        when(employeeRepository.findAll()).thenThrow(new IllegalArgumentException("Invalid query parameter"));
+    public void testStreamEmployeesSortedByNameAndDate_DataAccessException() {
+        when(employeeRepository.streamAllOrderByNameAndJoiningDate()).thenThrow(new IllegalArgumentException("Invalid query parameter"));
 
-        assertThrows(IllegalArgumentException.class, () -> employeeService.getAllEmployeesSortedByNameAndDate());
+        assertThrows(IllegalArgumentException.class, () -> employeeService.streamEmployeesSortedByNameAndDate(employee -> { }));
     }
 
     @Test
-    public void testGetAllEmployeesSortedByNameAndDate_NullPointerException() {
-        when(employeeRepository.findAll()).thenThrow(new NullPointerException("Null reference"));
+    public void testStreamEmployeesSortedByNameAndDate_NullPointerException() {
+        when(employeeRepository.streamAllOrderByNameAndJoiningDate()).thenThrow(new NullPointerException("Null reference"));
 
-        assertThrows(NullPointerException.class, () -> employeeService.getAllEmployeesSortedByNameAndDate());
+        assertThrows(NullPointerException.class, () -> employeeService.streamEmployeesSortedByNameAndDate(employee -> { }));
     }
 
     @Test
@@ -619,9 +697,9 @@ public class EmployeeServiceImplTest {
         invalidEmployee.setDepartment(null);
 
         List<Employee> employees = Arrays.asList(invalidEmployee);
-        when(employeeRepository.findAll()).thenReturn(employees);
+        when(employeeRepository.streamAllOrderByNameAndJoiningDate()).thenReturn(views(employees).stream());
 
-        assertDoesNotThrow(() -> employeeService.getAllEmployeesSortedByNameAndDate());
+        assertDoesNotThrow(() -> employeeService.streamEmployeesSortedByNameAndDate(employee -> { }));
     }
 
     @Test
@@ -645,4 +723,344 @@ public class EmployeeServiceImplTest {
 
         assertThrows(RuntimeException.class, () -> employeeService.updateEmployee(1L, updateDTO));
     }
+
+    @Test
+    public void testGetEmployeesAfter_WithoutDepartmentFilter() {
+        Slice<EmployeeResponseDTO> slice = new SliceImpl<>(views(Arrays.asList(employee)), PageRequest.of(0, 10), false);
+
+        when(employeeRepository.findViewsByIdGreaterThan(0L, PageRequest.of(0, 10))).thenReturn(slice);
+
+        Slice<EmployeeResponseDTO> result = employeeService.getEmployeesAfter(null, 0L, 10);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals("John Doe", result.getContent().get(0).getName());
+        assertFalse(result.hasNext());
+        verify(employeeRepository, never()).findViewsByDepartmentNameAndIdGreaterThan(anyString(), anyLong(), any(Pageable.class));
+        verify(employeeRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    public void testGetEmployeesAfter_WithDepartmentFilter() {
+        Slice<EmployeeResponseDTO> slice = new SliceImpl<>(views(Arrays.asList(employee)), PageRequest.of(0, 1), true);
+
+        when(employeeRepository.findViewsByDepartmentNameAndIdGreaterThan("IT", 5L, PageRequest.of(0, 1))).thenReturn(slice);
+
+        Slice<EmployeeResponseDTO> result = employeeService.getEmployeesAfter("IT", 5L, 1);
+
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.hasNext());
+        verify(employeeRepository, never()).findViewsByIdGreaterThan(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    public void testGetEmployeesAfter_RepositoryException() {
+        when(employeeRepository.findViewsByIdGreaterThan(anyLong(), any(Pageable.class)))
+                .thenThrow(new RuntimeException("Database error"));
+
+        assertThrows(RuntimeException.class, () -> employeeService.getEmployeesAfter(null, 0L, 10));
+    }
+
+    @Test
+    public void testStreamEmployeesSortedBySalary_PreservesDatabaseOrder() {
+        Employee lowPaid = new Employee();
+        lowPaid.setId(2L);
+        lowPaid.setName("Jane Smith");
+        lowPaid.setSalary(30000.0);
+
+        when(employeeRepository.streamAllOrderBySalary()).thenReturn(Stream.of(view(lowPaid), view(employee)));
+
+        List<EmployeeResponseDTO> result = new java.util.ArrayList<>();
+        employeeService.streamEmployeesSortedBySalary(result::add);
+
+        assertEquals(2, result.size());
+        assertEquals(30000.0, result.get(0).getSalary());
+        assertEquals(50000.0, result.get(1).getSalary());
+        verify(employeeRepository, never()).findAll();
+    }
+
+    @Test
+    public void testStreamEmployeesSortedByNameAndDate_ResolvesProjectNamesPerChunk() {
+        List<Employee> employees = new java.util.ArrayList<>();
+        for (long i = 0; i < 1200; i++) {
+            Employee e = new Employee();
+            e.setId(i);
+            e.setName("Employee " + i);
+            employees.add(e);
+        }
+        when(employeeRepository.streamAllOrderByNameAndJoiningDate()).thenReturn(views(employees).stream());
+
+        List<EmployeeResponseDTO> streamed = new java.util.ArrayList<>();
+        employeeService.streamEmployeesSortedByNameAndDate(streamed::add);
+
+        assertEquals(1200, streamed.size());
+        assertEquals("Employee 0", streamed.get(0).getName());
+        assertEquals("Employee 1199", streamed.get(1199).getName());
+        // 500 + 500 + 200
+        verify(employeeRepository, times(3)).findProjectNamesByEmployeeIdIn(anyCollection());
+    }
+
+    @Test
+    public void testStreamAllEmployees_MapsRowsInIdOrder() {
+        when(employeeRepository.streamAllOrderById()).thenReturn(Stream.of(view(employee)));
+
+        List<EmployeeResponseDTO> streamed = new java.util.ArrayList<>();
+        employeeService.streamAllEmployees(streamed::add);
+
+        assertEquals(1, streamed.size());
+        assertEquals("IT", streamed.get(0).getDepartmentName());
+        assertEquals(Set.of(), streamed.get(0).getProjectNames());
+    }
+
+    @Test
+    public void testStreamAllEmployees_RepositoryException() {
+        when(employeeRepository.streamAllOrderById()).thenThrow(new RuntimeException("Cursor failed"));
+
+        assertThrows(RuntimeException.class, () -> employeeService.streamAllEmployees(dto -> { }));
+    }
+
+    @Test
+    public void testCreateEmployees_ResolvesReferencesOnceAndReportsPerItem() {
+        Project apollo = new Project();
+        apollo.setId(10L);
+        apollo.setName("Apollo");
+        employeeRequestDTO.setProjectIds(Set.of(10L));
+
+        EmployeeRequestDTO unknownDepartment = new EmployeeRequestDTO();
+        unknownDepartment.setName("Jane Doe");
+        unknownDepartment.setRole("Analyst");
+        unknownDepartment.setSalary(60000.0);
+        unknownDepartment.setJoiningDate(LocalDate.of(2023, 3, 1));
+        unknownDepartment.setDepartmentId(99L);
+
+        EmployeeRequestDTO invalid = new EmployeeRequestDTO();
+        invalid.setRole("Analyst");
+        invalid.setSalary(-1.0);
+        invalid.setJoiningDate(LocalDate.of(2023, 3, 1));
+
+        when(departmentRepository.findAllById(anyCollection())).thenReturn(List.of(department));
+        when(projectRepository.findAllById(anyCollection())).thenReturn(List.of(apollo));
+        when(employeeRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Employee> saved = invocation.getArgument(0);
+            saved.forEach(e -> e.setId(100L));
+            return saved;
+        });
+
+        EmployeeBatchResponseDTO result = employeeService.createEmployees(
+                Arrays.asList(employeeRequestDTO, unknownDepartment, invalid, null));
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals(3, result.getFailed());
+        assertEquals(201, result.getResults().get(0).getStatus());
+        assertEquals(100L, result.getResults().get(0).getId());
+        assertEquals(Set.of("Apollo"), result.getResults().get(0).getEmployee().getProjectNames());
+        assertEquals(404, result.getResults().get(1).getStatus());
+        assertEquals("Department not found with id: 99", result.getResults().get(1).getMessage());
+        assertEquals(400, result.getResults().get(2).getStatus());
+        assertEquals("name is required, salary must be positive", result.getResults().get(2).getMessage());
+        assertEquals(400, result.getResults().get(3).getStatus());
+
+        verify(departmentRepository, times(1)).findAllById(argThat(ids -> ((Collection<?>) ids).size() == 2));
+        verify(projectRepository, times(1)).findAllById(anyCollection());
+        verify(departmentRepository, never()).findById(anyLong());
+        verify(employeeRepository, times(1)).saveAll(argThat(list -> ((Collection<?>) list).size() == 1));
+    }
+
+    @Test
+    public void testCreateEmployees_SkipsNullProjectIds() {
+        Project apollo = new Project();
+        apollo.setId(10L);
+        apollo.setName("Apollo");
+        employeeRequestDTO.setProjectIds(new java.util.HashSet<>(Arrays.asList(10L, null)));
+
+        when(departmentRepository.findAllById(anyCollection())).thenReturn(List.of(department));
+        when(projectRepository.findAllById(anyCollection())).thenReturn(List.of(apollo));
+        when(employeeRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        EmployeeBatchResponseDTO result = employeeService.createEmployees(List.of(employeeRequestDTO));
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals(Set.of("Apollo"), result.getResults().get(0).getEmployee().getProjectNames());
+        verify(projectRepository, times(1)).findAllById(argThat(ids -> !((Collection<?>) ids).contains(null)));
+        verify(employeeRepository, times(1)).saveAll(argThat(list ->
+                !((Employee) ((List<?>) list).get(0)).getProjects().contains(null)));
+    }
+
+    @Test
+    public void testUpdateEmployees_ReportsMissingAndDuplicateIds() {
+        EmployeeBatchUpdateRequestDTO update = new EmployeeBatchUpdateRequestDTO();
+        update.setId(1L);
+        update.setName("John Updated");
+        update.setRole("Lead");
+        update.setSalary(90000.0);
+        update.setJoiningDate(LocalDate.of(2022, 1, 15));
+        update.setProjectIds(Set.of(77L));
+
+        EmployeeBatchUpdateRequestDTO duplicate = new EmployeeBatchUpdateRequestDTO();
+        duplicate.setId(1L);
+
+        EmployeeBatchUpdateRequestDTO missing = new EmployeeBatchUpdateRequestDTO();
+        missing.setId(2L);
+
+        EmployeeBatchUpdateRequestDTO withoutId = new EmployeeBatchUpdateRequestDTO();
+
+        employee.setProjects(new java.util.HashSet<>());
+        when(employeeRepository.findAllByIdIn(anyCollection())).thenReturn(List.of(employee));
+        when(projectRepository.findAllById(anyCollection())).thenReturn(List.of());
+
+        EmployeeBatchResponseDTO result = employeeService.updateEmployees(List.of(update, duplicate, missing, withoutId));
+
+        assertEquals(0, result.getSucceeded());
+        assertEquals(404, result.getResults().get(0).getStatus());
+        assertEquals("Project not found with id: 77", result.getResults().get(0).getMessage());
+        assertEquals(400, result.getResults().get(1).getStatus());
+        assertEquals(404, result.getResults().get(2).getStatus());
+        assertEquals("Employee not found with id: 2", result.getResults().get(2).getMessage());
+        assertEquals(400, result.getResults().get(3).getStatus());
+        assertEquals("id is required", result.getResults().get(3).getMessage());
+        // A rejected item leaves its entity untouched.
+        assertEquals("John Doe", employee.getName());
+        verify(employeeRepository, times(1)).findAllByIdIn(argThat(ids -> ((Collection<?>) ids).size() == 2));
+    }
+
+    @Test
+    public void testUpdateEmployees_AppliesChanges() {
+        EmployeeBatchUpdateRequestDTO update = new EmployeeBatchUpdateRequestDTO();
+        update.setId(1L);
+        update.setName("John Updated");
+        update.setRole("Lead");
+        update.setSalary(90000.0);
+        update.setJoiningDate(LocalDate.of(2022, 1, 15));
+        update.setDepartmentId(1L);
+
+        when(employeeRepository.findAllByIdIn(anyCollection())).thenReturn(List.of(employee));
+        when(departmentRepository.findAllById(anyCollection())).thenReturn(List.of(department));
+
+        EmployeeBatchResponseDTO result = employeeService.updateEmployees(List.of(update));
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals(200, result.getResults().get(0).getStatus());
+        assertEquals("John Updated", result.getResults().get(0).getEmployee().getName());
+        assertEquals(90000.0, employee.getSalary());
+        verify(employeeRepository, times(1)).saveAll(List.of(employee));
+        verify(employeeRepository, times(1)).flush();
+    }
+
+    @Test
+    public void testCreateEmployees_RejectsOversizedBatch() {
+        List<EmployeeRequestDTO> batch = java.util.Collections.nCopies(EmployeeServiceImpl.MAX_BATCH_SIZE + 1, employeeRequestDTO);
+
+        assertThrows(InvalidBatchRequestException.class, () -> employeeService.createEmployees(batch));
+        assertThrows(InvalidBatchRequestException.class, () -> employeeService.createEmployees(List.of()));
+        verify(employeeRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    public void testCreateEmployee_ResolvesProjectsWithSingleQuery() {
+        Project apollo = new Project();
+        apollo.setId(10L);
+        apollo.setName("Apollo");
+        Project gemini = new Project();
+        gemini.setId(11L);
+        gemini.setName("Gemini");
+        employeeRequestDTO.setProjectIds(Set.of(10L, 11L));
+        when(departmentRepository.findById(1L)).thenReturn(Optional.of(department));
+        when(projectRepository.findAllById(Set.of(10L, 11L))).thenReturn(List.of(apollo, gemini));
+        when(employeeRepository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        EmployeeResponseDTO result = employeeService.createEmployee(employeeRequestDTO);
+
+        assertEquals(Set.of("Apollo", "Gemini"), result.getProjectNames());
+        verify(projectRepository, times(1)).findAllById(anyCollection());
+        verify(projectRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    public void testCreateEmployee_ReportsAllMissingProjects() {
+        Project apollo = new Project();
+        apollo.setId(10L);
+        apollo.setName("Apollo");
+        employeeRequestDTO.setProjectIds(Set.of(10L, 12L, 11L));
+        when(departmentRepository.findById(1L)).thenReturn(Optional.of(department));
+        when(projectRepository.findAllById(anyCollection())).thenReturn(List.of(apollo));
+
+        ProjectNotFoundException ex = assertThrows(ProjectNotFoundException.class,
+                () -> employeeService.createEmployee(employeeRequestDTO));
+
+        assertEquals("Projects not found with ids: 11, 12", ex.getMessage());
+        verify(employeeRepository, never()).save(any(Employee.class));
+    }
+
+    @Test
+    public void testUpdateEmployee_ReportsMissingProject() {
+        EmployeeUpdateRequestDTO updateDTO = new EmployeeUpdateRequestDTO();
+        updateDTO.setName("John Doe");
+        updateDTO.setProjectIds(Set.of(42L));
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+        when(projectRepository.findAllById(anyCollection())).thenReturn(List.of());
+
+        ProjectNotFoundException ex = assertThrows(ProjectNotFoundException.class,
+                () -> employeeService.updateEmployee(1L, updateDTO));
+
+        assertEquals("Project not found with id: 42", ex.getMessage());
+        verify(employeeRepository, never()).save(any(Employee.class));
+    }
+
+    private static EmployeeRepository.EmployeeScore score(Long id, Integer performanceScore) {
+        return new EmployeeRepository.EmployeeScore() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Integer getPerformanceScore() {
+                return performanceScore;
+            }
+        };
+    }
+
+    private static EmployeeResponseDTO scoredView(Long id, Integer performanceScore) {
+        return new EmployeeResponseDTO(id, "Employee " + id, "Engineer", 50000.0, LocalDate.of(2024, 1, 1), "IT", performanceScore);
+    }
+
+    @Test
+    public void testGetTopEmployees_BySalaryUsesLimitedQuery() {
+        when(employeeRepository.findTopViewsBySalary(PageRequest.of(0, 2)))
+                .thenReturn(new ArrayList<>(List.of(scoredView(7L, null), scoredView(3L, null))));
+
+        List<EmployeeResponseDTO> result = employeeService.getTopEmployees("salary", 2);
+
+        assertEquals(2, result.size());
+        verify(employeeRepository, never()).streamPerformanceScores();
+        verify(employeeRepository, times(1)).findProjectNamesByEmployeeIdIn(any());
+    }
+
+    @Test
+    public void testGetTopEmployees_ByPerformanceKeepsBestScores() {
+        when(employeeRepository.streamPerformanceScores()).thenReturn(Stream.of(
+                score(1L, 70), score(2L, 95), score(3L, 88), score(4L, 95), score(5L, 60), score(6L, 91)));
+        when(employeeRepository.findViewsByIdIn(any()))
+                .thenReturn(List.of(scoredView(6L, 91), scoredView(4L, 95), scoredView(2L, 95)));
+
+        List<EmployeeResponseDTO> result = employeeService.getTopEmployees("performance", 3);
+
+        assertEquals(List.of(2L, 4L, 6L), result.stream().map(EmployeeResponseDTO::getId).toList());
+        verify(employeeRepository).findViewsByIdIn(List.of(2L, 4L, 6L));
+    }
+
+    @Test
+    public void testGetTopEmployees_NoScoredEmployees() {
+        when(employeeRepository.streamPerformanceScores()).thenReturn(Stream.empty());
+
+        assertTrue(employeeService.getTopEmployees("PERFORMANCE", 5).isEmpty());
+        verify(employeeRepository, never()).findViewsByIdIn(any());
+    }
+
+    @Test
+    public void testGetTopEmployees_InvalidRequest() {
+        assertThrows(InvalidTopRequestException.class, () -> employeeService.getTopEmployees("age", 5));
+        assertThrows(InvalidTopRequestException.class, () -> employeeService.getTopEmployees("salary", 0));
+        assertThrows(InvalidTopRequestException.class,
+                () -> employeeService.getTopEmployees("salary", EmployeeServiceImpl.MAX_TOP_N + 1));
+    }
 }
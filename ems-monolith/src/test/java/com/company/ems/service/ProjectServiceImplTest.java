@@ -1,5 +1,6 @@
 package com.company.ems.service;
 
+import com.company.ems.cache.ReferenceDataCache;
 import com.company.ems.dto.ProjectRequestDTO;
 import com.company.ems.dto.ProjectResponseDTO;
 import com.company.ems.dto.ProjectUpdateRequestDTO;
@@ -11,8 +12,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -28,6 +32,9 @@ public class ProjectServiceImplTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Spy
+    private ReferenceDataCache referenceDataCache = new ReferenceDataCache(100, Duration.ofMinutes(10));
+
     @InjectMocks
     private ProjectServiceImpl projectService;
 
@@ -37,6 +44,7 @@ public class ProjectServiceImplTest {
 
     @BeforeEach
     public void setUp() {
+        ReflectionTestUtils.setField(referenceDataCache, "projectRepository", projectRepository);
         project = new Project();
         project.setId(1L);
         project.setName("Mobile App Development");
@@ -0,0 +1,100 @@
+package com.company.ems.service;
+
+import com.company.ems.repository.DepartmentReportSnapshotRepository;
+import com.company.ems.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReportGeneratorServiceOverlapTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private DepartmentReportSnapshotRepository snapshotRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ReportGeneratorService reportGeneratorService;
+
+    // Holds submitted runs until the test releases them, standing in for a busy report thread.
+    private final List<Runnable> submitted = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        TaskExecutor executor = submitted::add;
+        ReflectionTestUtils.setField(reportGeneratorService, "reportExecutor", executor);
+    }
+
+    @Test
+    public void testSubmitReport_SkipsWhilePreviousRunIsInProgress() {
+        assertTrue(reportGeneratorService.submitReport());
+        assertFalse(reportGeneratorService.submitReport());
+        reportGeneratorService.generateMonthlyReport();
+
+        assertEquals(1, submitted.size());
+        assertTrue(reportGeneratorService.isRunning());
+    }
+
+    @Test
+    public void testSubmitReport_AcceptsNextRunAfterCompletion() {
+        when(transactionTemplate.execute(any())).thenReturn(0);
+
+        assertTrue(reportGeneratorService.submitReport());
+        submitted.get(0).run();
+
+        assertFalse(reportGeneratorService.isRunning());
+        assertTrue(reportGeneratorService.submitReport());
+        assertEquals(2, submitted.size());
+    }
+
+    @Test
+    public void testSubmitReport_FailedRunReleasesGuard() {
+        when(transactionTemplate.execute(any())).thenThrow(new RuntimeException("Database error"));
+
+        reportGeneratorService.submitReport();
+        assertDoesNotThrow(() -> submitted.get(0).run());
+
+        assertFalse(reportGeneratorService.isRunning());
+    }
+
+    @Test
+    public void testSubmitReport_RejectedByExecutorReleasesGuard() {
+        TaskExecutor saturated = task -> {
+            throw new TaskRejectedException("Report executor saturated");
+        };
+        ReflectionTestUtils.setField(reportGeneratorService, "reportExecutor", saturated);
+
+        assertFalse(reportGeneratorService.submitReport());
+        assertFalse(reportGeneratorService.isRunning());
+    }
+
+    @Test
+    public void testGenerateSnapshots_RunsInsideTransaction() {
+        when(transactionTemplate.execute(any())).thenReturn(0);
+
+        reportGeneratorService.generateSnapshots();
+
+        verify(transactionTemplate, times(1)).execute(any(TransactionCallback.class));
+        verifyNoInteractions(employeeRepository, snapshotRepository);
+    }
+}
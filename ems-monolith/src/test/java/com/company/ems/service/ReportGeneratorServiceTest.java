@@ -1,15 +1,26 @@
 package com.company.ems.service;
 
+import com.company.ems.model.Department;
+import com.company.ems.model.DepartmentReportSnapshot;
+import com.company.ems.model.Employee;
+import com.company.ems.repository.DepartmentReportSnapshotRepository;
+import com.company.ems.repository.DepartmentRepository;
+import com.company.ems.repository.EmployeeRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.test.context.TestPropertySource;
 
-import java.io.ByteArrayOutputStream;
-import java.io.PrintStream;
 import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.awaitility.Awaitility.await;
@@ -17,12 +28,22 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @SpringBootTest
+@AutoConfigureTestDatabase
 @TestPropertySource(properties = "ems.report.fixed-rate=1000")
 public class ReportGeneratorServiceTest {
 
     @SpyBean
     private ReportGeneratorService reportGeneratorService;
 
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentReportSnapshotRepository snapshotRepository;
+
     @Test
     public void testScheduledTaskExecution() {
         await()
@@ -44,19 +65,76 @@ public class ReportGeneratorServiceTest {
     }
 
     @Test
-    public void testGenerateMonthlyReport_ExceptionHandling_PrintsSuccessMessage() {
-        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
-        PrintStream originalOut = System.out;
-        System.setOut(new PrintStream(outContent));
+    public void testGenerateSnapshots_PersistsDepartmentAggregates() {
+        Department department = new Department();
+        department.setName("Report " + System.nanoTime());
+        department = departmentRepository.save(department);
+        employeeRepository.saveAll(List.of(employee("Alice", 40000.0, department), employee("Bob", 60000.0, department)));
 
-        try {
-            reportGeneratorService.generateMonthlyReport();
-            String output = outContent.toString();
-            assertTrue(output.contains("Monthly report generated successfully."), 
-                "Expected success message in console output");
-        } finally {
-            System.setOut(originalOut);
-        }
+        int written = reportGeneratorService.generateSnapshots();
+
+        Long departmentId = department.getId();
+        DepartmentReportSnapshot snapshot = snapshotRepository.findAll().stream()
+                .filter(s -> s.getDepartmentId().equals(departmentId))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2L, snapshot.getHeadcount());
+        assertEquals(100000.0, snapshot.getTotalSalary());
+        assertEquals(50000.0, snapshot.getAverageSalary());
+        assertEquals(40000.0, snapshot.getMinSalary());
+        assertEquals(60000.0, snapshot.getMaxSalary());
+        assertEquals(written, snapshotRepository.findByGeneratedAtOrderByDepartmentId(snapshot.getGeneratedAt()).size());
+    }
+
+    @Test
+    public void testGenerateSnapshots_PrunesSnapshotsPastRetention() {
+        DepartmentReportSnapshot expired = snapshot(LocalDateTime.now().minusDays(8));
+        DepartmentReportSnapshot retained = snapshot(LocalDateTime.now().minusDays(6));
+        snapshotRepository.saveAll(List.of(expired, retained));
+
+        reportGeneratorService.generateSnapshots();
+
+        assertFalse(snapshotRepository.existsById(expired.getId()));
+        assertTrue(snapshotRepository.existsById(retained.getId()));
+    }
+
+    private static DepartmentReportSnapshot snapshot(LocalDateTime generatedAt) {
+        DepartmentReportSnapshot snapshot = new DepartmentReportSnapshot();
+        snapshot.setGeneratedAt(generatedAt);
+        snapshot.setDepartmentId(-1L);
+        snapshot.setDepartmentName("Archived");
+        snapshot.setHeadcount(1L);
+        snapshot.setTotalSalary(1.0);
+        snapshot.setAverageSalary(1.0);
+        snapshot.setMinSalary(1.0);
+        snapshot.setMaxSalary(1.0);
+        return snapshot;
+    }
+
+    @Test
+    public void testGenerateMonthlyReport_RunsOffTheSchedulerThread() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return invocation.callRealMethod();
+        }).when(reportGeneratorService).generateSnapshots();
+
+        reportGeneratorService.generateMonthlyReport();
+
+        await()
+            .atMost(Duration.ofSeconds(5))
+            .untilAsserted(() -> assertFalse(threads.isEmpty()));
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("report-")), threads.toString());
+    }
+
+    private static Employee employee(String name, Double salary, Department department) {
+        Employee employee = new Employee();
+        employee.setName(name);
+        employee.setRole("Engineer");
+        employee.setSalary(salary);
+        employee.setJoiningDate(LocalDate.of(2024, 1, 1));
+        employee.setDepartment(department);
+        return employee;
     }
 
     @Test
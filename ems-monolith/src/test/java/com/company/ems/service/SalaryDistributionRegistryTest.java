@@ -0,0 +1,154 @@
+package com.company.ems.service;
+
+import com.company.ems.analytics.SalaryHistogram;
+import com.company.ems.cache.ReferenceDataCache;
+import com.company.ems.dto.EmployeeRequestDTO;
+import com.company.ems.dto.EmployeeUpdateRequestDTO;
+import com.company.ems.model.Department;
+import com.company.ems.repository.DepartmentRepository;
+import com.company.ems.repository.DepartmentSalarySummaryRepository;
+import com.company.ems.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs without the test-managed transaction: the sketches only follow changes once the writing transaction committed.
+@DataJpaTest
+@Import({EmployeeServiceImpl.class, DepartmentSalarySummaryRecorder.class, SalaryDistributionRegistry.class, ReferenceDataCache.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SalaryDistributionRegistryTest {
+
+    @Autowired
+    private EmployeeServiceImpl employeeService;
+
+    @Autowired
+    private DepartmentSalarySummaryRecorder recorder;
+
+    @Autowired
+    private SalaryDistributionRegistry registry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private DepartmentSalarySummaryRepository summaryRepository;
+
+    private Department it;
+
+    @BeforeEach
+    public void setUp() {
+        it = new Department();
+        it.setName("IT");
+        it = departmentRepository.save(it);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        employeeRepository.deleteAll();
+        summaryRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    private Long create(String role, double salary) {
+        EmployeeRequestDTO request = new EmployeeRequestDTO();
+        request.setName(role + " " + salary);
+        request.setRole(role);
+        request.setSalary(salary);
+        request.setJoiningDate(LocalDate.of(2024, 1, 1));
+        request.setDepartmentId(it.getId());
+        return employeeService.createEmployee(request).getId();
+    }
+
+    @Test
+    public void testSnapshot_LoadsThenFollowsCommittedWrites() {
+        create("Developer", 50000);
+        create("Developer", 70000);
+        create("Designer", 60000);
+
+        assertEquals(3, registry.snapshot(it.getId(), null).getCount());
+        assertEquals(2, registry.snapshot(it.getId(), "Developer").getCount());
+
+        Long senior = create("Developer", 150000);
+        SalaryHistogram developers = registry.snapshot(it.getId(), "Developer");
+        assertEquals(3, developers.getCount());
+        assertEquals(150000, developers.max(), 150000 * SalaryHistogram.RELATIVE_ACCURACY);
+
+        EmployeeUpdateRequestDTO promotion = new EmployeeUpdateRequestDTO();
+        promotion.setName("Architect");
+        promotion.setRole("Architect");
+        promotion.setSalary(180000.0);
+        promotion.setJoiningDate(LocalDate.of(2024, 1, 1));
+        employeeService.updateEmployee(senior, promotion);
+
+        assertEquals(2, registry.snapshot(it.getId(), "Developer").getCount());
+        assertEquals(1, registry.snapshot(it.getId(), "Architect").getCount());
+
+        employeeService.deleteEmployee(senior);
+
+        assertEquals(3, registry.snapshot(it.getId(), null).getCount());
+        assertEquals(0, registry.snapshot(it.getId(), "Architect").getCount());
+    }
+
+    @Test
+    public void testRebuild_DropsSketchSoItReloads() {
+        create("Developer", 50000);
+        assertEquals(1, registry.snapshot(it.getId(), null).getCount());
+
+        // A write that bypasses the service, as the JDBC import does
+        employeeRepository.findAll().forEach(employee -> {
+            employee.setSalary(90000.0);
+            employeeRepository.save(employee);
+        });
+        recorder.rebuild(List.of(it.getId()));
+
+        assertEquals(90000, registry.snapshot(it.getId(), null).quantile(0.5), 90000 * SalaryHistogram.RELATIVE_ACCURACY);
+    }
+
+    @Test
+    public void testSnapshot_LoadBetweenCommitAndChangeDoesNotDoubleCount() {
+        create("Developer", 50000);
+        AtomicLong seenBetween = new AtomicLong(-1);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // Registered ahead of the registry's own callback, so this runs once the rows are committed but
+            // before the change has been applied to the (not yet loaded) sketches
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    seenBetween.set(CompletableFuture.supplyAsync(() -> registry.snapshot(it.getId(), null).getCount()).join());
+                }
+            });
+            create("Developer", 70000);
+        });
+
+        assertEquals(2, seenBetween.get());
+        assertEquals(2, registry.snapshot(it.getId(), null).getCount());
+
+        create("Designer", 60000);
+        assertEquals(3, registry.snapshot(it.getId(), null).getCount());
+    }
+}
@@ -0,0 +1,107 @@
+package com.company.ems.service;
+
+import com.company.ems.analytics.SalaryHistogram;
+import com.company.ems.cache.ReferenceDataCache;
+import com.company.ems.dto.SalaryDistributionDTO;
+import com.company.ems.exception.DepartmentNotFoundException;
+import com.company.ems.exception.InvalidDistributionRequestException;
+import com.company.ems.model.Department;
+import com.company.ems.repository.DepartmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SalaryDistributionServiceImplTest {
+
+    @Mock
+    private SalaryDistributionRegistry registry;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Spy
+    private ReferenceDataCache referenceDataCache = new ReferenceDataCache(100, Duration.ofMinutes(10));
+
+    @InjectMocks
+    private SalaryDistributionServiceImpl salaryDistributionService;
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(referenceDataCache, "departmentRepository", departmentRepository);
+    }
+
+    private static Department department(Long id, String name) {
+        Department department = new Department();
+        department.setId(id);
+        department.setName(name);
+        return department;
+    }
+
+    private static SalaryHistogram sketch(double... salaries) {
+        SalaryHistogram sketch = new SalaryHistogram();
+        for (double salary : salaries) {
+            sketch.add(salary);
+        }
+        return sketch;
+    }
+
+    @Test
+    public void testGetDistribution_MergesDepartments() {
+        when(departmentRepository.findById(1L)).thenReturn(Optional.of(department(1L, "IT")));
+        when(departmentRepository.findById(2L)).thenReturn(Optional.of(department(2L, "HR")));
+        when(registry.snapshot(1L, "Developer")).thenReturn(sketch(40000, 50000, 60000, 70000, 80000));
+        when(registry.snapshot(2L, "Developer")).thenReturn(sketch(90000, 100000, 110000, 120000, 200000));
+
+        SalaryDistributionDTO result = salaryDistributionService.getDistribution(List.of(2L, 1L), " Developer ", 4);
+
+        assertEquals(List.of(1L, 2L), result.getDepartmentIds());
+        assertEquals("Developer", result.getRole());
+        assertEquals(10, result.getCount());
+        assertEquals(80000, result.getP50(), 800);
+        assertEquals(120000, result.getP90(), 1200);
+        assertEquals(200000, result.getMax(), 2000);
+        assertEquals(4, result.getHistogram().size());
+        assertEquals(10, result.getHistogram().stream().mapToLong(bin -> bin.getCount()).sum());
+    }
+
+    @Test
+    public void testGetDistribution_AllDepartmentsWhenNoneGiven() {
+        when(departmentRepository.findAll()).thenReturn(List.of(department(3L, "Design"), department(1L, "IT")));
+        when(registry.snapshot(any(), any())).thenReturn(new SalaryHistogram());
+
+        SalaryDistributionDTO result = salaryDistributionService.getDistribution(null, null, 10);
+
+        assertEquals(List.of(1L, 3L), result.getDepartmentIds());
+        assertEquals(0, result.getCount());
+        assertNull(result.getP50());
+        assertTrue(result.getHistogram().isEmpty());
+    }
+
+    @Test
+    public void testGetDistribution_UnknownDepartment() {
+        when(departmentRepository.findById(9L)).thenReturn(Optional.empty());
+
+        assertThrows(DepartmentNotFoundException.class, () -> salaryDistributionService.getDistribution(List.of(9L), null, 10));
+        verifyNoInteractions(registry);
+    }
+
+    @Test
+    public void testGetDistribution_TooManyBins() {
+        assertThrows(InvalidDistributionRequestException.class,
+                () -> salaryDistributionService.getDistribution(null, null, SalaryDistributionServiceImpl.MAX_BINS + 1));
+    }
+}
@@ -0,0 +1,37 @@
+package com.company.ems.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvLineParserTest {
+
+    @Test
+    public void testParse_PlainFields() {
+        assertEquals(List.of("1", "Employee 1", "IT Support", "51427"), CsvLineParser.parse("1,Employee 1,IT Support,51427"));
+    }
+
+    @Test
+    public void testParse_EmptyFields() {
+        assertEquals(List.of("a", "", "", "d", ""), CsvLineParser.parse("a,,,d,"));
+    }
+
+    @Test
+    public void testParse_QuotedFieldWithComma() {
+        assertEquals(List.of("1", "Smith, John", "HR"), CsvLineParser.parse("1,\"Smith, John\",HR"));
+    }
+
+    @Test
+    public void testParse_EscapedQuotes() {
+        assertEquals(List.of("say \"hi\"", "x"), CsvLineParser.parse("\"say \"\"hi\"\"\",x"));
+    }
+
+    @Test
+    public void testParse_RoundTripsExportFormat() {
+        String escaped = EmployeeCsvFormat.escape("R&D, \"Labs\"");
+
+        assertEquals(List.of("R&D, \"Labs\""), CsvLineParser.parse(escaped));
+    }
+}
@@ -0,0 +1,52 @@
+package com.company.ems.util;
+
+import com.company.ems.dto.EmployeeResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeCsvFormatTest {
+
+    @Test
+    public void testToRow_AllFields() {
+        EmployeeResponseDTO dto = new EmployeeResponseDTO();
+        dto.setId(7L);
+        dto.setName("Alice Johnson");
+        dto.setRole("Developer");
+        dto.setSalary(55000.0);
+        dto.setJoiningDate(LocalDate.of(2021, 5, 10));
+        dto.setDepartmentName("IT");
+        dto.setPerformanceScore(88);
+        dto.setProjectNames(Set.of("Gemini", "Apollo"));
+
+        assertEquals("7,Alice Johnson,Developer,55000.0,IT,2021-05-10,88,Apollo;Gemini", EmployeeCsvFormat.toRow(dto));
+    }
+
+    @Test
+    public void testToRow_NullFieldsAreEmpty() {
+        EmployeeResponseDTO dto = new EmployeeResponseDTO();
+        dto.setId(1L);
+        dto.setName("Bob");
+
+        assertEquals("1,Bob,,,,,,", EmployeeCsvFormat.toRow(dto));
+    }
+
+    @Test
+    public void testEscape_QuotesSpecialCharacters() {
+        assertEquals("plain", EmployeeCsvFormat.escape("plain"));
+        assertEquals("\"Smith, John\"", EmployeeCsvFormat.escape("Smith, John"));
+        assertEquals("\"say \"\"hi\"\"\"", EmployeeCsvFormat.escape("say \"hi\""));
+        assertEquals("\"line\nbreak\"", EmployeeCsvFormat.escape("line\nbreak"));
+    }
+
+    @Test
+    public void testHeader_ColumnCountMatchesRow() {
+        EmployeeResponseDTO dto = new EmployeeResponseDTO();
+        dto.setId(1L);
+
+        assertEquals(EmployeeCsvFormat.HEADER.split(",", -1).length, EmployeeCsvFormat.toRow(dto).split(",", -1).length);
+    }
+}
@@ -0,0 +1,56 @@
+package com.company.ems.util;
+
+import com.company.ems.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeCursorTest {
+
+    @Test
+    public void testEncodeDecode_RoundTrip() {
+        String token = EmployeeCursor.encode(123456789L);
+
+        assertNotNull(token);
+        assertFalse(token.contains("123456789"));
+        assertEquals(123456789L, EmployeeCursor.decode(token));
+    }
+
+    @Test
+    public void testDecode_NullOrEmptyStartsFromBeginning() {
+        assertEquals(0L, EmployeeCursor.decode(null));
+        assertEquals(0L, EmployeeCursor.decode(""));
+    }
+
+    @Test
+    public void testDecode_InvalidBase64() {
+        assertThrows(InvalidCursorException.class, () -> EmployeeCursor.decode("not a cursor!"));
+    }
+
+    @Test
+    public void testDecode_WrongPrefix() {
+        String token = java.util.Base64.getUrlEncoder().encodeToString("x:12".getBytes());
+
+        assertThrows(InvalidCursorException.class, () -> EmployeeCursor.decode(token));
+    }
+
+    @Test
+    public void testDecode_NonNumericId() {
+        String token = java.util.Base64.getUrlEncoder().encodeToString("e:abc".getBytes());
+
+        assertThrows(InvalidCursorException.class, () -> EmployeeCursor.decode(token));
+    }
+
+    @Test
+    public void testCheckSize_AcceptsRange() {
+        assertEquals(1, EmployeeCursor.checkSize(1));
+        assertEquals(EmployeeCursor.MAX_SLICE_SIZE, EmployeeCursor.checkSize(EmployeeCursor.MAX_SLICE_SIZE));
+    }
+
+    @Test
+    public void testCheckSize_RejectsOutOfRange() {
+        assertThrows(InvalidCursorException.class, () -> EmployeeCursor.checkSize(0));
+        assertThrows(InvalidCursorException.class, () -> EmployeeCursor.checkSize(-5));
+        assertThrows(InvalidCursorException.class, () -> EmployeeCursor.checkSize(EmployeeCursor.MAX_SLICE_SIZE + 1));
+    }
+}
@@ -0,0 +1,55 @@
+package db.migration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Replays an upgrade of a database that already holds rows with ids 1..N when the sequences are created at 1.
+public class AdvanceIdSequencesMigrationTest {
+
+    @Test
+    public void testRestartValue_ClearsExistingIdsOnSequenceSteps() {
+        assertEquals(101, V6__Advance_id_sequences.restartValue(1, 1));
+        assertEquals(101, V6__Advance_id_sequences.restartValue(50, 1));
+        assertEquals(151, V6__Advance_id_sequences.restartValue(51, 1));
+        assertEquals(201, V6__Advance_id_sequences.restartValue(120, 1));
+        // A sequence already past the rows only moves on by one block
+        assertEquals(551, V6__Advance_id_sequences.restartValue(120, 501));
+    }
+
+    @Test
+    public void testMigrate_MovesSequencesPastBaselinedRows() throws Exception {
+        String url = "jdbc:h2:mem:v6-upgrade;DB_CLOSE_DELAY=-1";
+        Flyway.configure().dataSource(url, "sa", "").target("5").load().migrate();
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO department (id, name) VALUES (1, 'IT'), (2, 'HR')");
+            statement.execute("INSERT INTO employee (id, name, role, salary, joining_date)"
+                    + " SELECT X, 'Employee ' || X, 'Developer', 1000, DATE '2020-01-01' FROM SYSTEM_RANGE(1, 120)");
+
+            Flyway.configure().dataSource(url, "sa", "").load().migrate();
+
+            long employeeNext = nextval(statement, "employee_seq");
+            long departmentNext = nextval(statement, "department_seq");
+            // Hibernate takes (value - 50, value] for a fetched value, which must not reach the existing rows
+            assertTrue(employeeNext - V6__Advance_id_sequences.INCREMENT >= 120, "employee_seq: " + employeeNext);
+            assertEquals(1, employeeNext % V6__Advance_id_sequences.INCREMENT);
+            assertTrue(departmentNext - V6__Advance_id_sequences.INCREMENT >= 2, "department_seq: " + departmentNext);
+            // Empty tables keep their fresh sequence
+            assertEquals(1, nextval(statement, "project_seq"));
+        }
+    }
+
+    private static long nextval(Statement statement, String sequence) throws Exception {
+        try (ResultSet rs = statement.executeQuery("SELECT nextval('" + sequence + "')")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.company.ems;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class EmsReactiveReadsApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(EmsReactiveReadsApplication.class, args);
+    }
+}
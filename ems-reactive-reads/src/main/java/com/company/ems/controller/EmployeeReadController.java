@@ -0,0 +1,62 @@
+package com.company.ems.controller;
+
+import com.company.ems.dto.EmployeeResponseDTO;
+import com.company.ems.service.IEmployeeReadService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of the monolith's read-only {@code /employees} endpoints. {@code /{id}}, {@code /sorted}
+ * and {@code /sorted-by-salary} answer at the same paths with the same bodies. The paged list is not a copy of
+ * the monolith's {@code GET /employees}, which returns a {@code Page} envelope with a total count: it is served
+ * at {@code /employees/stream} as the bare page content, ordered by id.
+ *
+ * <p>A {@link Flux} is written as a JSON array element by element, or as one document per line for
+ * {@code Accept: application/x-ndjson}; either way the database is read only as fast as the response is flushed.
+ */
+@RestController
+@RequestMapping("/employees")
+public class EmployeeReadController {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeReadController.class);
+
+    @Autowired
+    private IEmployeeReadService employeeReadService;
+
+    @GetMapping("/{id}")
+    public Mono<EmployeeResponseDTO> getEmployeeById(@PathVariable Long id) {
+        logger.info("Fetching employee with id: {}", id);
+        return employeeReadService.getEmployeeById(id);
+    }
+
+    // Page content only, without a total count; clients that need the Page envelope stay on the monolith.
+    @GetMapping(value = "/stream", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<EmployeeResponseDTO> getEmployees(
+            @RequestParam(required = false) String department,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        logger.info("Fetching employees - department: {}, page: {}, size: {}", department, page, size);
+        return employeeReadService.getEmployees(department, page, size);
+    }
+
+    @GetMapping(value = "/sorted", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<EmployeeResponseDTO> getSortedEmployees() {
+        logger.info("Streaming all employees sorted by name and date");
+        return employeeReadService.getEmployeesSortedByNameAndDate();
+    }
+
+    @GetMapping(value = "/sorted-by-salary", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<EmployeeResponseDTO> getEmployeesSortedBySalary() {
+        logger.info("Streaming all employees sorted by salary");
+        return employeeReadService.getEmployeesSortedBySalary();
+    }
+}
@@ -0,0 +1,32 @@
+package com.company.ems.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDate;
+
+// Same JSON shape as the monolith's EmployeeResponseDTO, so either side can answer a routed read.
+@Getter
+@Setter
+@NoArgsConstructor
+public class EmployeeResponseDTO {
+    private Long id;
+    private String name;
+    private String role;
+    private Double salary;
+    private LocalDate joiningDate;
+    private String departmentName;
+    private Integer performanceScore;
+    private java.util.Set<String> projectNames;
+
+    public EmployeeResponseDTO(Long id, String name, String role, Double salary, LocalDate joiningDate, String departmentName,
+                               Integer performanceScore) {
+        this.id = id;
+        this.name = name;
+        this.role = role;
+        this.salary = salary;
+        this.joiningDate = joiningDate;
+        this.departmentName = departmentName;
+        this.performanceScore = performanceScore;
+    }
+}
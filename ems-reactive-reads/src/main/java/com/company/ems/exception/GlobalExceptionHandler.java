@@ -0,0 +1,36 @@
+package com.company.ems.exception;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@ControllerAdvice
+public class GlobalExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    @ExceptionHandler(EmployeeNotFoundException.class)
+    public ResponseEntity<?> handleNotFoundException(RuntimeException ex) {
+        logger.warn("Resource not found: {}", ex.getMessage());
+        return new ResponseEntity<>(body(ex), HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<?> handleBadRequestException(RuntimeException ex) {
+        logger.warn("Bad request: {}", ex.getMessage());
+        return new ResponseEntity<>(body(ex), HttpStatus.BAD_REQUEST);
+    }
+
+    private static Map<String, Object> body(RuntimeException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("message", ex.getMessage());
+        return body;
+    }
+}
@@ -0,0 +1,97 @@
+package com.company.ems.repository;
+
+import com.company.ems.dto.EmployeeResponseDTO;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Read-only views over the monolith's employee tables, selected straight into the response DTO. The schema
+ * is owned by the monolith's Flyway migrations; nothing here writes to it.
+ *
+ * <p>The full listings set a fetch size, so the PostgreSQL driver pulls rows from a portal in batches as the
+ * subscriber asks for them instead of buffering the whole result.
+ */
+@Repository
+public class EmployeeViewRepository {
+
+    static final int STREAM_FETCH_SIZE = 500;
+
+    private static final String VIEW = "select e.id, e.name, e.role, e.salary, e.joining_date, d.name as department_name,"
+            + " e.performance_score"
+            + " from employee e left join department d on d.id = e.department_id";
+
+    public record EmployeeProjectName(Long employeeId, String projectName) {
+    }
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    public Mono<EmployeeResponseDTO> findViewById(Long id) {
+        return databaseClient.sql(VIEW + " where e.id = :id")
+                .bind("id", id)
+                .map(EmployeeViewRepository::toView)
+                .one();
+    }
+
+    // Pages are ordered by id so that consecutive offsets neither repeat nor skip rows.
+    public Flux<EmployeeResponseDTO> findAllViews(long offset, int limit) {
+        return databaseClient.sql(VIEW + " order by e.id limit :limit offset :offset")
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(EmployeeViewRepository::toView)
+                .all();
+    }
+
+    public Flux<EmployeeResponseDTO> findViewsByDepartmentName(String departmentName, long offset, int limit) {
+        return databaseClient.sql(VIEW + " where d.name = :departmentName order by e.id limit :limit offset :offset")
+                .bind("departmentName", departmentName)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(EmployeeViewRepository::toView)
+                .all();
+    }
+
+    // The trailing id keeps the order total for rows with equal sort keys, as in the monolith's listings.
+    public Flux<EmployeeResponseDTO> streamAllOrderByNameAndJoiningDate() {
+        return stream(VIEW + " order by e.name, e.joining_date, e.id");
+    }
+
+    public Flux<EmployeeResponseDTO> streamAllOrderBySalary() {
+        return stream(VIEW + " order by e.salary, e.id");
+    }
+
+    public Flux<EmployeeProjectName> findProjectNamesByEmployeeIdIn(Collection<Long> ids) {
+        return databaseClient.sql("select ep.employee_id, p.name from employee_project ep"
+                        + " join project p on p.id = ep.project_id where ep.employee_id in (:ids)")
+                .bind("ids", ids)
+                .map(row -> new EmployeeProjectName(row.get("employee_id", Long.class), row.get("name", String.class)))
+                .all();
+    }
+
+    private Flux<EmployeeResponseDTO> stream(String sql) {
+        return databaseClient.sql(sql)
+                .filter(statement -> statement.fetchSize(STREAM_FETCH_SIZE))
+                .map(EmployeeViewRepository::toView)
+                .all();
+    }
+
+    private static EmployeeResponseDTO toView(Readable row) {
+        BigDecimal salary = row.get("salary", BigDecimal.class);
+        return new EmployeeResponseDTO(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("role", String.class),
+                salary != null ? salary.doubleValue() : null,
+                row.get("joining_date", LocalDate.class),
+                row.get("department_name", String.class),
+                row.get("performance_score", Integer.class));
+    }
+}
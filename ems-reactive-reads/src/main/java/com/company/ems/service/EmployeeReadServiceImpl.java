@@ -0,0 +1,89 @@
+package com.company.ems.service;
+
+import com.company.ems.dto.EmployeeResponseDTO;
+import com.company.ems.exception.EmployeeNotFoundException;
+import com.company.ems.exception.InvalidPageRequestException;
+import com.company.ems.repository.EmployeeViewRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class EmployeeReadServiceImpl implements IEmployeeReadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeReadServiceImpl.class);
+
+    // Views are grouped into chunks of this size for the project name lookup: one statement per chunk,
+    // and a chunk is only filled once the subscriber has asked for that many rows.
+    static final int STREAM_CHUNK_SIZE = 500;
+    static final int MAX_PAGE_SIZE = 1000;
+
+    @Autowired
+    private EmployeeViewRepository employeeViewRepository;
+
+    @Override
+    public Mono<EmployeeResponseDTO> getEmployeeById(Long id) {
+        logger.debug("Fetching employee with id: {}", id);
+        return employeeViewRepository.findViewById(id)
+                .switchIfEmpty(Mono.error(() -> new EmployeeNotFoundException("Employee not found with id: " + id)))
+                .flatMap(employee -> withProjectNames(List.of(employee)).single())
+                .doOnSuccess(employee -> logger.info("Employee fetched successfully with id: {}", id))
+                .doOnError(EmployeeNotFoundException.class, ex -> logger.warn("Employee not found with id: {}", id));
+    }
+
+    @Override
+    public Flux<EmployeeResponseDTO> getEmployees(String departmentName, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            return Flux.error(new InvalidPageRequestException(
+                    "page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE + ", got page " + page + ", size " + size));
+        }
+        logger.debug("Fetching employees - department: {}, page: {}, size: {}", departmentName, page, size);
+        long offset = (long) page * size;
+        Flux<EmployeeResponseDTO> views = departmentName != null && !departmentName.isEmpty()
+                ? employeeViewRepository.findViewsByDepartmentName(departmentName, offset, size)
+                : employeeViewRepository.findAllViews(offset, size);
+        return withProjectNames(views, "employees page " + page);
+    }
+
+    @Override
+    public Flux<EmployeeResponseDTO> getEmployeesSortedByNameAndDate() {
+        logger.debug("Streaming all employees sorted by name and joining date");
+        return withProjectNames(employeeViewRepository.streamAllOrderByNameAndJoiningDate(), "sorted employees");
+    }
+
+    @Override
+    public Flux<EmployeeResponseDTO> getEmployeesSortedBySalary() {
+        logger.debug("Streaming all employees sorted by salary");
+        return withProjectNames(employeeViewRepository.streamAllOrderBySalary(), "employees sorted by salary");
+    }
+
+    // buffer() asks upstream for one chunk at a time and concatMap keeps the order, so rows are read no
+    // faster than the client consumes them and at most one chunk per request is held in memory.
+    private Flux<EmployeeResponseDTO> withProjectNames(Flux<EmployeeResponseDTO> views, String what) {
+        AtomicLong total = new AtomicLong();
+        return views.buffer(STREAM_CHUNK_SIZE)
+                .concatMap(this::withProjectNames)
+                .doOnNext(employee -> total.incrementAndGet())
+                .doOnComplete(() -> logger.info("Streamed {} successfully - total: {}", what, total.get()))
+                .doOnError(ex -> logger.error("Error streaming {}: {}", what, ex.getMessage(), ex));
+    }
+
+    private Flux<EmployeeResponseDTO> withProjectNames(List<EmployeeResponseDTO> chunk) {
+        Map<Long, Set<String>> projectNames = new HashMap<>();
+        chunk.forEach(employee -> projectNames.put(employee.getId(), new HashSet<>()));
+        return employeeViewRepository.findProjectNamesByEmployeeIdIn(projectNames.keySet())
+                .doOnNext(row -> projectNames.get(row.employeeId()).add(row.projectName()))
+                .thenMany(Flux.fromIterable(chunk))
+                .doOnNext(employee -> employee.setProjectNames(projectNames.get(employee.getId())));
+    }
+}
@@ -0,0 +1,15 @@
+package com.company.ems.service;
+
+import com.company.ems.dto.EmployeeResponseDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface IEmployeeReadService {
+    Mono<EmployeeResponseDTO> getEmployeeById(Long id);
+
+    Flux<EmployeeResponseDTO> getEmployees(String departmentName, int page, int size);
+
+    Flux<EmployeeResponseDTO> getEmployeesSortedByNameAndDate();
+
+    Flux<EmployeeResponseDTO> getEmployeesSortedBySalary();
+}
@@ -0,0 +1,114 @@
+package com.company.ems.controller;
+
+import com.company.ems.dto.EmployeeResponseDTO;
+import com.company.ems.exception.EmployeeNotFoundException;
+import com.company.ems.exception.InvalidPageRequestException;
+import com.company.ems.service.IEmployeeReadService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(EmployeeReadController.class)
+public class EmployeeReadControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private IEmployeeReadService employeeReadService;
+
+    private static EmployeeResponseDTO employee(Long id, String name) {
+        EmployeeResponseDTO dto = new EmployeeResponseDTO(id, name, "Developer", 50000.0, LocalDate.of(2020, 1, 1), "IT", 75);
+        dto.setProjectNames(Set.of("Apollo"));
+        return dto;
+    }
+
+    @Test
+    public void testGetEmployeeById() {
+        when(employeeReadService.getEmployeeById(1L)).thenReturn(Mono.just(employee(1L, "John Doe")));
+
+        webTestClient.get().uri("/employees/1").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("John Doe")
+                .jsonPath("$.joiningDate").isEqualTo("2020-01-01")
+                .jsonPath("$.projectNames[0]").isEqualTo("Apollo");
+    }
+
+    @Test
+    public void testGetEmployeeById_NotFound() {
+        when(employeeReadService.getEmployeeById(99L))
+                .thenReturn(Mono.error(new EmployeeNotFoundException("Employee not found with id: 99")));
+
+        webTestClient.get().uri("/employees/99").exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Employee not found with id: 99");
+    }
+
+    @Test
+    public void testGetEmployees_PassesDepartmentAndPage() {
+        when(employeeReadService.getEmployees("IT", 2, 5)).thenReturn(Flux.just(employee(1L, "John"), employee(2L, "Jane")));
+
+        webTestClient.get().uri("/employees/stream?department=IT&page=2&size=5").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[1].name").isEqualTo("Jane");
+    }
+
+    @Test
+    public void testGetEmployees_InvalidPage() {
+        when(employeeReadService.getEmployees(null, -1, 10))
+                .thenReturn(Flux.error(new InvalidPageRequestException("page must be >= 0")));
+
+        webTestClient.get().uri("/employees/stream?page=-1").exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    // The monolith's GET /employees answers with a Page envelope, which this module does not produce
+    @Test
+    public void testGetEmployees_NotServedAtMonolithListPath() {
+        webTestClient.get().uri("/employees?page=0&size=5").exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testGetSortedEmployees_AsJsonArray() {
+        when(employeeReadService.getEmployeesSortedByNameAndDate()).thenReturn(Flux.just(employee(1L, "Alice"), employee(2L, "Bob")));
+
+        webTestClient.get().uri("/employees/sorted").accept(MediaType.APPLICATION_JSON).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$[0].name").isEqualTo("Alice")
+                .jsonPath("$[1].name").isEqualTo("Bob");
+    }
+
+    @Test
+    public void testGetEmployeesSortedBySalary_AsNdjson() {
+        when(employeeReadService.getEmployeesSortedBySalary()).thenReturn(Flux.just(employee(1L, "Alice"), employee(2L, "Bob")));
+
+        String body = webTestClient.get().uri("/employees/sorted-by-salary").accept(MediaType.APPLICATION_NDJSON).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        String[] lines = body.trim().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].contains("\"name\":\"Bob\""));
+    }
+}
@@ -0,0 +1,148 @@
+package com.company.ems.service;
+
+import com.company.ems.dto.EmployeeResponseDTO;
+import com.company.ems.exception.EmployeeNotFoundException;
+import com.company.ems.exception.InvalidPageRequestException;
+import com.company.ems.repository.EmployeeViewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs on R2DBC H2 against the schema built by the monolith's own Flyway scripts, so a migration that
+// renames a column this module reads fails here.
+@DataR2dbcTest(properties = {
+        "spring.r2dbc.url=r2dbc:h2:mem:///ems;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password=",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations="
+                + "file:../ems-monolith/src/main/resources/db/migration/V1__baseline_schema.sql,"
+                + "file:../ems-monolith/src/main/resources/db/migration/V2__index_employee_query_patterns.sql,"
+                + "file:../ems-monolith/src/main/resources/db/migration/V3__department_report_snapshot.sql,"
+                + "file:../ems-monolith/src/main/resources/db/migration/V4__department_salary_summary.sql,"
+                + "file:../ems-monolith/src/main/resources/db/migration/V5__employee_performance_score.sql"})
+@Import({EmployeeViewRepository.class, EmployeeReadServiceImpl.class})
+public class EmployeeReadServiceImplTest {
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private IEmployeeReadService employeeReadService;
+
+    @BeforeEach
+    void setUp() {
+        execute("delete from employee_project");
+        execute("delete from employee");
+        execute("delete from project");
+        execute("delete from department");
+
+        execute("insert into department(id, name) values (1, 'IT'), (2, 'HR')");
+        execute("insert into project(id, name, duration) values (1, 'Apollo', 6), (2, 'Gemini', 12)");
+        execute("insert into employee(id, name, role, salary, joining_date, department_id, performance_score) values"
+                + " (10, 'Carol', 'Developer', 70000, DATE '2021-03-01', 1, 80),"
+                + " (11, 'Alice', 'Manager', 90000, DATE '2020-05-01', 2, null),"
+                + " (12, 'Alice', 'Developer', 60000, DATE '2019-01-15', null, 65),"
+                + " (13, 'Bob', 'Developer', 75000, DATE '2022-07-01', 1, 70)");
+        execute("insert into employee_project(employee_id, project_id) values (10, 1), (10, 2), (13, 2)");
+    }
+
+    @Test
+    public void testGetEmployeeById_FillsDepartmentAndProjects() {
+        StepVerifier.create(employeeReadService.getEmployeeById(10L))
+                .assertNext(employee -> {
+                    assertEquals("Carol", employee.getName());
+                    assertEquals(70000.0, employee.getSalary());
+                    assertEquals(LocalDate.of(2021, 3, 1), employee.getJoiningDate());
+                    assertEquals("IT", employee.getDepartmentName());
+                    assertEquals(80, employee.getPerformanceScore());
+                    assertEquals(Set.of("Apollo", "Gemini"), employee.getProjectNames());
+                })
+                .verifyComplete();
+
+        StepVerifier.create(employeeReadService.getEmployeeById(11L))
+                .assertNext(employee -> {
+                    assertNull(employee.getPerformanceScore());
+                    assertEquals(Set.of(), employee.getProjectNames());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testGetEmployeeById_NotFound() {
+        StepVerifier.create(employeeReadService.getEmployeeById(99L))
+                .expectError(EmployeeNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    public void testGetEmployees_PagesByIdAndFiltersByDepartment() {
+        StepVerifier.create(employeeReadService.getEmployees(null, 1, 3).map(EmployeeResponseDTO::getId))
+                .expectNext(13L)
+                .verifyComplete();
+
+        StepVerifier.create(employeeReadService.getEmployees("IT", 0, 10).map(EmployeeResponseDTO::getId))
+                .expectNext(10L, 13L)
+                .verifyComplete();
+    }
+
+    @Test
+    public void testGetEmployees_RejectsInvalidPage() {
+        StepVerifier.create(employeeReadService.getEmployees(null, -1, 10))
+                .expectError(InvalidPageRequestException.class)
+                .verify();
+        StepVerifier.create(employeeReadService.getEmployees(null, 0, EmployeeReadServiceImpl.MAX_PAGE_SIZE + 1))
+                .expectError(InvalidPageRequestException.class)
+                .verify();
+    }
+
+    @Test
+    public void testSortedListings_KeepOrderWithIdTieBreak() {
+        StepVerifier.create(employeeReadService.getEmployeesSortedByNameAndDate().map(EmployeeResponseDTO::getId))
+                .expectNext(12L, 11L, 13L, 10L)
+                .verifyComplete();
+
+        StepVerifier.create(employeeReadService.getEmployeesSortedBySalary().map(EmployeeResponseDTO::getId))
+                .expectNext(12L, 10L, 13L, 11L)
+                .verifyComplete();
+    }
+
+    @Test
+    public void testSortedListing_SpansChunksAndHonoursDemand() {
+        execute("insert into employee(id, name, role, salary, joining_date) select 1000 + x, 'Bulk', 'Developer', 1000 + x,"
+                + " DATE '2023-01-01' from system_range(1, " + (2 * EmployeeReadServiceImpl.STREAM_CHUNK_SIZE) + ")");
+        execute("insert into employee_project(employee_id, project_id) values (" + (1000 + 2 * EmployeeReadServiceImpl.STREAM_CHUNK_SIZE) + ", 1)");
+
+        // Nothing is emitted before the subscriber asks, and a request for a few rows gets exactly those
+        StepVerifier.create(employeeReadService.getEmployeesSortedBySalary(), 0)
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenRequest(3)
+                .expectNextCount(3)
+                .thenCancel()
+                .verify();
+
+        List<EmployeeResponseDTO> all = employeeReadService.getEmployeesSortedBySalary().collectList().block();
+        assertEquals(4 + 2 * EmployeeReadServiceImpl.STREAM_CHUNK_SIZE, all.size());
+        for (int i = 1; i < all.size(); i++) {
+            assertTrue(all.get(i - 1).getSalary() <= all.get(i).getSalary());
+        }
+        assertEquals(Set.of("Apollo"), all.get(all.size() - 5).getProjectNames());
+        all.forEach(employee -> assertNotNull(employee.getProjectNames()));
+    }
+
+    private void execute(String sql) {
+        databaseClient.sql(sql).then().block();
+    }
+}
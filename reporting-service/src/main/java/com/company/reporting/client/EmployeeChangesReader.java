@@ -0,0 +1,111 @@
+package com.company.reporting.client;
+
+import com.company.reporting.dto.EmployeeChangesPage;
+import com.company.reporting.dto.EmployeeRecord;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import feign.FeignException;
+import feign.Response;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Decodes a GET /employees/changes response with Jackson's streaming parser: each employee is bound to an
+ * {@link EmployeeRecord} and handed to the consumer as soon as it is read, so the page is never held in
+ * memory as a whole. Smile (binary JSON) and gzipped bodies are read the same way.
+ */
+@Component
+public class EmployeeChangesReader {
+
+    public static final String SMILE = "application/x-jackson-smile";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ObjectMapper smileMapper;
+
+    @PostConstruct
+    void createSmileMapper() {
+        smileMapper = objectMapper.copyWith(new SmileFactory());
+    }
+
+    public EmployeeChangesPage read(Response response, Consumer<EmployeeRecord> employees) throws IOException {
+        try (response) {
+            if (response.status() != 200) {
+                throw FeignException.errorStatus("EmployeeClient#getEmployeeChanges", response);
+            }
+            ObjectMapper mapper = header(response, "Content-Type").startsWith(SMILE) ? smileMapper : objectMapper;
+            try (InputStream body = decoded(response);
+                 JsonParser parser = mapper.getFactory().createParser(body)) {
+                return read(parser, mapper, employees);
+            }
+        }
+    }
+
+    private EmployeeChangesPage read(JsonParser parser, ObjectMapper mapper, Consumer<EmployeeRecord> employees) throws IOException {
+        EmployeeChangesPage page = new EmployeeChangesPage();
+        expect(parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "until" -> page.setUntil(parser.getValueAsString());
+                case "snapshot" -> page.setSnapshot(parser.getValueAsBoolean());
+                case "hasMore" -> page.setHasMore(parser.getValueAsBoolean());
+                case "deletedIds" -> {
+                    expect(value, JsonToken.START_ARRAY);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        page.getDeletedIds().add(parser.getLongValue());
+                    }
+                }
+                case "updated" -> {
+                    expect(value, JsonToken.START_ARRAY);
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        EmployeeRecord employee = mapper.readValue(parser, EmployeeRecord.class);
+                        page.setLastId(employee.getId());
+                        page.setUpdatedCount(page.getUpdatedCount() + 1);
+                        employees.accept(employee);
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return page;
+    }
+
+    // Some Feign clients inflate gzip themselves and keep the Content-Encoding header, others pass the bytes
+    // through, so the body is checked for the gzip magic number; Smile and JSON bodies never start with it
+    private static InputStream decoded(Response response) throws IOException {
+        BufferedInputStream body = new BufferedInputStream(response.body().asInputStream());
+        body.mark(2);
+        boolean gzipped = body.read() == 0x1f && body.read() == 0x8b;
+        body.reset();
+        return gzipped ? new GZIPInputStream(body) : body;
+    }
+
+    private static String header(Response response, String name) {
+        for (Map.Entry<String, Collection<String>> header : response.headers().entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name) && !header.getValue().isEmpty()) {
+                return header.getValue().iterator().next();
+            }
+        }
+        return "";
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Unexpected employee changes payload: expected " + expected + " but got " + actual);
+        }
+    }
+}
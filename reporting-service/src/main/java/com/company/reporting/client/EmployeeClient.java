@@ -1,12 +1,19 @@
 package com.company.reporting.client;
 
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
-import java.util.List;
-import java.util.Map;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @FeignClient(name = "employee-service")
 public interface EmployeeClient {
-    @GetMapping("/employees/sorted")
-    List<Map<String, Object>> getSortedEmployees();
+
+    // Returns the raw response so EmployeeChangesReader can decode the body as it streams in; asks for gzipped
+    // Smile, and the reader copes with whatever format and encoding actually come back.
+    // Leave since null for a full snapshot; pass until and afterId back unchanged to read the next page.
+    @GetMapping(value = "/employees/changes", produces = EmployeeChangesReader.SMILE, headers = "Accept-Encoding=gzip")
+    Response getEmployeeChanges(@RequestParam(value = "since", required = false) String since,
+                                @RequestParam(value = "until", required = false) String until,
+                                @RequestParam(value = "afterId", required = false) Long afterId,
+                                @RequestParam("size") int size);
 }
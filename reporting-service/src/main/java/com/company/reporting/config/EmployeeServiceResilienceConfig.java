@@ -0,0 +1,71 @@
+package com.company.reporting.config;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4jBulkheadProvider;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker, time limit and bulkhead for the {@value #EMPLOYEE_SERVICE} circuit. A sync that runs past
+ * the time limit is abandoned, failures open the circuit so later runs skip the call entirely, and at most
+ * one sync talks to employee-service at a time.
+ */
+@Configuration
+public class EmployeeServiceResilienceConfig {
+
+    public static final String EMPLOYEE_SERVICE = "employee-service";
+
+    @Value("${reporting.employee-service.sync-timeout:15s}")
+    private Duration syncTimeout;
+
+    @Value("${reporting.employee-service.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${reporting.employee-service.sliding-window-size:5}")
+    private int slidingWindowSize;
+
+    @Value("${reporting.employee-service.minimum-number-of-calls:3}")
+    private int minimumNumberOfCalls;
+
+    @Value("${reporting.employee-service.wait-duration-in-open-state:5m}")
+    private Duration waitDurationInOpenState;
+
+    @Bean
+    public Customizer<Resilience4JCircuitBreakerFactory> employeeServiceCircuitBreaker() {
+        return factory -> factory.configure(builder -> builder
+                .timeLimiterConfig(TimeLimiterConfig.custom()
+                        .timeoutDuration(syncTimeout)
+                        .cancelRunningFuture(true)
+                        .build())
+                .circuitBreakerConfig(CircuitBreakerConfig.custom()
+                        .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                        .slidingWindowSize(slidingWindowSize)
+                        .minimumNumberOfCalls(minimumNumberOfCalls)
+                        .failureRateThreshold(failureRateThreshold)
+                        .waitDurationInOpenState(waitDurationInOpenState)
+                        .permittedNumberOfCallsInHalfOpenState(1)
+                        .build()), EMPLOYEE_SERVICE);
+    }
+
+    @Bean
+    public Customizer<Resilience4jBulkheadProvider> employeeServiceBulkhead() {
+        return provider -> provider.configure(builder -> builder
+                .bulkheadConfig(BulkheadConfig.custom()
+                        .maxConcurrentCalls(1)
+                        .maxWaitDuration(Duration.ZERO)
+                        .build())
+                .threadPoolBulkheadConfig(ThreadPoolBulkheadConfig.custom()
+                        .coreThreadPoolSize(1)
+                        .maxThreadPoolSize(1)
+                        .queueCapacity(1)
+                        .build()), EMPLOYEE_SERVICE);
+    }
+}
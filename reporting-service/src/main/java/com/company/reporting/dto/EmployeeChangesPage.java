@@ -0,0 +1,18 @@
+package com.company.reporting.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Everything of a GET /employees/changes page except the employees, which are handed out one by one. */
+@Getter
+@Setter
+public class EmployeeChangesPage {
+    private String until;
+    private boolean snapshot;
+    private boolean hasMore;
+    private Long lastId;
+    private int updatedCount;
+    private List<Long> deletedIds = new ArrayList<>();
+}
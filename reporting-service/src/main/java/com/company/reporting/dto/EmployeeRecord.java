@@ -0,0 +1,18 @@
+package com.company.reporting.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import java.time.LocalDate;
+
+/** The fields of an employee-service employee that reports use; anything else in the payload is skipped. */
+@Getter
+@Setter
+public class EmployeeRecord {
+    private long id;
+    private String name;
+    private String role;
+    private double salary;
+    private LocalDate joiningDate;
+    private String departmentName;
+    private long version;
+}
@@ -0,0 +1,187 @@
+package com.company.reporting.service;
+
+import com.company.reporting.client.EmployeeChangesReader;
+import com.company.reporting.client.EmployeeClient;
+import com.company.reporting.config.EmployeeServiceResilienceConfig;
+import com.company.reporting.dto.EmployeeChangesPage;
+import com.company.reporting.dto.EmployeeRecord;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Local copy of the employee roster keyed by id, kept current from GET /employees/changes. Changes are
+ * fetched behind the {@value EmployeeServiceResilienceConfig#EMPLOYEE_SERVICE} circuit breaker into a
+ * separate batch and only applied once the whole window is in; when the fetch fails or is cut off the
+ * replica stays as it was. The last good copy is persisted through {@link ReplicaSnapshotStore} when it has
+ * changed, at most once per {@code reporting.replica.snapshot-interval} and once more on shutdown.
+ */
+@Slf4j
+@Component
+public class EmployeeReplica {
+
+    private static final int CHANGES_PAGE_SIZE = 500;
+
+    @Autowired
+    private EmployeeClient employeeClient;
+
+    @Autowired
+    private EmployeeChangesReader employeeChangesReader;
+
+    @Autowired
+    private CircuitBreakerFactory<?, ?> circuitBreakerFactory;
+
+    @Autowired
+    private ReplicaSnapshotStore snapshotStore;
+
+    @Value("${reporting.replica.snapshot-interval:5m}")
+    private Duration snapshotInterval;
+
+    private Map<Long, EmployeeRecord> employees = new HashMap<>();
+
+    // "until" of the last applied change window; null until the first snapshot is in
+    private String watermark;
+
+    // Set while the replica has changes the snapshot file does not have yet
+    private boolean unsaved;
+
+    private Instant lastSaved;
+
+    @PostConstruct
+    void restore() {
+        snapshotStore.load().ifPresent(snapshot -> {
+            Map<Long, EmployeeRecord> restored = new HashMap<>();
+            snapshot.getEmployees().forEach(employee -> restored.put(employee.getId(), employee));
+            employees = restored;
+            watermark = snapshot.getWatermark();
+            log.info("Restored {} employees as of {} from the replica snapshot", restored.size(), watermark);
+        });
+    }
+
+    /** Applies the changes since the last sync; returns how many were applied, or -1 when employee-service could not be read. */
+    public synchronized int sync() {
+        String since = watermark;
+        Changes changes = circuitBreakerFactory.create(EmployeeServiceResilienceConfig.EMPLOYEE_SERVICE)
+                .run(() -> fetch(since), failure -> {
+                    log.warn("Employee changes since {} not fetched ({}); keeping the replica as of {}",
+                            since, failure.toString(), watermark);
+                    return null;
+                });
+        if (changes == null) {
+            return -1;
+        }
+
+        boolean changed = false;
+        if (changes.snapshot) {
+            changed = !sameVersions(employees, changes.updated);
+            employees = new HashMap<>(changes.updated);
+        } else {
+            for (EmployeeRecord employee : changes.updated.values()) {
+                changed |= merge(employee);
+            }
+            for (Long id : changes.deletedIds) {
+                changed |= employees.remove(id) != null;
+            }
+        }
+        watermark = changes.until;
+        unsaved |= changed;
+        if (unsaved && (lastSaved == null || !Instant.now().isBefore(lastSaved.plus(snapshotInterval)))) {
+            save();
+        }
+        return changes.updated.size() + changes.deletedIds.size();
+    }
+
+    @PreDestroy
+    synchronized void flush() {
+        if (unsaved) {
+            save();
+        }
+    }
+
+    public synchronized void forEach(Consumer<EmployeeRecord> action) {
+        employees.values().forEach(action);
+    }
+
+    public synchronized String getWatermark() {
+        return watermark;
+    }
+
+    // Runs on the circuit breaker's thread and may be abandoned by the time limit, so it only fills its own batch
+    private Changes fetch(String since) {
+        Changes changes = new Changes();
+        String until = null;
+        Long afterId = null;
+        EmployeeChangesPage page;
+        try {
+            do {
+                page = employeeChangesReader.read(
+                        employeeClient.getEmployeeChanges(since, until, afterId, CHANGES_PAGE_SIZE),
+                        employee -> changes.updated.merge(employee.getId(), employee, EmployeeReplica::newer));
+                // employee-service also answers a since older than its tombstone retention with a snapshot
+                if (afterId == null) {
+                    changes.snapshot = page.isSnapshot();
+                }
+                changes.deletedIds.addAll(page.getDeletedIds());
+                until = page.getUntil();
+                afterId = page.getLastId();
+            } while (page.isHasMore() && afterId != null && !Thread.currentThread().isInterrupted());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        changes.until = until;
+        return changes;
+    }
+
+    private void save() {
+        snapshotStore.save(watermark, employees.values());
+        unsaved = false;
+        lastSaved = Instant.now();
+    }
+
+    // Whether the incoming copy is new or newer than the one held
+    private boolean merge(EmployeeRecord employee) {
+        EmployeeRecord current = employees.get(employee.getId());
+        employees.merge(employee.getId(), employee, EmployeeReplica::newer);
+        return current == null || employee.getVersion() > current.getVersion();
+    }
+
+    private static boolean sameVersions(Map<Long, EmployeeRecord> current, Map<Long, EmployeeRecord> incoming) {
+        if (current.size() != incoming.size()) {
+            return false;
+        }
+        for (EmployeeRecord employee : incoming.values()) {
+            EmployeeRecord held = current.get(employee.getId());
+            if (held == null || held.getVersion() != employee.getVersion()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Keep whichever copy carries the higher version
+    private static EmployeeRecord newer(EmployeeRecord current, EmployeeRecord incoming) {
+        return incoming.getVersion() >= current.getVersion() ? incoming : current;
+    }
+
+    private static final class Changes {
+        private final Map<Long, EmployeeRecord> updated = new LinkedHashMap<>();
+        private final List<Long> deletedIds = new ArrayList<>();
+        private boolean snapshot;
+        private String until;
+    }
+}
@@ -0,0 +1,66 @@
+package com.company.reporting.service;
+
+import com.company.reporting.dto.EmployeeRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/** Keeps the last good employee replica on local disk, written to a temp file and moved into place. */
+@Slf4j
+@Component
+public class ReplicaSnapshotStore {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${reporting.replica.snapshot-file:data/employee-replica.json}")
+    private Path snapshotFile;
+
+    public Optional<Snapshot> load() {
+        if (!Files.isRegularFile(snapshotFile)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(snapshotFile.toFile(), Snapshot.class));
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable replica snapshot {}: {}", snapshotFile, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void save(String watermark, Collection<EmployeeRecord> employees) {
+        Snapshot snapshot = new Snapshot();
+        snapshot.setWatermark(watermark);
+        snapshot.setEmployees(new ArrayList<>(employees));
+        try {
+            Path directory = snapshotFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "employee-replica", ".tmp");
+            objectMapper.writeValue(temp.toFile(), snapshot);
+            Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The in-memory replica is still good; only a restart during an outage would miss this copy
+            log.warn("Could not write replica snapshot {}: {}", snapshotFile, e.getMessage());
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Snapshot {
+        private String watermark;
+        private List<EmployeeRecord> employees = new ArrayList<>();
+    }
+}
@@ -0,0 +1,57 @@
+package com.company.reporting.service;
+
+import com.company.reporting.dto.EmployeeRecord;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/** Running headcount and salary figures, fed one employee at a time; memory grows with departments only. */
+public class ReportAggregator {
+
+    private long headcount;
+    private double totalSalary;
+    private final Map<String, DepartmentTotals> departments = new TreeMap<>();
+
+    public void add(EmployeeRecord employee) {
+        headcount++;
+        totalSalary += employee.getSalary();
+        String department = employee.getDepartmentName() != null ? employee.getDepartmentName() : "Unassigned";
+        departments.computeIfAbsent(department, d -> new DepartmentTotals()).add(employee.getSalary());
+    }
+
+    public long getHeadcount() {
+        return headcount;
+    }
+
+    public double getTotalSalary() {
+        return totalSalary;
+    }
+
+    public Map<String, DepartmentTotals> getDepartments() {
+        return departments;
+    }
+
+    public static class DepartmentTotals {
+        private long headcount;
+        private double totalSalary;
+        private double maxSalary;
+
+        void add(double salary) {
+            headcount++;
+            totalSalary += salary;
+            maxSalary = Math.max(maxSalary, salary);
+        }
+
+        public long getHeadcount() {
+            return headcount;
+        }
+
+        public double getAverageSalary() {
+            return headcount == 0 ? 0 : totalSalary / headcount;
+        }
+
+        public double getMaxSalary() {
+            return maxSalary;
+        }
+    }
+}
@@ -1,29 +1,36 @@
 package com.company.reporting.service;
 
-import com.company.reporting.client.EmployeeClient;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Map;
 
+@Slf4j
 @Service
 public class ReportService {
 
     @Autowired
-    private EmployeeClient employeeClient;
+    private EmployeeReplica employeeReplica;
 
     @Scheduled(fixedRate = 60000)
     public void generateMonthlyReport() {
-        System.out.println("--- [Reporting Service] Generating Monthly Report at " + LocalDateTime.now() + " ---");
-        try {
-            List<Map<String, Object>> employees = employeeClient.getSortedEmployees();
-            System.out.println("Fetched " + employees.size() + " employees from Employee Service.");
-            // Logic to process data and generate report
-            System.out.println("Monthly report generated successfully in Reporting Service.");
-        } catch (Exception e) {
-            System.err.println("Failed to generate report: Could not connect to Employee Service. " + e.getMessage());
+        log.info("--- [Reporting Service] Generating Monthly Report ---");
+        int applied = employeeReplica.sync();
+        if (applied >= 0) {
+            log.info("Applied {} changes from Employee Service.", applied);
+        } else if (employeeReplica.getWatermark() == null) {
+            log.error("Failed to generate report: no employee data from Employee Service yet and no saved replica.");
+            return;
+        } else {
+            log.warn("Employee Service unavailable; reporting from the replica as of {}.", employeeReplica.getWatermark());
         }
+
+        ReportAggregator report = new ReportAggregator();
+        employeeReplica.forEach(report::add);
+        report.getDepartments().forEach((department, totals) -> log.info(
+                "{}: {} employees, average salary {}, highest salary {}", department, totals.getHeadcount(),
+                String.format("%.2f", totals.getAverageSalary()), String.format("%.2f", totals.getMaxSalary())));
+        log.info("Total: {} employees, payroll {}", report.getHeadcount(), String.format("%.2f", report.getTotalSalary()));
+        log.info("Monthly report generated successfully in Reporting Service.");
     }
 }
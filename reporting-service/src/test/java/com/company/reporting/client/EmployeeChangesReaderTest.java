@@ -0,0 +1,160 @@
+package com.company.reporting.client;
+
+import com.company.reporting.dto.EmployeeChangesPage;
+import com.company.reporting.dto.EmployeeRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeChangesReaderTest {
+
+    // Built like Spring Boot's ObjectMapper: java.time support, unknown properties ignored
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private final EmployeeChangesReader reader = new EmployeeChangesReader();
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(reader, "objectMapper", objectMapper);
+        reader.createSmileMapper();
+    }
+
+    private static Map<String, Object> employee(long id, String department, double salary) {
+        Map<String, Object> employee = new LinkedHashMap<>();
+        employee.put("id", id);
+        employee.put("name", "Employee " + id);
+        employee.put("role", "Developer");
+        employee.put("salary", salary);
+        employee.put("joiningDate", "2023-01-15");
+        employee.put("departmentName", department);
+        employee.put("projectNames", List.of("Cloud Migration"));
+        employee.put("updatedAt", "2024-05-01T10:02:13");
+        employee.put("version", 3);
+        return employee;
+    }
+
+    private static Map<String, Object> page() {
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("since", "2024-05-01T10:00:00");
+        page.put("until", "2024-05-01T10:05:00");
+        page.put("snapshot", false);
+        page.put("hasMore", true);
+        page.put("deletedIds", List.of(7, 9));
+        page.put("updated", List.of(employee(1, "Engineering", 95000), employee(4, null, 60000)));
+        return page;
+    }
+
+    private static Response response(int status, String contentType, byte[] body) {
+        Map<String, Collection<String>> headers = new HashMap<>();
+        headers.put("Content-Type", List.of(contentType));
+        return Response.builder()
+                .status(status)
+                .headers(headers)
+                .body(body)
+                .request(Request.create(Request.HttpMethod.GET, "/employees/changes", Map.of(), null,
+                        StandardCharsets.UTF_8, null))
+                .build();
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gzipped)) {
+            out.write(bytes);
+        }
+        return gzipped.toByteArray();
+    }
+
+    private void assertPage(Response response) throws IOException {
+        List<EmployeeRecord> employees = new ArrayList<>();
+
+        EmployeeChangesPage page = reader.read(response, employees::add);
+
+        assertEquals("2024-05-01T10:05:00", page.getUntil());
+        assertFalse(page.isSnapshot());
+        assertTrue(page.isHasMore());
+        assertEquals(List.of(7L, 9L), page.getDeletedIds());
+        assertEquals(2, page.getUpdatedCount());
+        assertEquals(4L, page.getLastId());
+
+        assertEquals(2, employees.size());
+        EmployeeRecord first = employees.get(0);
+        assertEquals(1, first.getId());
+        assertEquals("Engineering", first.getDepartmentName());
+        assertEquals(95000, first.getSalary());
+        assertEquals(LocalDate.of(2023, 1, 15), first.getJoiningDate());
+        assertEquals(3, first.getVersion());
+        assertNull(employees.get(1).getDepartmentName());
+    }
+
+    @Test
+    public void testRead_Json() throws IOException {
+        assertPage(response(200, "application/json", objectMapper.writeValueAsBytes(page())));
+    }
+
+    @Test
+    public void testRead_Smile() throws IOException {
+        byte[] smile = objectMapper.copyWith(new SmileFactory()).writeValueAsBytes(page());
+
+        assertPage(response(200, EmployeeChangesReader.SMILE, smile));
+    }
+
+    @Test
+    public void testRead_GzippedJsonAndSmile() throws IOException {
+        byte[] smile = objectMapper.copyWith(new SmileFactory()).writeValueAsBytes(page());
+
+        assertPage(response(200, "application/json", gzip(objectMapper.writeValueAsBytes(page()))));
+        assertPage(response(200, EmployeeChangesReader.SMILE, gzip(smile)));
+    }
+
+    @Test
+    public void testRead_SnapshotPageWithoutEmployees() throws IOException {
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("until", "2024-05-01T10:05:00");
+        page.put("snapshot", true);
+        page.put("hasMore", false);
+        page.put("deletedIds", List.of());
+        page.put("updated", List.of());
+
+        EmployeeChangesPage read = reader.read(response(200, "application/json", objectMapper.writeValueAsBytes(page)),
+                employee -> fail("no employees expected"));
+
+        assertTrue(read.isSnapshot());
+        assertFalse(read.isHasMore());
+        assertNull(read.getLastId());
+        assertEquals(0, read.getUpdatedCount());
+    }
+
+    @Test
+    public void testRead_ErrorStatusThrows() {
+        Response response = response(503, "application/json", "{}".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(FeignException.ServiceUnavailable.class, () -> reader.read(response, employee -> { }));
+    }
+
+    @Test
+    public void testRead_MalformedPayloadThrows() {
+        Response response = response(200, "application/json", "[1, 2]".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IOException.class, () -> reader.read(response, employee -> { }));
+    }
+}
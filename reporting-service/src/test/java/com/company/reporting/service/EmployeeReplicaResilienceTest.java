@@ -0,0 +1,109 @@
+package com.company.reporting.service;
+
+import com.company.reporting.client.EmployeeClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Runs sync() through the real circuit breaker, time limit and bulkhead of EmployeeServiceResilienceConfig
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "reporting.employee-service.sync-timeout=500ms",
+        "reporting.employee-service.sliding-window-size=2",
+        "reporting.employee-service.minimum-number-of-calls=2",
+        "reporting.employee-service.wait-duration-in-open-state=1h"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class EmployeeReplicaResilienceTest {
+
+    @Autowired
+    private EmployeeReplica employeeReplica;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private EmployeeClient employeeClient;
+
+    @MockBean
+    private ReplicaSnapshotStore snapshotStore;
+
+    // Keeps the scheduled report from syncing alongside the test
+    @MockBean
+    private ReportService reportService;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("until", "T1");
+        page.put("snapshot", true);
+        page.put("hasMore", false);
+        page.put("deletedIds", List.of());
+        page.put("updated", List.of(Map.of("id", 1, "salary", 1000.0, "version", 0),
+                Map.of("id", 2, "salary", 2000.0, "version", 0)));
+        when(employeeClient.getEmployeeChanges(isNull(), isNull(), isNull(), eq(500))).thenReturn(Response.builder()
+                .status(200)
+                .headers(Map.of("Content-Type", List.of("application/json")))
+                .body(objectMapper.writeValueAsBytes(page))
+                .request(Request.create(Request.HttpMethod.GET, "/employees/changes", Map.of(), null,
+                        StandardCharsets.UTF_8, null))
+                .build());
+
+        assertEquals(2, employeeReplica.sync());
+    }
+
+    private void assertReplicaKept() {
+        List<Long> ids = new ArrayList<>();
+        employeeReplica.forEach(employee -> ids.add(employee.getId()));
+        ids.sort(Long::compare);
+        assertEquals(List.of(1L, 2L), ids);
+        assertEquals("T1", employeeReplica.getWatermark());
+    }
+
+    @Test
+    public void testSync_TimeoutKeepsReplica() {
+        when(employeeClient.getEmployeeChanges(eq("T1"), isNull(), isNull(), eq(500))).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            throw new IllegalStateException("should have been cut off by the time limit");
+        });
+
+        long started = System.nanoTime();
+        assertEquals(-1, employeeReplica.sync());
+
+        assertTrue(System.nanoTime() - started < 5_000_000_000L, "sync was not cut off by the time limit");
+        assertReplicaKept();
+    }
+
+    @Test
+    public void testSync_OpenBreakerSkipsCallAndKeepsReplica() {
+        when(employeeClient.getEmployeeChanges(eq("T1"), isNull(), isNull(), eq(500)))
+                .thenThrow(new IllegalStateException("employee-service down"));
+
+        assertEquals(-1, employeeReplica.sync());
+        // One failure in the window of two calls reaches the 50% threshold, so later syncs do not call out
+        assertEquals(-1, employeeReplica.sync());
+        assertEquals(-1, employeeReplica.sync());
+
+        verify(employeeClient, times(1)).getEmployeeChanges(eq("T1"), isNull(), isNull(), eq(500));
+        assertReplicaKept();
+    }
+}
@@ -0,0 +1,252 @@
+package com.company.reporting.service;
+
+import com.company.reporting.client.EmployeeChangesReader;
+import com.company.reporting.client.EmployeeClient;
+import com.company.reporting.dto.EmployeeRecord;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.client.circuitbreaker.CircuitBreaker;
+import org.springframework.cloud.client.circuitbreaker.CircuitBreakerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeReplicaTest {
+
+    private static final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Mock
+    private EmployeeClient employeeClient;
+
+    @Spy
+    private EmployeeChangesReader employeeChangesReader = new EmployeeChangesReader();
+
+    @Mock
+    private CircuitBreakerFactory<?, ?> circuitBreakerFactory;
+
+    @Mock
+    private ReplicaSnapshotStore snapshotStore;
+
+    @InjectMocks
+    private EmployeeReplica employeeReplica;
+
+    // Runs the call in place and hands any failure to the fallback, as a closed circuit would
+    private final CircuitBreaker passThrough = new CircuitBreaker() {
+        @Override
+        public <T> T run(Supplier<T> toRun, Function<Throwable, T> fallback) {
+            try {
+                return toRun.get();
+            } catch (RuntimeException e) {
+                return fallback.apply(e);
+            }
+        }
+    };
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(employeeChangesReader, "objectMapper", objectMapper);
+        ReflectionTestUtils.invokeMethod(employeeChangesReader, "createSmileMapper");
+        when(circuitBreakerFactory.create(anyString())).thenReturn(passThrough);
+        ReflectionTestUtils.setField(employeeReplica, "snapshotInterval", Duration.ZERO);
+    }
+
+    private static Map<String, Object> employee(long id, long version) {
+        Map<String, Object> employee = new LinkedHashMap<>();
+        employee.put("id", id);
+        employee.put("name", "Employee " + id);
+        employee.put("salary", 1000.0 * id);
+        employee.put("version", version);
+        return employee;
+    }
+
+    private static Response page(String until, boolean snapshot, boolean hasMore, List<Long> deletedIds,
+                                 List<Map<String, Object>> updated) throws JsonProcessingException {
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("until", until);
+        page.put("snapshot", snapshot);
+        page.put("hasMore", hasMore);
+        page.put("deletedIds", deletedIds);
+        page.put("updated", updated);
+        return Response.builder()
+                .status(200)
+                .headers(Map.of("Content-Type", List.of("application/json")))
+                .body(objectMapper.writeValueAsBytes(page))
+                .request(Request.create(Request.HttpMethod.GET, "/employees/changes", Map.of(), null,
+                        StandardCharsets.UTF_8, null))
+                .build();
+    }
+
+    private List<EmployeeRecord> replica() {
+        List<EmployeeRecord> employees = new ArrayList<>();
+        employeeReplica.forEach(employees::add);
+        employees.sort(Comparator.comparingLong(EmployeeRecord::getId));
+        return employees;
+    }
+
+    private List<Long> replicaIds() {
+        return replica().stream().map(EmployeeRecord::getId).toList();
+    }
+
+    @Test
+    public void testSync_ReadsEveryPageOfTheSnapshotWindow() throws Exception {
+        when(employeeClient.getEmployeeChanges(isNull(), isNull(), isNull(), eq(500)))
+                .thenReturn(page("T1", true, true, List.of(), List.of(employee(1, 0), employee(2, 0))));
+        when(employeeClient.getEmployeeChanges(isNull(), eq("T1"), eq(2L), eq(500)))
+                .thenReturn(page("T1", true, true, List.of(), List.of(employee(3, 0), employee(4, 0))));
+        when(employeeClient.getEmployeeChanges(isNull(), eq("T1"), eq(4L), eq(500)))
+                .thenReturn(page("T1", true, false, List.of(), List.of(employee(5, 0))));
+
+        assertEquals(5, employeeReplica.sync());
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), replicaIds());
+        assertEquals("T1", employeeReplica.getWatermark());
+        verify(snapshotStore).save(eq("T1"), anyCollection());
+    }
+
+    @Test
+    public void testSync_AppliesDeltaAfterSnapshot() throws Exception {
+        when(employeeClient.getEmployeeChanges(isNull(), isNull(), isNull(), eq(500)))
+                .thenReturn(page("T1", true, false, List.of(), List.of(employee(1, 1), employee(2, 1), employee(3, 1))));
+        employeeReplica.sync();
+
+        // Deletions come with the first page; the later page carries an outdated copy of employee 1
+        when(employeeClient.getEmployeeChanges(eq("T1"), isNull(), isNull(), eq(500)))
+                .thenReturn(page("T2", false, true, List.of(2L), List.of(employee(3, 2), employee(4, 0))));
+        when(employeeClient.getEmployeeChanges(eq("T1"), eq("T2"), eq(4L), eq(500)))
+                .thenReturn(page("T2", false, false, List.of(), List.of(employee(1, 0), employee(6, 0))));
+
+        assertEquals(5, employeeReplica.sync());
+
+        assertEquals(List.of(1L, 3L, 4L, 6L), replicaIds());
+        assertEquals(1, replica().get(0).getVersion());
+        assertEquals(2, replica().get(1).getVersion());
+        assertEquals("T2", employeeReplica.getWatermark());
+    }
+
+    @Test
+    public void testSync_SnapshotAnswerToDeltaReplacesReplica() throws Exception {
+        when(employeeClient.getEmployeeChanges(isNull(), isNull(), isNull(), eq(500)))
+                .thenReturn(page("T1", true, false, List.of(), List.of(employee(1, 0), employee(2, 0))));
+        employeeReplica.sync();
+
+        // employee-service no longer has tombstones as old as T1, so it sends everything
+        when(employeeClient.getEmployeeChanges(eq("T1"), isNull(), isNull(), eq(500)))
+                .thenReturn(page("T2", true, false, List.of(), List.of(employee(2, 0), employee(3, 0))));
+
+        employeeReplica.sync();
+
+        assertEquals(List.of(2L, 3L), replicaIds());
+    }
+
+    @Test
+    public void testSync_EmptyDeltaMovesWatermarkWithoutSaving() throws Exception {
+        when(employeeClient.getEmployeeChanges(isNull(), isNull(), isNull(), eq(500)))
+                .thenReturn(page("T1", true, false, List.of(), List.of(employee(1, 0))));
+        employeeReplica.sync();
+        when(employeeClient.getEmployeeChanges(eq("T1"), isNull(), isNull(), eq(500)))
+                .thenReturn(page("T2", false, false, List.of(), List.of()));
+
+        assertEquals(0, employeeReplica.sync());
+
+        assertEquals("T2", employeeReplica.getWatermark());
+        verify(snapshotStore, never()).save(eq("T2"), any());
+    }
+
+    @Test
+    public void testSync_SavesOnlyWhenReplicaChanged() throws Exception {
+        when(employeeClient.getEmployeeChanges(isNull(), isNull(), isNull(), eq(500)))
+                .thenReturn(page("T1", true, false, List.of(), List.of(employee(1, 1), employee(2, 1))));
+        employeeReplica.sync();
+
+        // An outdated copy and a tombstone for an employee the replica never had change nothing
+        when(employeeClient.getEmployeeChanges(eq("T1"), isNull(), isNull(), eq(500)))
+                .thenReturn(page("T2", false, false, List.of(9L), List.of(employee(1, 0))));
+        assertEquals(2, employeeReplica.sync());
+
+        // Nor does a snapshot of the same versions
+        when(employeeClient.getEmployeeChanges(eq("T2"), isNull(), isNull(), eq(500)))
+                .thenReturn(page("T3", true, false, List.of(), List.of(employee(1, 1), employee(2, 1))));
+        employeeReplica.sync();
+
+        verify(snapshotStore, times(1)).save(any(), anyCollection());
+        verify(snapshotStore).save(eq("T1"), anyCollection());
+    }
+
+    @Test
+    public void testSync_ThrottlesSnapshotWritesAndFlushesOnShutdown() throws Exception {
+        ReflectionTestUtils.setField(employeeReplica, "snapshotInterval", Duration.ofHours(1));
+        when(employeeClient.getEmployeeChanges(isNull(), isNull(), isNull(), eq(500)))
+                .thenReturn(page("T1", true, false, List.of(), List.of(employee(1, 0))));
+        when(employeeClient.getEmployeeChanges(eq("T1"), isNull(), isNull(), eq(500)))
+                .thenReturn(page("T2", false, false, List.of(), List.of(employee(2, 0))));
+        when(employeeClient.getEmployeeChanges(eq("T2"), isNull(), isNull(), eq(500)))
+                .thenReturn(page("T3", false, false, List.of(1L), List.of()));
+
+        employeeReplica.sync();
+        employeeReplica.sync();
+        employeeReplica.sync();
+
+        verify(snapshotStore, times(1)).save(any(), anyCollection());
+        verify(snapshotStore).save(eq("T1"), anyCollection());
+
+        employeeReplica.flush();
+
+        verify(snapshotStore).save(eq("T3"), anyCollection());
+    }
+
+    @Test
+    public void testRestore_ReloadsSavedReplica(@TempDir Path directory) throws Exception {
+        ReplicaSnapshotStore store = new ReplicaSnapshotStore();
+        ReflectionTestUtils.setField(store, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(store, "snapshotFile", directory.resolve("data").resolve("employee-replica.json"));
+        ReflectionTestUtils.setField(employeeReplica, "snapshotStore", store);
+        when(employeeClient.getEmployeeChanges(isNull(), isNull(), isNull(), eq(500)))
+                .thenReturn(page("T1", true, false, List.of(), List.of(employee(1, 2), employee(2, 0))));
+        employeeReplica.sync();
+
+        // A new instance, as after a restart
+        EmployeeReplica restarted = new EmployeeReplica();
+        ReflectionTestUtils.setField(restarted, "snapshotStore", store);
+        restarted.restore();
+
+        List<EmployeeRecord> employees = new ArrayList<>();
+        restarted.forEach(employees::add);
+        employees.sort(Comparator.comparingLong(EmployeeRecord::getId));
+        assertEquals("T1", restarted.getWatermark());
+        assertEquals(List.of(1L, 2L), employees.stream().map(EmployeeRecord::getId).toList());
+        assertEquals(2, employees.get(0).getVersion());
+        assertEquals(1000.0, employees.get(0).getSalary());
+    }
+}
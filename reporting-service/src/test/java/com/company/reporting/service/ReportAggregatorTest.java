@@ -0,0 +1,51 @@
+package com.company.reporting.service;
+
+import com.company.reporting.dto.EmployeeRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReportAggregatorTest {
+
+    private static EmployeeRecord employee(String department, double salary) {
+        EmployeeRecord employee = new EmployeeRecord();
+        employee.setDepartmentName(department);
+        employee.setSalary(salary);
+        return employee;
+    }
+
+    @Test
+    public void testAdd_TotalsOverallAndPerDepartment() {
+        ReportAggregator report = new ReportAggregator();
+
+        report.add(employee("Engineering", 95000));
+        report.add(employee("Engineering", 60000));
+        report.add(employee("Finance", 78000));
+        report.add(employee(null, 40000));
+
+        assertEquals(4, report.getHeadcount());
+        assertEquals(273000, report.getTotalSalary(), 0.001);
+        // Sorted by department name, employees without one under "Unassigned"
+        assertEquals(List.of("Engineering", "Finance", "Unassigned"), List.copyOf(report.getDepartments().keySet()));
+
+        ReportAggregator.DepartmentTotals engineering = report.getDepartments().get("Engineering");
+        assertEquals(2, engineering.getHeadcount());
+        assertEquals(77500, engineering.getAverageSalary(), 0.001);
+        assertEquals(95000, engineering.getMaxSalary(), 0.001);
+
+        ReportAggregator.DepartmentTotals unassigned = report.getDepartments().get("Unassigned");
+        assertEquals(1, unassigned.getHeadcount());
+        assertEquals(40000, unassigned.getMaxSalary(), 0.001);
+    }
+
+    @Test
+    public void testEmptyReport() {
+        ReportAggregator report = new ReportAggregator();
+
+        assertEquals(0, report.getHeadcount());
+        assertEquals(0, report.getTotalSalary());
+        assertTrue(report.getDepartments().isEmpty());
+    }
+}